@@ -0,0 +1,364 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.image.ImagePortObject;
+import org.knime.core.node.web.ValidationError;
+import org.knime.js.core.AbstractImageGenerator;
+import org.knime.js.core.JSONViewContent;
+import org.knime.js.core.node.AbstractImageWizardNodeModel;
+
+/**
+ * Tests rendering multiple images with {@link AbstractImageWizardNodeModel#renderImages}, both in one browser session
+ * and separately for generators without batch support.
+ *
+ * @author agent
+ */
+public class TestImageRendering {
+
+    private TestImageNodeModel m_model;
+
+    private List<Entry<TestContent, TestContent>> m_items;
+
+    private final List<String> m_images = new ArrayList<String>();
+
+    /**
+     * Creates the node model and the items to render.
+     */
+    @Before
+    public void setup() {
+        m_model = new TestImageNodeModel();
+        m_items = Arrays.asList(createItem("a"), createItem("b"), createItem("c"));
+        m_images.clear();
+    }
+
+    private static Entry<TestContent, TestContent> createItem(final String name) {
+        return new SimpleImmutableEntry<TestContent, TestContent>(new TestContent(name), new TestContent(name));
+    }
+
+    private void consume(final int index, final Object image, final String errorText) {
+        assertEquals("Images must be passed in the order of the items", m_images.size(), index);
+        assertNull("Unexpected error rendering image " + index, errorText);
+        m_images.add((String)image);
+    }
+
+    /**
+     * Tests that generators render multiple images only if they declare to support it.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testBatchGenerationUnsupportedByDefault() throws Exception {
+        TestImageGenerator generator = new TestImageGenerator(m_model, false);
+        assertFalse("Generator must not support batch generation by default", generator.supportsBatchGeneration());
+        generator.generateImages(m_items, null, "getImage();", this::consume, null);
+    }
+
+    /**
+     * Tests that all images are rendered by the generator in one go if it supports it.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRenderImagesInBatch() throws Exception {
+        m_model.m_batch = true;
+        TestContent representation = m_model.getViewRepresentation();
+        m_model.renderImages(m_items, this::consume, null);
+        assertEquals("Unexpected images", Arrays.asList("image a", "image b", "image c"), m_images);
+        assertEquals("Batch rendering must use a single generator", 1, m_model.m_generators.size());
+        assertEquals("Batch rendering must not render the view of the node", 0,
+            m_model.m_generators.get(0).m_generatedViews);
+        assertSame("View representation must not change", representation, m_model.getViewRepresentation());
+    }
+
+    /**
+     * Tests that every image is rendered from the node's view if the generator does not support batch generation,
+     * and that the view representation and value of the node are restored afterwards.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRenderImagesSeparately() throws Exception {
+        m_model.m_batch = false;
+        TestContent representation = m_model.getViewRepresentation();
+        TestContent value = m_model.getViewValue();
+        m_model.renderImages(m_items, this::consume, null);
+        assertEquals("Unexpected images", Arrays.asList("image a", "image b", "image c"), m_images);
+        // the first generator is only asked for batch support
+        assertEquals("Unexpected number of generators", m_items.size() + 1, m_model.m_generators.size());
+        for (TestImageGenerator generator : m_model.m_generators.subList(1, m_model.m_generators.size())) {
+            assertEquals("Every generator must render the view once", 1, generator.m_generatedViews);
+            assertTrue("Every generator must be cleaned up", generator.m_cleanedUp);
+        }
+        assertSame("View representation must be restored", representation, m_model.getViewRepresentation());
+        assertSame("View value must be restored", value, m_model.getViewValue());
+    }
+
+    /**
+     * Image generator returning the name of the rendered representation as image.
+     */
+    private static final class TestImageGenerator
+        extends AbstractImageGenerator<TestImageNodeModel, TestContent, TestContent> {
+
+        private final boolean m_batch;
+
+        private int m_generatedViews;
+
+        private String m_image;
+
+        private boolean m_cleanedUp;
+
+        TestImageGenerator(final TestImageNodeModel nodeModel, final boolean batch) {
+            super(nodeModel);
+            m_batch = batch;
+        }
+
+        @Override
+        public void generateView(final Long optionalWait, final ExecutionContext exec) throws Exception {
+            m_generatedViews++;
+            m_image = "image " + getNodeModel().getViewRepresentation().m_name;
+        }
+
+        @Override
+        public Object retrieveImage(final String methodCall) throws Exception {
+            return m_image;
+        }
+
+        @Override
+        public void cleanup() {
+            m_cleanedUp = true;
+        }
+
+        @Override
+        public boolean supportsBatchGeneration() {
+            return m_batch;
+        }
+
+        @Override
+        public void generateImages(final List<? extends Entry<TestContent, TestContent>> items,
+            final Long optionalWait, final String methodCall, final ImageConsumer consumer,
+            final ExecutionContext exec) throws Exception {
+            if (!m_batch) {
+                super.generateImages(items, optionalWait, methodCall, consumer, exec);
+                return;
+            }
+            for (int i = 0; i < items.size(); i++) {
+                consumer.accept(i, "image " + items.get(i).getKey().m_name, null);
+            }
+            cleanup();
+        }
+    }
+
+    /**
+     * Image node model creating {@link TestImageGenerator}s.
+     */
+    private static final class TestImageNodeModel extends AbstractImageWizardNodeModel<TestContent, TestContent> {
+
+        private boolean m_batch;
+
+        private final List<TestImageGenerator> m_generators = new ArrayList<TestImageGenerator>();
+
+        TestImageNodeModel() {
+            super(new PortType[0], new PortType[0], "Test image view");
+            setViewRepresentation(createEmptyViewRepresentation());
+            setViewValue(createEmptyViewValue());
+        }
+
+        @Override
+        protected TestImageGenerator createImageGenerator() {
+            TestImageGenerator generator = new TestImageGenerator(this, m_batch);
+            m_generators.add(generator);
+            return generator;
+        }
+
+        @Override
+        public TestContent createEmptyViewRepresentation() {
+            return new TestContent("empty");
+        }
+
+        @Override
+        public TestContent createEmptyViewValue() {
+            return new TestContent("empty");
+        }
+
+        @Override
+        public String getJavascriptObjectID() {
+            return "org.knime.core.wizard.tests.image";
+        }
+
+        @Override
+        public ValidationError validateViewValue(final TestContent viewContent) {
+            return null;
+        }
+
+        @Override
+        public void saveCurrentValue(final NodeSettingsWO content) {
+            // nothing to do
+        }
+
+        @Override
+        public boolean isHideInWizard() {
+            return false;
+        }
+
+        @Override
+        public void setHideInWizard(final boolean hide) {
+            // nothing to do
+        }
+
+        @Override
+        protected void performExecuteCreateView(final PortObject[] inObjects, final ExecutionContext exec) {
+            // nothing to do
+        }
+
+        @Override
+        protected ImagePortObject createImagePortObjectFromView(final String imageContent, final String errorText) {
+            return null;
+        }
+
+        @Override
+        protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImageFromView,
+            final PortObject[] inObjects, final ExecutionContext exec) {
+            return new PortObject[0];
+        }
+
+        @Override
+        protected boolean generateImage() {
+            return true;
+        }
+
+        @Override
+        protected String getExtractImageMethodName() {
+            return "getImage";
+        }
+
+        @Override
+        protected void performReset() {
+            // nothing to do
+        }
+
+        @Override
+        protected void useCurrentValueAsDefault() {
+            // nothing to do
+        }
+
+        @Override
+        protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) {
+            return new PortObjectSpec[0];
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+            // nothing to do
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) {
+            // nothing to do
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) {
+            // nothing to do
+        }
+    }
+
+    /**
+     * View content only consisting of a name.
+     */
+    private static final class TestContent extends JSONViewContent {
+
+        private final String m_name;
+
+        TestContent(final String name) {
+            m_name = name;
+        }
+
+        @Override
+        public void saveToNodeSettings(final NodeSettingsWO settings) {
+            // not needed
+        }
+
+        @Override
+        public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+            // not needed
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof TestContent && ((TestContent)obj).m_name.equals(m_name);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_name.hashCode();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.js.core.JSONWebNode;
+import org.knime.js.core.JSONWebNodePage;
+import org.knime.testing.node.blocking.BlockingRepository;
+
+/**
+ * Tests that page managers reuse the JSON nodes of unchanged page content and rebuild changed ones.
+ *
+ * @author agent
+ */
+public class TestPageCache extends WorkflowTestCase {
+
+    private static final String LOCK_ID = "lock_node_7";
+
+    private NodeID m_subnodeID;
+
+    /**
+     * Load workflow, setup node ids
+     * @throws Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        BlockingRepository.put(LOCK_ID, new ReentrantLock());
+        NodeID baseID = loadAndSetWorkflow(getWorkflowDirectory("testSubnodeView"));
+        m_subnodeID = new NodeID(baseID, 6);
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        BlockingRepository.remove(LOCK_ID);
+    }
+
+    /**
+     * Tests that creating a page twice without changes reuses all JSON nodes.
+     * @throws Exception
+     */
+    @Test
+    public void testUnchangedNodesAreReused() throws Exception {
+        executeAndWait(m_subnodeID);
+        SinglePageManager spm = SinglePageManager.of(getManager());
+        Map<String, JSONWebNode> first = spm.createWizardPage(m_subnodeID).getWebNodes();
+        Map<String, JSONWebNode> second = spm.createWizardPage(m_subnodeID).getWebNodes();
+        assertEquals("Page should contain three nodes", 3, second.size());
+        for (Map.Entry<String, JSONWebNode> e : first.entrySet()) {
+            assertSame("Node " + e.getKey() + " should be reused", e.getValue(), second.get(e.getKey()));
+        }
+    }
+
+    /**
+     * Tests that re-executing the page rebuilds the JSON nodes.
+     * @throws Exception
+     */
+    @Test
+    public void testReexecutedNodesAreRebuilt() throws Exception {
+        executeAndWait(m_subnodeID);
+        SinglePageManager spm = SinglePageManager.of(getManager());
+        JSONWebNodePage first = spm.createWizardPage(m_subnodeID);
+        getManager().resetAndConfigureNode(m_subnodeID);
+        executeAndWait(m_subnodeID);
+        assertTrue("Subnode should be executed.",
+            getManager().getNodeContainer(m_subnodeID).getNodeContainerState().isExecuted());
+        JSONWebNodePage second = spm.createWizardPage(m_subnodeID);
+        for (Map.Entry<String, JSONWebNode> e : first.getWebNodes().entrySet()) {
+            assertNotSame("Node " + e.getKey() + " should be rebuilt", e.getValue(),
+                second.getWebNodes().get(e.getKey()));
+        }
+    }
+}
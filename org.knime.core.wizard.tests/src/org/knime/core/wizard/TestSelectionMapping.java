@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.js.core.selections.json.JSONSelectionMapping;
+import org.knime.js.core.selections.json.JSONSelectionTranslator;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the compact selection mapping shipped with selection translators.
+ *
+ * @author agent
+ */
+public class TestSelectionMapping {
+
+    private static Map<String, List<String>> createMap() {
+        Map<String, List<String>> map = new LinkedHashMap<String, List<String>>();
+        map.put("Cluster_0", Arrays.asList("Row0", "Row2", "Row5"));
+        map.put("Cluster_1", Arrays.asList("Row1", "Row2"));
+        map.put("Cluster_2", Collections.<String> emptyList());
+        map.put("Cluster_3", Arrays.asList("Row5"));
+        return map;
+    }
+
+    /**
+     * Tests that expanding a compact mapping yields the original mapping.
+     */
+    @Test
+    public void testMapRoundTrip() {
+        Map<String, List<String>> map = createMap();
+        JSONSelectionMapping mapping = JSONSelectionMapping.fromMap(map);
+        assertEquals("Unexpected number of keys", 4, mapping.size());
+        assertEquals("Target keys should only be stored once", 4, mapping.getTargets().length);
+        assertEquals("Expanded mapping differs from original", map, mapping.toMap());
+        assertEquals("Unexpected targets for key", Arrays.asList("Row1", "Row2"), mapping.getTargetsForKey("Cluster_1"));
+        assertTrue("Unknown key should have no targets", mapping.getTargetsForKey("Cluster_4").isEmpty());
+        assertNull("Null mapping should stay null", JSONSelectionMapping.fromMap(null));
+    }
+
+    /**
+     * Tests that a compact mapping survives JSON serialization.
+     * @throws Exception
+     */
+    @Test
+    public void testJSONRoundTrip() throws Exception {
+        JSONSelectionMapping mapping = JSONSelectionMapping.fromMap(createMap());
+        ObjectMapper mapper = new ObjectMapper();
+        String json = mapper.writeValueAsString(mapping);
+        JSONSelectionMapping read = mapper.readValue(json, JSONSelectionMapping.class);
+        assertEquals("Deserialized mapping differs", mapping, read);
+        assertEquals("Hash codes of equal mappings differ", mapping.hashCode(), read.hashCode());
+        assertEquals("Deserialized mapping expands differently", createMap(), read.toMap());
+    }
+
+    /**
+     * Tests that a translator serializes the expanded mapping by default, so page builders which do not know the
+     * compact form keep working, and that the legacy format is converted when read.
+     * @throws Exception
+     */
+    @Test
+    public void testLegacyTranslatorMapping() throws Exception {
+        JSONSelectionTranslator translator = new JSONSelectionTranslator();
+        translator.setSourceID("source");
+        translator.setMapping(createMap());
+        ObjectMapper mapper = new ObjectMapper();
+        // views are deserialized leniently, the forward flag is write-only
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        String json = mapper.writeValueAsString(translator);
+        assertTrue("Expanded mapping should be serialized", json.contains("\"mapping\""));
+        assertTrue("Compact mapping should not be serialized", !json.contains("\"compactMapping\""));
+        JSONSelectionTranslator read = mapper.readValue(json, JSONSelectionTranslator.class);
+        assertEquals("Deserialized translator differs", translator, read);
+        assertEquals("Deserialized translator expands differently", createMap(), read.getMapping());
+
+        String legacyJSON = "{\"sourceID\":\"source\",\"mapping\":{\"Cluster_0\":[\"Row0\",\"Row2\",\"Row5\"]}}";
+        JSONSelectionTranslator legacy = mapper.readValue(legacyJSON, JSONSelectionTranslator.class);
+        assertEquals("Legacy mapping not converted", Arrays.asList("Row0", "Row2", "Row5"),
+            legacy.getCompactMapping().getTargetsForKey("Cluster_0"));
+    }
+
+    /**
+     * Tests that a translator ships only the compact mapping once requested.
+     * @throws Exception
+     */
+    @Test
+    public void testCompactTranslatorMapping() throws Exception {
+        JSONSelectionTranslator translator = new JSONSelectionTranslator();
+        translator.setSourceID("source");
+        translator.setMapping(createMap());
+        translator.setSerializeCompactMapping(true);
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        String json = mapper.writeValueAsString(translator);
+        assertTrue("Compact mapping should be serialized", json.contains("\"compactMapping\""));
+        assertTrue("Expanded mapping should not be serialized", !json.contains("\"mapping\""));
+        JSONSelectionTranslator read = mapper.readValue(json, JSONSelectionTranslator.class);
+        assertEquals("Deserialized translator differs", translator, read);
+        assertEquals("Deserialized translator expands differently", createMap(), read.getMapping());
+    }
+
+    /**
+     * Tests equality of mappings whose targets were interned in a different order.
+     */
+    @Test
+    public void testEquality() {
+        JSONSelectionMapping mapping = JSONSelectionMapping.fromMap(createMap());
+        JSONSelectionMapping reordered = JSONSelectionMapping.fromMap(createMap());
+        String[] targets = reordered.getTargets().clone();
+        int[] indices = reordered.getIndices().clone();
+        // reverse the interned target order, the expanded mapping stays the same
+        String[] reversedTargets = new String[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            reversedTargets[targets.length - 1 - i] = targets[i];
+        }
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = targets.length - 1 - indices[i];
+        }
+        reordered.setTargets(reversedTargets);
+        reordered.setIndices(indices);
+        assertEquals("Expanded mappings should be equal", mapping.toMap(), reordered.toMap());
+        assertEquals("Mappings with different target order should be equal", mapping, reordered);
+        assertEquals("Hash codes of equal mappings differ", mapping.hashCode(), reordered.hashCode());
+
+        Map<String, List<String>> changed = createMap();
+        changed.put("Cluster_3", Arrays.asList("Row4"));
+        assertNotEquals("Different mappings should not be equal", mapping, JSONSelectionMapping.fromMap(changed));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONDataTableSpec;
+import org.knime.js.core.JSONDataTableSpec.JSTypes;
+
+/**
+ * Tests omitting the row independent spec content of table fragments whose spec version is known to the client.
+ *
+ * @author agent
+ */
+public class TestSpecVersion {
+
+    private static JSONDataTableSpec createSpec(final int numRows, final String... colNames) {
+        JSONDataTableSpec spec = new JSONDataTableSpec();
+        JSTypes[] types = new JSTypes[colNames.length];
+        String[] knimeTypes = new String[colNames.length];
+        String[] rowColors = new String[numRows];
+        for (int i = 0; i < colNames.length; i++) {
+            types[i] = JSTypes.STRING;
+            knimeTypes[i] = "String";
+        }
+        for (int i = 0; i < numRows; i++) {
+            rowColors[i] = "#404040";
+        }
+        spec.setNumColumns(colNames.length);
+        spec.setColNames(colNames);
+        spec.setColTypes(types);
+        spec.setKnimeTypes(knimeTypes);
+        spec.setNumRows(numRows);
+        spec.setRowColorValues(rowColors);
+        return spec;
+    }
+
+    private static JSONDataTable createTable(final JSONDataTableSpec spec) {
+        JSONDataTable table = new JSONDataTable();
+        table.setSpec(spec);
+        return table;
+    }
+
+    /**
+     * Tests that tables are only stamped with a spec version once spec omission is requested.
+     */
+    @Test
+    public void testVersionOnlyOnRequest() {
+        JSONDataTable table = createTable(createSpec(10, "A", "B"));
+        assertNull("Version should not be computed unless requested", table.getSpecVersion());
+        assertFalse("Spec should not be omitted without known version", table.omitSpecIfKnown(null));
+        assertNotNull("Table should be stamped with its spec version", table.getSpecVersion());
+        assertFalse(table.isSpecOmitted());
+        assertArrayEquals("Spec should be kept", new String[]{"A", "B"}, table.getSpec().getColNames());
+    }
+
+    /**
+     * Tests that fragments of the same table share their version and that a known version reduces the spec.
+     */
+    @Test
+    public void testOmitKnownSpec() {
+        JSONDataTable first = createTable(createSpec(10, "A", "B"));
+        first.omitSpecIfKnown(null);
+        JSONDataTable second = createTable(createSpec(5, "A", "B"));
+        assertTrue("Spec with known version should be omitted", second.omitSpecIfKnown(first.getSpecVersion()));
+        assertEquals("Fragments should share their spec version", first.getSpecVersion(), second.getSpecVersion());
+        assertTrue(second.isSpecOmitted());
+        JSONDataTableSpec rowSpec = second.getSpec();
+        assertEquals("Row count should be kept", 5, rowSpec.getNumRows());
+        assertEquals("Row colors should be kept", 5, rowSpec.getRowColorValues().length);
+        assertEquals("Column names should be omitted", 0, rowSpec.getColNames().length);
+    }
+
+    /**
+     * Tests that an unknown version keeps the full spec.
+     */
+    @Test
+    public void testUnknownVersionKeepsSpec() {
+        JSONDataTable table = createTable(createSpec(10, "A", "B"));
+        assertFalse("Spec should not be omitted for unknown version", table.omitSpecIfKnown("unknown"));
+        assertFalse(table.isSpecOmitted());
+        assertArrayEquals("Spec should be kept", new String[]{"A", "B"}, table.getSpec().getColNames());
+    }
+
+    /**
+     * Tests that replacing the spec invalidates a previously stamped version.
+     */
+    @Test
+    public void testSetSpecResetsVersion() {
+        JSONDataTable table = createTable(createSpec(10, "A", "B"));
+        table.omitSpecIfKnown(null);
+        String version = table.getSpecVersion();
+        table.setSpec(createSpec(10, "A", "C"));
+        assertNull("Replaced spec should reset the version", table.getSpecVersion());
+        assertFalse("Spec of other version should not be omitted", table.omitSpecIfKnown(version));
+        assertNotEquals("Different columns should result in a different version", version,
+            table.getSpecVersion());
+    }
+}
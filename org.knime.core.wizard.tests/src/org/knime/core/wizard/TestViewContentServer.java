@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+import org.knime.js.core.ViewContentServer;
+
+/**
+ * Tests which paths the {@link ViewContentServer} serves and that it requires the secret of its URLs.
+ *
+ * @author agent
+ */
+public class TestViewContentServer {
+
+    private ViewContentServer m_server;
+
+    private Path m_dir;
+
+    private Path m_root;
+
+    /**
+     * Starts the server and creates a view container with a file inside and a file next to it.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_server = ViewContentServer.getInstance();
+        m_dir = Files.createTempDirectory("view-content-server");
+        m_root = Files.createDirectory(m_dir.resolve("container"));
+        Files.write(m_root.resolve("index.html"), "<html></html>".getBytes(StandardCharsets.UTF_8));
+        Files.write(m_dir.resolve("outside.txt"), "secret".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes the temporary files.
+     *
+     * @throws Exception if an error occurs
+     */
+    @After
+    public void tearDown() throws Exception {
+        FileUtil.deleteRecursively(m_dir.toFile());
+    }
+
+    /**
+     * Tests that files below a registered root are served.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testServesFileBelowRoot() throws Exception {
+        String url = m_server.getResourceURL(m_root, m_root.resolve("index.html"));
+        assertEquals("Unexpected status for file below root", 200, getStatus(URI.create(url).getRawPath()));
+    }
+
+    /**
+     * Tests that files outside of a registered root cannot be reached, neither by plain nor by encoded dot segments.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRejectsPathTraversal() throws Exception {
+        String path = URI.create(m_server.getResourceURL(m_root, m_root.resolve("index.html"))).getRawPath();
+        String rootPath = path.substring(0, path.length() - "index.html".length());
+        assertEquals("File outside of root must not be served", 404, getStatus(rootPath + "../outside.txt"));
+        assertEquals("File outside of root must not be served", 404, getStatus(rootPath + "%2e%2e/outside.txt"));
+        assertEquals("File outside of root must not be served", 404,
+            getStatus(rootPath + "..%2foutside.txt"));
+        assertEquals("Unregistered root must not be served", 404,
+            getStatus(rootPath.replaceFirst("/r/\\d+/", "/r/" + Integer.MAX_VALUE + "/") + "index.html"));
+    }
+
+    /**
+     * Tests that neither files nor contents are served without the correct secret.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRequiresSecret() throws Exception {
+        String filePath = URI.create(m_server.getResourceURL(m_root, m_root.resolve("index.html"))).getRawPath();
+        String contentURL = m_server.registerContent("{}", "application/json");
+        try {
+            String contentPath = URI.create(contentURL).getRawPath();
+            String secret = filePath.split("/")[1];
+            assertEquals("Unexpected secret length", 32, secret.length());
+            assertEquals("Unexpected status with secret", 200, getStatus(contentPath));
+            String otherSecret = secret.substring(1) + (secret.charAt(0) == '0' ? '1' : '0');
+            assertEquals("File must not be served with a wrong secret", 404,
+                getStatus(filePath.replace(secret, otherSecret)));
+            assertEquals("Content must not be served with a wrong secret", 404,
+                getStatus(contentPath.replace(secret, otherSecret)));
+            assertEquals("File must not be served without secret", 404,
+                getStatus(filePath.substring(secret.length() + 1)));
+        } finally {
+            m_server.unregisterContent(contentURL);
+        }
+    }
+
+    /**
+     * Tests that contents are served until they are unregistered and that only GET and HEAD are allowed.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testContentLifetime() throws Exception {
+        String path = URI.create(m_server.registerContent("{\"a\":1}", "application/json")).getRawPath();
+        assertEquals("Unexpected status for registered content", 200, getStatus(path));
+        assertEquals("Content must be served repeatedly", 200, getStatus(path));
+        assertEquals("Only GET and HEAD must be allowed", 405, getStatus("POST", path));
+        m_server.unregisterContent("http://127.0.0.1:" + m_server.getPort() + path);
+        assertEquals("Unregistered content must not be served", 404, getStatus(path));
+    }
+
+    /**
+     * Tests that content registered for an owner can be requested repeatedly, e.g. after a reload of the page.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testOwnedContentServedRepeatedly() throws Exception {
+        Object owner = new Object();
+        String url = m_server.registerContent(owner, "{\"a\":1}", "application/json");
+        String path = URI.create(url).getRawPath();
+        assertEquals("Unexpected status for owned content", 200, getStatus(path));
+        assertEquals("Owned content must be served again", 200, getStatus(path));
+        m_server.unregisterContent(url);
+        assertEquals("Unregistered content must not be served", 404, getStatus(path));
+    }
+
+    private int getStatus(final String path) throws IOException {
+        return getStatus("GET", path);
+    }
+
+    /* raw requests, so paths reach the server exactly as given */
+    private int getStatus(final String method, final String path) throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", m_server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write((method + " " + path + " HTTP/1.1\r\nHost: 127.0.0.1\r\nConnection: close\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in =
+                new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String statusLine = in.readLine();
+            assertTrue("No response for " + path, statusLine != null && statusLine.startsWith("HTTP/1."));
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+}
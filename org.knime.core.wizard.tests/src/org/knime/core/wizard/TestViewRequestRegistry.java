@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.interactive.ViewResponseMonitor;
+import org.knime.core.node.wizard.WizardViewResponse;
+import org.knime.core.node.workflow.NodeID;
+
+/**
+ * Tests eviction of view request jobs from the {@link ViewRequestRegistry} after their time to live and once their
+ * workflow or page is closed.
+ *
+ * @author agent
+ */
+public class TestViewRequestRegistry {
+
+    private ViewRequestRegistry m_registry;
+
+    /**
+     * A view request job with settable state.
+     */
+    private static final class TestJob {
+
+        private final AtomicBoolean m_cancelled = new AtomicBoolean();
+
+        private final AtomicBoolean m_finished = new AtomicBoolean();
+
+        private final ViewResponseMonitor<WizardViewResponse> m_monitor;
+
+        @SuppressWarnings("unchecked")
+        private TestJob(final String id) {
+            m_monitor = (ViewResponseMonitor<WizardViewResponse>)Proxy.newProxyInstance(
+                TestJob.class.getClassLoader(), new Class<?>[]{ViewResponseMonitor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getId":
+                            return id;
+                        case "cancel":
+                            m_cancelled.set(true);
+                            return null;
+                        case "isCancelled":
+                            return m_cancelled.get();
+                        case "isExecutionFinished":
+                        case "isResponseAvailable":
+                            return m_finished.get();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return id;
+                        default:
+                            return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                    }
+                });
+        }
+    }
+
+    /**
+     * Creates a fresh registry.
+     */
+    @Before
+    public void setUp() {
+        if (ViewRequestRegistry.isRunning()) {
+            ViewRequestRegistry.getInstance().teardown();
+        }
+        m_registry = ViewRequestRegistry.getInstance();
+    }
+
+    /**
+     * Tears the registry down again.
+     */
+    @After
+    public void tearDown() {
+        m_registry.teardown();
+    }
+
+    /**
+     * Tests that a job without any activity is evicted and cancelled once its time to live has passed.
+     */
+    @Test
+    public void testExpiredJobIsEvicted() {
+        TestJob job = new TestJob("expired");
+        long registered = System.currentTimeMillis();
+        m_registry.addOrUpdateJob(job.m_monitor);
+        m_registry.evictExpiredJobs(registered - 1 + ViewRequestRegistry.TTL_MILLIS);
+        assertTrue("Job should be kept within its time to live", m_registry.isJobRegistered("expired"));
+        m_registry.evictExpiredJobs(System.currentTimeMillis() + ViewRequestRegistry.TTL_MILLIS + 1);
+        assertFalse("Expired job should be evicted", m_registry.isJobRegistered("expired"));
+        assertTrue("Expired job should be cancelled", job.m_cancelled.get());
+        assertEquals("Eviction should be counted", 1, m_registry.getNumberOfEvictedJobs());
+    }
+
+    /**
+     * Tests that a change of a job's state counts as activity, i.e. a job whose response became available is kept
+     * for the time to live from then on, not from the time it was last polled.
+     */
+    @Test
+    public void testStateChangeDefersExpiry() {
+        TestJob job = new TestJob("finished");
+        m_registry.addOrUpdateJob(job.m_monitor);
+        long finished = System.currentTimeMillis() + ViewRequestRegistry.TTL_MILLIS + 1;
+        job.m_finished.set(true);
+        m_registry.evictExpiredJobs(finished);
+        assertTrue("Job should be kept after its state changed", m_registry.isJobRegistered("finished"));
+        m_registry.evictExpiredJobs(finished + ViewRequestRegistry.TTL_MILLIS);
+        assertTrue("Job should be kept within its time to live", m_registry.isJobRegistered("finished"));
+        m_registry.evictExpiredJobs(finished + ViewRequestRegistry.TTL_MILLIS + 1);
+        assertFalse("Job should be evicted after its time to live", m_registry.isJobRegistered("finished"));
+        assertFalse("Finished job should not be cancelled", job.m_cancelled.get());
+    }
+
+    /**
+     * Tests that the jobs of a workflow and of its nodes are removed and cancelled once the workflow is removed,
+     * while jobs of other workflows are kept.
+     */
+    @Test
+    public void testJobsOfRemovedWorkflowAreRemoved() {
+        NodeID workflowID = new NodeID(NodeID.ROOTID, 9001);
+        NodeID otherWorkflowID = new NodeID(NodeID.ROOTID, 9002);
+        TestJob workflowJob = new TestJob("workflow");
+        TestJob nodeJob = new TestJob("node");
+        TestJob otherJob = new TestJob("other");
+        m_registry.addOrUpdateJob(workflowJob.m_monitor, workflowID);
+        m_registry.addOrUpdateJob(nodeJob.m_monitor, new NodeID(new NodeID(workflowID, 3), 1));
+        m_registry.addOrUpdateJob(otherJob.m_monitor, otherWorkflowID);
+        assertEquals("Jobs of the workflow should be removed", 2, m_registry.removeJobsOfWorkflow(workflowID));
+        assertFalse("Job of the workflow should be removed", m_registry.isJobRegistered("workflow"));
+        assertFalse("Job of a node of the workflow should be removed", m_registry.isJobRegistered("node"));
+        assertTrue("Job of the workflow should be cancelled", workflowJob.m_cancelled.get());
+        assertTrue("Job of a node of the workflow should be cancelled", nodeJob.m_cancelled.get());
+        assertTrue("Job of another workflow should be kept", m_registry.isJobRegistered("other"));
+        assertFalse("Job of another workflow should keep running", otherJob.m_cancelled.get());
+    }
+
+    /**
+     * Tests that the jobs of nodes of closed pages are removed and cancelled, while jobs of the current page are kept.
+     */
+    @Test
+    public void testJobsOfClosedPagesAreRemoved() {
+        NodeID workflowID = new NodeID(NodeID.ROOTID, 9003);
+        NodeID closedPageID = new NodeID(workflowID, 3);
+        NodeID currentPageID = new NodeID(workflowID, 4);
+        TestJob closedJob = new TestJob("closed");
+        TestJob currentJob = new TestJob("current");
+        m_registry.addOrUpdateJob(closedJob.m_monitor, new NodeID(new NodeID(closedPageID, 0), 2));
+        m_registry.addOrUpdateJob(currentJob.m_monitor, new NodeID(new NodeID(currentPageID, 0), 2));
+        assertEquals("Job of the closed page should be removed", 1,
+            m_registry.removeJobsOfClosedPages(workflowID, currentPageID));
+        assertFalse("Job of the closed page should be removed", m_registry.isJobRegistered("closed"));
+        assertTrue("Job of the closed page should be cancelled", closedJob.m_cancelled.get());
+        assertTrue("Job of the current page should be kept", m_registry.isJobRegistered("current"));
+    }
+}
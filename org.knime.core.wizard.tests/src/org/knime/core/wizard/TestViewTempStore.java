@@ -0,0 +1,166 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+import org.knime.js.core.ViewTempStore;
+
+/**
+ * Tests that the {@link ViewTempStore} enforces its quota on unreferenced entries only.
+ *
+ * @author agent
+ */
+public class TestViewTempStore {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final Object m_owner = new Object();
+
+    private ViewTempStore m_store;
+
+    private long m_originalQuota;
+
+    private File m_dir;
+
+    /**
+     * Creates a directory for the temporary files of the test.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_store = ViewTempStore.getInstance();
+        m_originalQuota = m_store.getQuota();
+        m_dir = Files.createTempDirectory("view-temp-store").toFile();
+    }
+
+    /**
+     * Restores the quota and deletes the files of the test.
+     *
+     * @throws Exception if an error occurs
+     */
+    @After
+    public void tearDown() throws Exception {
+        m_store.setQuota(m_originalQuota);
+        m_store.deleteAll(m_owner);
+        FileUtil.deleteRecursively(m_dir);
+    }
+
+    /**
+     * Tests that exceeding the quota deletes released entries, but keeps referenced ones.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testQuotaEvictsUnreferencedEntries() throws Exception {
+        File released = createFile("released", 4096);
+        File referenced = createFile("referenced", 4096);
+        m_store.release(released);
+        long evictions = m_store.getEvictionCount();
+
+        m_store.setQuota(0);
+        assertTrue("Released file not deleted after exceeding the quota", waitForDeletion(released));
+        assertTrue("Referenced file must not be deleted because of the quota", referenced.exists());
+        assertTrue("Eviction not counted", m_store.getEvictionCount() > evictions);
+        assertFalse("Deleted file must not be retained", m_store.retain(released));
+        assertTrue("Referenced file must still be managed", m_store.retain(referenced));
+    }
+
+    /**
+     * Tests that released entries stay on disk as long as the quota is not exceeded.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testReleasedEntriesKeptBelowQuota() throws Exception {
+        m_store.setQuota(Long.MAX_VALUE);
+        File released = createFile("released", 4096);
+        m_store.release(released);
+        assertTrue("Usage of the file not tracked", m_store.getDiskUsage() >= 4096);
+        // the quota is only enforced by a sweep, an exceeded quota would have scheduled one already
+        Thread.sleep(500);
+        assertTrue("Released file must be kept below the quota", released.exists());
+        assertTrue("Released file can be referenced again", m_store.retain(released));
+    }
+
+    /**
+     * Tests that a negative quota is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeQuota() {
+        m_store.setQuota(-1);
+    }
+
+    private File createFile(final String prefix, final int size) throws Exception {
+        File file = m_store.createTempFile(m_owner, prefix, ".tmp", m_dir);
+        Files.write(file.toPath(), new byte[size]);
+        m_store.touch(file);
+        assertEquals("Unexpected file size", size, file.length());
+        return file;
+    }
+
+    private static boolean waitForDeletion(final File file) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (file.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        return !file.exists();
+    }
+}
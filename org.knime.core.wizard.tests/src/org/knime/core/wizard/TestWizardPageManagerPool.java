@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.core.wizard;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.testing.node.blocking.BlockingRepository;
+
+/**
+ * Tests pooling of {@link WizardPageManager} instances and their eviction once a workflow or a component is removed.
+ *
+ * @author agent
+ */
+public class TestWizardPageManagerPool extends WorkflowTestCase {
+
+    private static final String LOCK_ID = "lock_node_7";
+
+    private NodeID m_subnodeID;
+
+    /**
+     * Load workflow, setup node ids
+     * @throws Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        BlockingRepository.put(LOCK_ID, new ReentrantLock());
+        NodeID baseID = loadAndSetWorkflow(getWorkflowDirectory("testSubnodeView"));
+        m_subnodeID = new NodeID(baseID, 6);
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        BlockingRepository.remove(LOCK_ID);
+    }
+
+    /**
+     * Tests that one manager is handed out per workflow manager.
+     */
+    @Test
+    public void testManagerIsPooled() {
+        WizardPageManager wpm = WizardPageManager.of(getManager());
+        assertSame("Manager should be reused", wpm, WizardPageManager.of(getManager()));
+        assertTrue("Manager should be pooled", WizardPageManager.isPooled(getManager()));
+    }
+
+    /**
+     * Tests that the manager of a workflow is evicted once the workflow is closed.
+     * @throws Exception
+     */
+    @Test
+    public void testEvictedWhenWorkflowClosed() throws Exception {
+        WorkflowManager wfm = getManager();
+        WizardPageManager.of(wfm);
+        closeWorkflow();
+        assertFalse("Manager of closed workflow should be evicted", WizardPageManager.isPooled(wfm));
+    }
+
+    /**
+     * Tests that the manager of a component's workflow is evicted once the component is removed, while the manager of
+     * the surrounding workflow stays pooled.
+     */
+    @Test
+    public void testEvictedWhenComponentRemoved() {
+        WorkflowManager inner =
+            getManager().getNodeContainer(m_subnodeID, SubNodeContainer.class, true).getWorkflowManager();
+        WizardPageManager outerManager = WizardPageManager.of(getManager());
+        assertNotSame("Managers should be pooled per workflow manager", outerManager, WizardPageManager.of(inner));
+        getManager().removeNode(m_subnodeID);
+        assertFalse("Manager of removed component should be evicted", WizardPageManager.isPooled(inner));
+        assertTrue("Manager of workflow should stay pooled", WizardPageManager.isPooled(getManager()));
+    }
+}
@@ -48,43 +48,68 @@
  */
 package org.knime.core.wizard;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.property.hilite.HiLiteManager;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.web.ValidationError;
-import org.knime.core.node.web.WebResourceLocator;
 import org.knime.core.node.web.WebResourceLocator.WebResourceType;
-import org.knime.core.node.web.WebTemplate;
 import org.knime.core.node.web.WebViewContent;
 import org.knime.core.node.wizard.CSSModifiable;
 import org.knime.core.node.wizard.WizardNode;
+import org.knime.core.node.wizard.WizardViewRequest;
+import org.knime.core.node.wizard.WizardViewRequestHandler;
+import org.knime.core.node.wizard.WizardViewResponse;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeContainerState;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.NodeID.NodeIDSuffix;
 import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.NodeStateChangeListener;
 import org.knime.core.node.workflow.SubNodeContainer;
-import org.knime.core.node.workflow.WebResourceController;
 import org.knime.core.node.workflow.WebResourceController.WizardPageContent;
 import org.knime.core.node.workflow.WebResourceController.WizardPageContent.WizardPageNodeInfo;
 import org.knime.core.node.workflow.WorkflowLock;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.ThreadUtils;
 import org.knime.js.core.JSONViewContent;
 import org.knime.js.core.JSONWebNode;
 import org.knime.js.core.JSONWebNodeInfo;
 import org.knime.js.core.JSONWebNodeInfo.JSONNodeState;
 import org.knime.js.core.JSONWebNodePage;
 import org.knime.js.core.JSONWebNodePageConfiguration;
+import org.knime.js.core.WebResourceBundler;
+import org.knime.js.core.WebTemplateCache;
+import org.knime.js.core.WebTemplateCache.CachedWebTemplate;
 import org.knime.js.core.layout.bs.JSONLayoutColumn;
 import org.knime.js.core.layout.bs.JSONLayoutContent;
 import org.knime.js.core.layout.bs.JSONLayoutPage;
@@ -106,8 +131,26 @@ public abstract class AbstractPageManager {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(AbstractPageManager.class);
 
+    /* maximum number of threads used to retrieve view representations of a page concurrently */
+    private static final int ASSEMBLY_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /* maximum time in seconds to wait for a single view representation, configurable via system property */
+    private static final long REPRESENTATION_TIMEOUT_SECONDS = Long.getLong("knime.wizard.representationTimeout", 300);
+
+    private static final ExecutorService ASSEMBLY_EXECUTOR = createAssemblyExecutor();
+
+    /* maximum number of pages per manager whose nodes and layout are cached, configurable via system property */
+    private static final int PAGE_CACHE_SIZE = Integer.getInteger("knime.wizard.pageCacheSize", 4);
+
     private final WorkflowManager m_wfm;
 
+    /* per page (container node), the JSON nodes of the last created page and the versions they were created for;
+     * the cached nodes reference view representations and values, so only the most recently used pages are kept */
+    private final Map<NodeIDSuffix, Map<NodeIDSuffix, CachedWebNode>> m_pageCache = createPageCache();
+
+    /* per page (container node), the last layout info string and the layout with resolved node ids created from it */
+    private final Map<NodeIDSuffix, CompiledLayout> m_layoutCache = createPageCache();
+
     /**
      * Creates a new page manager
      *
@@ -131,6 +174,28 @@ public final WorkflowManager getWorkflowManager() {
      * @throws IOException if layout of page can not be generated
      */
     protected JSONWebNodePage createWizardPageInternal(final WizardPageContent page) throws IOException {
+        try {
+            return createWizardPageInternal(page, null);
+        } catch (CanceledExecutionException ex) {
+            // can not happen without a monitor
+            throw new IOException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Performs a transformation from {@link WizardPageContent} to {@link JSONWebNodePage} which can be used for
+     * serialization. The view representations of the contained nodes are retrieved concurrently unless the calling
+     * thread holds the workflow lock, progress is reported per node to the given monitor.
+     *
+     * @param page the {@link WizardPageContent} to transform
+     * @param exec an optional monitor to report progress to and check for cancellation, may be null
+     * @return the transformed {@link JSONWebNodePage}
+     * @throws IOException if layout of page can not be generated
+     * @throws CanceledExecutionException if the monitor was canceled, pending retrievals are canceled as well
+     * @since 4.2
+     */
+    protected JSONWebNodePage createWizardPageInternal(final WizardPageContent page, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
         // process layout
         JSONLayoutPage layout = new JSONLayoutPage();
         try {
@@ -147,7 +212,10 @@ protected JSONWebNodePage createWizardPageInternal(final WizardPageContent page)
         if (page.getHiLiteTranslators() != null) {
             for (HiLiteTranslator hiLiteTranslator : page.getHiLiteTranslators()) {
                 if (hiLiteTranslator != null) {
-                    selectionTranslators.add(new JSONSelectionTranslator(hiLiteTranslator));
+                    JSONSelectionTranslator translator = new JSONSelectionTranslator(hiLiteTranslator);
+                    // only the page builder of the view container understands the compact mapping
+                    translator.setSerializeCompactMapping(isServedFromViewContainer());
+                    selectionTranslators.add(translator);
                 }
             }
         }
@@ -163,75 +231,342 @@ protected JSONWebNodePage createWizardPageInternal(final WizardPageContent page)
         }
         JSONWebNodePageConfiguration pageConfig = new JSONWebNodePageConfiguration(layout, null, selectionTranslators);
         Map<String, JSONWebNode> nodes = new HashMap<String, JSONWebNode>();
+        NodeIDSuffix pageID = page.getPageNodeID();
+        Map<NodeIDSuffix, CachedWebNode> cachedNodes = null;
+        if (pageID != null) {
+            cachedNodes = m_pageCache.get(pageID);
+        }
+        Map<NodeIDSuffix, CachedWebNode> updatedNodes = new HashMap<NodeIDSuffix, CachedWebNode>();
+        Map<NodeIDSuffix, WizardNode<?, ?>> wizardNodes = new LinkedHashMap<NodeIDSuffix, WizardNode<?, ?>>();
+        for (NodeIDSuffix id : page.getInfoMap().keySet()) {
+            WizardNode<?, ?> wizardNode = page.getPageMap().get(id);
+            if (wizardNode != null) {
+                wizardNodes.put(id, wizardNode);
+            }
+        }
+        Map<NodeIDSuffix, Object> representations = retrieveViewRepresentations(wizardNodes, exec);
         for (Map.Entry<NodeIDSuffix, WizardPageNodeInfo> e : page.getInfoMap().entrySet()) {
             WizardPageNodeInfo pInfo = e.getValue();
-            JSONWebNode jsonNode = new JSONWebNode();
-            JSONWebNodeInfo info = new JSONWebNodeInfo();
-            info.setNodeName(pInfo.getNodeName());
-            info.setNodeAnnotation(pInfo.getNodeAnnotation());
-            NodeContainerState state = pInfo.getNodeState();
-            if (state.isIdle()) {
-                info.setNodeState(JSONNodeState.IDLE);
+            WizardNode<?, ?> wizardNode = wizardNodes.get(e.getKey());
+            if (wizardNode != null && !representations.containsKey(e.getKey())) {
+                // representation not available (failed or timed out), create a node which is not displayable
+                JSONWebNode jsonNode = createJSONWebNode(pInfo, null, null, false);
+                jsonNode.getNodeInfo().setNodeErrorMessage("View representation could not be created.");
+                nodes.put(e.getKey().toString(), jsonNode);
+                continue;
             }
-            if (state.isConfigured()) {
-                info.setNodeState(JSONNodeState.CONFIGURED);
+            Object representation = representations.get(e.getKey());
+            WebNodeVersion version = new WebNodeVersion(pInfo, wizardNode, representation);
+            CachedWebNode cached = cachedNodes == null ? null : cachedNodes.get(e.getKey());
+            JSONWebNode jsonNode;
+            if (cached != null && cached.m_version.equals(version)) {
+                // neither node state nor view content changed, reuse the previously created node
+                jsonNode = cached.m_node;
+            } else {
+                jsonNode = createJSONWebNode(pInfo, wizardNode, representation, isServedFromViewContainer());
             }
-            if (state.isExecutionInProgress() || state.isExecutingRemotely()) {
-                info.setNodeState(JSONNodeState.EXECUTING);
+            updatedNodes.put(e.getKey(), new CachedWebNode(version, jsonNode));
+            nodes.put(e.getKey().toString(), jsonNode);
+        }
+        if (pageID != null) {
+            // replacing the whole map also drops nodes which are no longer part of the page
+            m_pageCache.put(pageID, updatedNodes);
+        }
+        return new JSONWebNodePage(pageConfig, nodes);
+    }
+
+    /**
+     * Retrieves the view representations of all given (non-null) wizard nodes. Representations may be created lazily
+     * and expensively (e.g. tables), so with more than one node the retrieval is fanned out to a bounded executor. All
+     * retrievals share one deadline of {@link #REPRESENTATION_TIMEOUT_SECONDS}, retrievals still running at the
+     * deadline are canceled. Nodes whose representation failed or timed out are logged and missing from the result,
+     * independent of the number of nodes.
+     * <p>
+     * If the calling thread holds the workflow lock, the representations are retrieved sequentially on the calling
+     * thread instead. Node models may acquire the workflow lock while creating their representation, which would block
+     * a pool thread until the deadline while the caller waits for it.
+     */
+    private Map<NodeIDSuffix, Object> retrieveViewRepresentations(
+        final Map<NodeIDSuffix, WizardNode<?, ?>> wizardNodes, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        Map<NodeIDSuffix, Object> result = new HashMap<NodeIDSuffix, Object>();
+        if (wizardNodes.size() < 2 || m_wfm.isLockedByCurrentThread()) {
+            int done = 0;
+            for (Map.Entry<NodeIDSuffix, WizardNode<?, ?>> e : wizardNodes.entrySet()) {
+                if (exec != null) {
+                    exec.checkCanceled();
+                }
+                try {
+                    result.put(e.getKey(), e.getValue().getViewRepresentation());
+                } catch (RuntimeException ex) {
+                    logRetrievalFailure(e.getKey(), ex);
+                }
+                done++;
+                if (exec != null) {
+                    exec.setProgress(done / (double)wizardNodes.size(),
+                        "Retrieved view " + done + " of " + wizardNodes.size() + " (node " + e.getKey() + ")");
+                }
             }
-            if (state.isExecuted()) {
-                info.setNodeState(JSONNodeState.EXECUTED);
+            return result;
+        }
+        Map<NodeIDSuffix, Future<Object>> futures = new LinkedHashMap<NodeIDSuffix, Future<Object>>();
+        for (Map.Entry<NodeIDSuffix, WizardNode<?, ?>> e : wizardNodes.entrySet()) {
+            WizardNode<?, ?> wizardNode = e.getValue();
+            Callable<Object> retrieval = () -> wizardNode.getViewRepresentation();
+            futures.put(e.getKey(), ASSEMBLY_EXECUTOR.submit(ThreadUtils.callableWithContext(retrieval)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(REPRESENTATION_TIMEOUT_SECONDS);
+        int done = 0;
+        try {
+            for (Map.Entry<NodeIDSuffix, Future<Object>> e : futures.entrySet()) {
+                try {
+                    result.put(e.getKey(), awaitRepresentation(e.getValue(), deadline, exec));
+                } catch (TimeoutException ex) {
+                    // frees the pool thread, unless the node ignores interrupts
+                    e.getValue().cancel(true);
+                    LOGGER.warn("View representation of node " + e.getKey() + " could not be retrieved within "
+                        + REPRESENTATION_TIMEOUT_SECONDS + " seconds.");
+                } catch (ExecutionException ex) {
+                    logRetrievalFailure(e.getKey(), ex.getCause());
+                }
+                done++;
+                if (exec != null) {
+                    exec.setProgress(done / (double)futures.size(),
+                        "Retrieved view " + done + " of " + futures.size() + " (node " + e.getKey() + ")");
+                }
             }
-            NodeMessage message = pInfo.getNodeMessage();
-            if (org.knime.core.node.workflow.NodeMessage.Type.ERROR.equals(message.getMessageType())) {
-                info.setNodeErrorMessage(message.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(f -> f.cancel(true));
+            throw new CanceledExecutionException("Retrieving the view representations was interrupted.");
+        } catch (CanceledExecutionException ex) {
+            futures.values().forEach(f -> f.cancel(true));
+            throw ex;
+        }
+        return result;
+    }
+
+    /* waits for a retrieval until the deadline, checking the monitor for cancellation every second */
+    private static Object awaitRepresentation(final Future<Object> future, final long deadline,
+        final ExecutionMonitor exec)
+        throws InterruptedException, ExecutionException, TimeoutException, CanceledExecutionException {
+        long pollInterval = TimeUnit.SECONDS.toNanos(1);
+        while (true) {
+            if (exec != null) {
+                exec.checkCanceled();
             }
-            if (org.knime.core.node.workflow.NodeMessage.Type.WARNING.equals(message.getMessageType())) {
-                info.setNodeWarnMessage(message.getMessage());
+            // a retrieval which is already done is returned even if the deadline has passed
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            try {
+                return future.get(Math.min(remaining, pollInterval), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                if (remaining <= pollInterval) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private static void logRetrievalFailure(final NodeIDSuffix nodeID, final Throwable cause) {
+        LOGGER.warn("View representation of node " + nodeID + " could not be retrieved: " + cause.getMessage(),
+            cause);
+    }
+
+    /**
+     * Validates view values of nodes of a page. The caller has to hold the workflow lock and to make sure that the
+     * given wizard nodes belong to the page. The JSON values are deserialized concurrently, the validation itself
+     * runs sequentially on the calling thread, i.e. under the workflow lock. Validators may access the node or the
+     * workflow, e.g. their internal tables, and would block on the lock held by the caller if they ran on other
+     * threads.
+     *
+     * @param wizardNodes the wizard nodes of the page to validate, by {@link NodeIDSuffix} string
+     * @param viewValues a map with {@link NodeIDSuffix} string as key and JSON serialized view value as value
+     * @return a map of validation errors by node id suffix string, empty if all values are valid
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static Map<String, ValidationError> validateViewValuesConcurrently(final Map<String, WizardNode> wizardNodes,
+        final Map<String, String> viewValues) {
+        Map<String, ValidationError> result = new LinkedHashMap<String, ValidationError>();
+        Map<String, WebViewContent> values = new LinkedHashMap<String, WebViewContent>();
+        for (Map.Entry<String, WizardNode> e : wizardNodes.entrySet()) {
+            WebViewContent value = e.getValue().createEmptyViewValue();
+            if (value != null) {
+                values.put(e.getKey(), value);
+            }
+        }
+        Map<String, Future<WebViewContent>> futures = new LinkedHashMap<String, Future<WebViewContent>>();
+        if (values.size() > 1) {
+            for (Map.Entry<String, WebViewContent> e : values.entrySet()) {
+                String json = viewValues.get(e.getKey());
+                Callable<WebViewContent> deserialization = () -> loadViewValue(e.getValue(), json);
+                futures.put(e.getKey(), ASSEMBLY_EXECUTOR.submit(ThreadUtils.callableWithContext(deserialization)));
+            }
+        }
+        for (Map.Entry<String, WebViewContent> e : values.entrySet()) {
+            String json = viewValues.get(e.getKey());
+            WebViewContent value;
+            try {
+                Future<WebViewContent> future = futures.get(e.getKey());
+                value = future == null ? loadViewValue(e.getValue(), json) : future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                result.put(e.getKey(), new ValidationError("Validation was interrupted."));
+                break;
+            } catch (Exception ex) {
+                Throwable cause = ex instanceof ExecutionException ? ex.getCause() : ex;
+                result.put(e.getKey(),
+                    new ValidationError("Could not deserialize JSON value: " + json + ": \n" + cause.getMessage()));
+                continue;
+            }
+            ValidationError error = wizardNodes.get(e.getKey()).validateViewValue(value);
+            if (error != null) {
+                result.put(e.getKey(), error);
+            }
+        }
+        return result;
+    }
+
+    private static WebViewContent loadViewValue(final WebViewContent value, final String json) throws IOException {
+        value.loadFromStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return value;
+    }
+
+    /**
+     * Creates a thread-safe map which keeps the entries of the {@link #PAGE_CACHE_SIZE} most recently used pages.
+     */
+    private static <V> Map<NodeIDSuffix, V> createPageCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<NodeIDSuffix, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<NodeIDSuffix, V> eldest) {
+                return size() > PAGE_CACHE_SIZE;
             }
-            WizardNode<?, ?> wizardNode = page.getPageMap().get(e.getKey());
-            if (wizardNode == null) {
-                info.setDisplayPossible(false);
+        });
+    }
+
+    private static ExecutorService createAssemblyExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(ASSEMBLY_THREADS, ASSEMBLY_THREADS, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), r -> {
+                Thread thread = new Thread(r, "KNIME-Wizard-Page-Assembly-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static JSONWebNode createJSONWebNode(final WizardPageNodeInfo pInfo, final WizardNode<?, ?> wizardNode,
+        final Object representation, final boolean bundle) {
+        JSONWebNode jsonNode = new JSONWebNode();
+        JSONWebNodeInfo info = new JSONWebNodeInfo();
+        info.setNodeName(pInfo.getNodeName());
+        info.setNodeAnnotation(pInfo.getNodeAnnotation());
+        info.setNodeState(getJSONNodeState(pInfo.getNodeState()));
+        NodeMessage message = pInfo.getNodeMessage();
+        if (org.knime.core.node.workflow.NodeMessage.Type.ERROR.equals(message.getMessageType())) {
+            info.setNodeErrorMessage(message.getMessage());
+        }
+        if (org.knime.core.node.workflow.NodeMessage.Type.WARNING.equals(message.getMessageType())) {
+            info.setNodeWarnMessage(message.getMessage());
+        }
+        if (wizardNode == null) {
+            info.setDisplayPossible(false);
+        } else {
+            info.setDisplayPossible(true);
+            // template resolution and resource lists are shared process-wide, see WebTemplateCache
+            CachedWebTemplate template = WebTemplateCache.getInstance().get(wizardNode.getJavascriptObjectID());
+            if (bundle) {
+                // references one bundle per resource type instead, if bundling is enabled
+                WebResourceBundler bundler = WebResourceBundler.getInstance();
+                jsonNode.setJavascriptLibraries(
+                    bundler.getBundle(template.getJavascriptLibraries(), WebResourceType.JAVASCRIPT));
+                jsonNode.setStylesheets(bundler.getBundle(template.getStylesheets(), WebResourceType.CSS));
             } else {
-                info.setDisplayPossible(true);
-                WebTemplate template =
-                        WebResourceController.getWebTemplateFromJSObjectID(wizardNode.getJavascriptObjectID());
-                    List<String> jsList = new ArrayList<String>();
-                    List<String> cssList = new ArrayList<String>();
-                    for (WebResourceLocator locator : template.getWebResources()) {
-                        if (locator.getType() == WebResourceType.JAVASCRIPT) {
-                            jsList.add(locator.getRelativePathTarget());
-                        } else if (locator.getType() == WebResourceType.CSS) {
-                            cssList.add(locator.getRelativePathTarget());
-                        }
-                    }
-                    jsonNode.setJavascriptLibraries(jsList);
-                    jsonNode.setStylesheets(cssList);
-                    jsonNode.setNamespace(template.getNamespace());
-                    jsonNode.setInitMethodName(template.getInitMethodName());
-                    jsonNode.setValidateMethodName(template.getValidateMethodName());
-                    jsonNode.setSetValidationErrorMethodName(template.getSetValidationErrorMethodName());
-                    jsonNode.setGetViewValueMethodName(template.getPullViewContentMethodName());
-                    jsonNode.setViewRepresentation((JSONViewContent)wizardNode.getViewRepresentation());
-                    jsonNode.setViewValue((JSONViewContent)wizardNode.getViewValue());
-
-                    if (wizardNode instanceof CSSModifiable) {
-                        jsonNode.setCustomCSS(((CSSModifiable)wizardNode).getCssStyles());
-                    }
+                jsonNode.setJavascriptLibraries(template.getJavascriptLibraries());
+                jsonNode.setStylesheets(template.getStylesheets());
+            }
+            jsonNode.setNamespace(template.getNamespace());
+            jsonNode.setInitMethodName(template.getInitMethodName());
+            jsonNode.setValidateMethodName(template.getValidateMethodName());
+            jsonNode.setSetValidationErrorMethodName(template.getSetValidationErrorMethodName());
+            jsonNode.setGetViewValueMethodName(template.getPullViewContentMethodName());
+            jsonNode.setViewRepresentation((JSONViewContent)representation);
+            jsonNode.setViewValue((JSONViewContent)wizardNode.getViewValue());
+
+            if (wizardNode instanceof CSSModifiable) {
+                jsonNode.setCustomCSS(((CSSModifiable)wizardNode).getCssStyles());
             }
-            jsonNode.setNodeInfo(info);
-            nodes.put(e.getKey().toString(), jsonNode);
         }
-        return new JSONWebNodePage(pageConfig, nodes);
+        jsonNode.setNodeInfo(info);
+        return jsonNode;
+    }
+
+    private static JSONNodeState getJSONNodeState(final NodeContainerState state) {
+        JSONNodeState nodeState = null;
+        if (state.isIdle()) {
+            nodeState = JSONNodeState.IDLE;
+        }
+        if (state.isConfigured()) {
+            nodeState = JSONNodeState.CONFIGURED;
+        }
+        if (state.isExecutionInProgress() || state.isExecutingRemotely()) {
+            nodeState = JSONNodeState.EXECUTING;
+        }
+        if (state.isExecuted()) {
+            nodeState = JSONNodeState.EXECUTED;
+        }
+        return nodeState;
     }
 
+    /**
+     * Whether the pages of this manager are served from the local view container, i.e. whether they can reference
+     * the resource bundles written into it by the {@link WebResourceBundler}. Pages served by other means, e.g. by a
+     * server, reference the individual web resources.
+     *
+     * @return false by default
+     * @since 4.2
+     */
+    protected boolean isServedFromViewContainer() {
+        return false;
+    }
+
+    /**
+     * Discards all cached page content of this manager, forcing the next page creation to rebuild every node.
+     * @since 4.2
+     */
+    protected void clearPageCache() {
+        m_pageCache.clear();
+        m_layoutCache.clear();
+    }
+
+    /**
+     * Returns the layout of a page with all node ids resolved. The resolved ids only depend on the layout info, which
+     * already contains the expanded nested layouts, so the layout is reused as long as the layout info is unchanged.
+     * The returned layout is shared between page creations and must not be modified.
+     */
     private JSONLayoutPage getJSONLayoutFromSubnode(final NodeIDSuffix pageID, final String layoutInfo)
             throws IOException {
+        CompiledLayout compiled = m_layoutCache.get(pageID);
+        if (compiled != null && compiled.m_layoutInfo.equals(layoutInfo)) {
+            return compiled.m_layout;
+        }
+        JSONLayoutPage page = compileJSONLayout(pageID, layoutInfo);
+        if (page != null) {
+            m_layoutCache.put(pageID, new CompiledLayout(layoutInfo, page));
+        }
+        return page;
+    }
+
+    private JSONLayoutPage compileJSONLayout(final NodeIDSuffix pageID, final String layoutInfo) throws IOException {
         ObjectMapper mapper = JSONLayoutPage.getConfiguredVerboseObjectMapper();
         ObjectReader reader = mapper.readerForUpdating(new JSONLayoutPage());
         JSONLayoutPage page = reader.readValue(layoutInfo);
         SubNodeContainer subNodeContainer =
-            m_wfm.getNodeContainer(pageID.prependParent(m_wfm.getID()), SubNodeContainer.class, true);
+            getWorkflowManager().getNodeContainer(pageID.prependParent(getWorkflowManager().getID()),
+                SubNodeContainer.class, true);
         if (page != null && page.getRows() != null) {
             for (JSONLayoutRow row : page.getRows()) {
                 setNodeIDInContent(row, subNodeContainer.getWorkflowManager());
@@ -266,7 +601,7 @@ private void setNodeIDInContent(final JSONLayoutContent content, final WorkflowM
             JSONLayoutPage nestedPage = nestedLayout.getLayout();
             if (nestedPage != null && nestedPage.getRows() != null) {
                 NodeIDSuffix suffix = NodeIDSuffix.fromString(nestedLayout.getNodeID());
-                NodeContainer container = subNodeManager.getNodeContainer(suffix.prependParent(m_wfm.getID()));
+                NodeContainer container = subNodeManager.getNodeContainer(suffix.prependParent(getWorkflowManager().getID()));
                 if (container != null && container instanceof SubNodeContainer) {
                     WorkflowManager nestedManager = ((SubNodeContainer)container).getWorkflowManager();
                     for (JSONLayoutRow nestedRow : nestedPage.getRows()) {
@@ -293,7 +628,7 @@ private String prependParentNodeID(final WorkflowManager parentManager, final St
         if (parentManager != null) {
             NodeID orgID = NodeID.fromString(nodeIDString);
             NodeID layoutNodeID = parentManager.getID().createChild(orgID.getIndex());
-            result = NodeIDSuffix.create(m_wfm.getID(), layoutNodeID).toString();
+            result = NodeIDSuffix.create(getWorkflowManager().getID(), layoutNodeID).toString();
         }
         return result;
     }
@@ -305,7 +640,7 @@ private String prependParentNodeID(final WorkflowManager parentManager, final St
      * @throws IOException on serialization error
      */
     protected String serializeValidationResult(final Map<String, ValidationError> validationResults) throws IOException {
-        try (WorkflowLock lock = m_wfm.lock()) {
+        try (WorkflowLock lock = getWorkflowManager().lock()) {
             ObjectMapper mapper = new ObjectMapper();
             String jsonString = null;
             if (validationResults != null && !validationResults.isEmpty()) {
@@ -334,4 +669,235 @@ protected String serializeViewResponse(final WebViewContent response) {
         return null;
     }
 
+    /**
+     * Captures everything needed to process a view request on a node of a page, so that the request can be
+     * processed without holding the workflow lock. Needs to be called while holding the lock.
+     *
+     * @param pageID the id of the component containing the page
+     * @param nodeID the node id suffix of the node the request belongs to
+     * @param jsonRequest the JSON serialized view request
+     * @return a snapshot which can be processed after the lock has been released
+     * @throws ViewRequestHandlingException if the node is not part of the page, can not handle view requests or
+     *             the request can not be parsed
+     */
+    @SuppressWarnings("rawtypes")
+    ViewRequestSnapshot createViewRequestSnapshot(final NodeID pageID, final String nodeID,
+        final String jsonRequest) throws ViewRequestHandlingException {
+        try (WorkflowLock lock = getWorkflowManager().assertLock()) {
+            NodeID absoluteID = NodeIDSuffix.fromString(nodeID).prependParent(getWorkflowManager().getID());
+            if (!absoluteID.hasPrefix(pageID)) {
+                throw new ViewRequestHandlingException("Node " + nodeID + " is not part of the current page.");
+            }
+            NodeContainer container;
+            try {
+                container = getWorkflowManager().findNodeContainer(absoluteID);
+            } catch (IllegalArgumentException ex) {
+                throw new ViewRequestHandlingException("Node " + nodeID + " does not exist.", ex);
+            }
+            if (!(container instanceof NativeNodeContainer)
+                || !(((NativeNodeContainer)container).getNodeModel() instanceof WizardViewRequestHandler)) {
+                throw new ViewRequestHandlingException("Node " + nodeID + " does not support view requests.");
+            }
+            if (!container.getNodeContainerState().isExecuted()) {
+                throw new ViewRequestHandlingException("Node " + nodeID + " is not executed.");
+            }
+            WizardViewRequestHandler handler =
+                (WizardViewRequestHandler)((NativeNodeContainer)container).getNodeModel();
+            WizardViewRequest request = handler.createEmptyViewRequest();
+            try {
+                request.loadFromStream(new ByteArrayInputStream(jsonRequest.getBytes(StandardCharsets.UTF_8)));
+            } catch (IOException ex) {
+                throw new ViewRequestHandlingException("Could not parse view request: " + ex.getMessage(), ex);
+            }
+            return new ViewRequestSnapshot(nodeID, container, handler, request);
+        }
+    }
+
+    /**
+     * A view request bound to the node model it was created for. The snapshot only keeps a reference to the node
+     * model, it does not capture the model's internal tables or any other state: the request is handled on whatever
+     * state the model has while it is processed. The node is therefore observed from the moment the snapshot is
+     * taken: if it is reset while the request is processed, processing is cancelled and the response discarded, as
+     * it might have been computed from data which does not exist anymore. Runtime exceptions thrown by the handler
+     * after the node was reset, or after its model was replaced, are reported as stale as well, since they are
+     * typically caused by internal tables that were cleared underneath the request.
+     */
+    static final class ViewRequestSnapshot {
+
+        private final String m_nodeID;
+
+        private final NodeContainer m_container;
+
+        @SuppressWarnings("rawtypes")
+        private final WizardViewRequestHandler m_handler;
+
+        private final WizardViewRequest m_request;
+
+        private final AtomicBoolean m_stale = new AtomicBoolean();
+
+        private final NodeStateChangeListener m_listener;
+
+        private volatile ExecutionMonitor m_exec;
+
+        @SuppressWarnings("rawtypes")
+        private ViewRequestSnapshot(final String nodeID, final NodeContainer container,
+            final WizardViewRequestHandler handler, final WizardViewRequest request) {
+            m_nodeID = nodeID;
+            m_container = container;
+            m_handler = handler;
+            m_request = request;
+            m_listener = e -> {
+                if (!m_container.getNodeContainerState().isExecuted() && m_stale.compareAndSet(false, true)) {
+                    ExecutionMonitor exec = m_exec;
+                    if (exec != null) {
+                        exec.getProgressMonitor().setExecuteCanceled();
+                    }
+                }
+            };
+            m_container.addNodeStateChangeListener(m_listener);
+        }
+
+        /**
+         * Processes the captured request, must not be called while holding the workflow lock.
+         *
+         * @param exec the execution monitor to set progress and check possible cancellation
+         * @return the response of the node
+         * @throws ViewRequestHandlingException if the request handling fails or the node was reset or its model
+         *             replaced in the meantime
+         * @throws InterruptedException if the thread handling the request is interrupted
+         * @throws CanceledExecutionException if the handling of the request was cancelled
+         */
+        @SuppressWarnings("unchecked")
+        WizardViewResponse process(final ExecutionMonitor exec)
+            throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+            m_exec = exec;
+            try {
+                if (isStale()) {
+                    throw createStaleException(null);
+                }
+                WizardViewResponse response = (WizardViewResponse)m_handler.handleRequest(m_request, exec);
+                if (isStale()) {
+                    throw createStaleException(null);
+                }
+                return response;
+            } catch (CanceledExecutionException | RuntimeException ex) {
+                if (isStale()) {
+                    throw createStaleException(ex);
+                }
+                throw ex;
+            } finally {
+                m_container.removeNodeStateChangeListener(m_listener);
+            }
+        }
+
+        /* reset since the snapshot was taken or the live node model is not the one the request was created for */
+        private boolean isStale() {
+            return m_stale.get() || !(m_container instanceof NativeNodeContainer)
+                || ((NativeNodeContainer)m_container).getNodeModel() != m_handler;
+        }
+
+        private ViewRequestHandlingException createStaleException(final Throwable cause) {
+            return new ViewRequestHandlingException(
+                "Node " + m_nodeID + " was reset while the view request was processed.", cause);
+        }
+    }
+
+    /**
+     * Captures everything a {@link JSONWebNode} is derived from. View representation, value and the wizard node
+     * itself are compared by identity, as they are replaced (not modified) on reset, re-execution or when new values
+     * are loaded; in-place modifications are reflected by the reused node anyway, as it references the same objects.
+     */
+    private static final class WebNodeVersion {
+
+        private final NodeContainerState m_state;
+        private final NodeMessage.Type m_messageType;
+        private final String m_message;
+        private final String m_nodeName;
+        private final String m_nodeAnnotation;
+        private final WizardNode<?, ?> m_wizardNode;
+        private final Object m_representation;
+        private final Object m_value;
+        private final String m_customCSS;
+
+        private WebNodeVersion(final WizardPageNodeInfo pInfo, final WizardNode<?, ?> wizardNode,
+            final Object representation) {
+            m_state = pInfo.getNodeState();
+            NodeMessage message = pInfo.getNodeMessage();
+            m_messageType = message == null ? null : message.getMessageType();
+            m_message = message == null ? null : message.getMessage();
+            m_nodeName = pInfo.getNodeName();
+            m_nodeAnnotation = pInfo.getNodeAnnotation();
+            m_wizardNode = wizardNode;
+            m_representation = representation;
+            m_value = wizardNode == null ? null : wizardNode.getViewValue();
+            m_customCSS = wizardNode instanceof CSSModifiable ? ((CSSModifiable)wizardNode).getCssStyles() : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder()
+                    .append(m_state)
+                    .append(m_messageType)
+                    .append(m_message)
+                    .append(m_nodeName)
+                    .append(m_nodeAnnotation)
+                    .append(System.identityHashCode(m_wizardNode))
+                    .append(System.identityHashCode(m_representation))
+                    .append(System.identityHashCode(m_value))
+                    .append(m_customCSS)
+                    .toHashCode();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            WebNodeVersion other = (WebNodeVersion)obj;
+            return m_wizardNode == other.m_wizardNode
+                && m_representation == other.m_representation
+                && m_value == other.m_value
+                && new EqualsBuilder()
+                    .append(m_state, other.m_state)
+                    .append(m_messageType, other.m_messageType)
+                    .append(m_message, other.m_message)
+                    .append(m_nodeName, other.m_nodeName)
+                    .append(m_nodeAnnotation, other.m_nodeAnnotation)
+                    .append(m_customCSS, other.m_customCSS)
+                    .isEquals();
+        }
+    }
+
+    private static final class CompiledLayout {
+
+        private final String m_layoutInfo;
+
+        private final JSONLayoutPage m_layout;
+
+        private CompiledLayout(final String layoutInfo, final JSONLayoutPage layout) {
+            m_layoutInfo = layoutInfo;
+            m_layout = layout;
+        }
+    }
+
+    private static final class CachedWebNode {
+
+        private final WebNodeVersion m_version;
+        private final JSONWebNode m_node;
+
+        private CachedWebNode(final WebNodeVersion version, final JSONWebNode node) {
+            m_version = version;
+            m_node = node;
+        }
+    }
+
 }
@@ -50,21 +50,28 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.WeakHashMap;
 
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.interactive.ViewRequestHandlingException;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.web.WebViewContent;
+import org.knime.core.node.wizard.WizardNode;
 import org.knime.core.node.wizard.WizardViewResponse;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.NodeID.NodeIDSuffix;
 import org.knime.core.node.workflow.SinglePageWebResourceController;
 import org.knime.core.node.workflow.WebResourceController.WizardPageContent;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowLock;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.js.core.JSONWebNodePage;
@@ -78,14 +85,36 @@
  */
 public class SinglePageManager extends AbstractPageManager {
 
+    /* one manager per workflow manager; managers reference their workflow manager, so they are only softly
+     * reachable from the pool and evicted explicitly once the workflow or a container around it is removed */
+    private static final Map<WorkflowManager, SoftReference<SinglePageManager>> INSTANCES =
+        Collections.synchronizedMap(new WeakHashMap<WorkflowManager, SoftReference<SinglePageManager>>());
+
+    /* registered on all ancestors of pooled workflow managers, references neither managers nor workflows */
+    private static final WorkflowListener EVICTION_LISTENER = e -> {
+        if (e.getType() == WorkflowEvent.Type.NODE_REMOVED) {
+            evict(e.getID());
+        }
+    };
+
     /**
-     * Returns a {@link SinglePageManager} instance for the given {@link SinglePageManager}
+     * Returns a {@link SinglePageManager} instance for the given {@link SinglePageManager}. Instances are pooled per
+     * {@link WorkflowManager} and released when the workflow, or the metanode or component containing it, is removed.
      * @param workflowManager the {@link WorkflowManager} to get the {@link SinglePageManager} instance for
      * @return a {@link SinglePageManager} of the given {@link WorkflowManager}
      */
     public static SinglePageManager of(final WorkflowManager workflowManager) {
-        // return new instance, could also be used to invoke a caching/pooling service in the future
-        return new SinglePageManager(workflowManager);
+        CheckUtils.checkArgumentNotNull(workflowManager);
+        synchronized (INSTANCES) {
+            SoftReference<SinglePageManager> ref = INSTANCES.get(workflowManager);
+            SinglePageManager manager = ref == null ? null : ref.get();
+            if (manager == null) {
+                manager = new SinglePageManager(workflowManager);
+                INSTANCES.put(workflowManager, new SoftReference<SinglePageManager>(manager));
+                registerEvictionListener(workflowManager);
+            }
+            return manager;
+        }
     }
 
     /**
@@ -97,7 +126,44 @@ private SinglePageManager(final WorkflowManager workflowManager) {
         super(workflowManager);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Single pages are shown in the local view container.
+     */
+    @Override
+    protected boolean isServedFromViewContainer() {
+        return true;
+    }
+
+    private static void registerEvictionListener(final WorkflowManager workflowManager) {
+        // removing a node is announced by its parent only, so every ancestor up to the root is observed;
+        // addListener ignores listeners which are already registered
+        for (WorkflowManager parent = workflowManager.getParent(); parent != null; parent = parent.getParent()) {
+            parent.addListener(EVICTION_LISTENER);
+            if (parent == WorkflowManager.ROOT) {
+                break;
+            }
+        }
+    }
+
+    private static void evict(final NodeID removedID) {
+        synchronized (INSTANCES) {
+            INSTANCES.keySet().removeIf(wfm -> wfm.getID().equals(removedID) || wfm.getID().hasPrefix(removedID));
+        }
+    }
+
+    /**
+     * @param workflowManager the workflow manager to check
+     * @return true if a {@link SinglePageManager} is currently pooled for the given workflow manager
+     */
+    static boolean isPooled(final WorkflowManager workflowManager) {
+        SoftReference<SinglePageManager> ref = INSTANCES.get(workflowManager);
+        return ref != null && ref.get() != null;
+    }
+
     private SinglePageWebResourceController getController(final NodeID containerNodeID) {
+        // controllers reference the workflow manager, they are cheap to create and therefore not pooled
         return new SinglePageWebResourceController(getWorkflowManager(), containerNodeID);
     }
 
@@ -148,19 +214,26 @@ public Map<String, String> createWizardPageViewValueMap(final NodeID containerNo
      * @return Null or empty map if validation succeeds, map of errors otherwise
      * @throws IOException on serialization error
      */
+    @SuppressWarnings("rawtypes")
     public Map<String, ValidationError> validateViewValues(final Map<String, String> viewValues, final NodeID containerNodeId) throws IOException {
+        if (viewValues.isEmpty()) {
+            return Collections.emptyMap();
+        }
         try (WorkflowLock lock = getWorkflowManager().lock()) {
-            /*ObjectMapper mapper = new ObjectMapper();
+            SinglePageWebResourceController sec = getController(containerNodeId);
+            CheckUtils.checkState(sec.isSubnodeViewAvailable(), "No view available for component %s",
+                containerNodeId);
+            // the page map only contains the wizard nodes of the page which are not hidden
+            Map<NodeIDSuffix, ? extends WizardNode> pageMap = sec.getWizardPage().getPageMap();
+            Map<String, WizardNode> wizardNodes = new LinkedHashMap<String, WizardNode>();
             for (String key : viewValues.keySet()) {
-                String content = mapper.writeValueAsString(viewValues.get(key));
-                viewValues.put(key, content);
-            }*/
-            if (!viewValues.isEmpty()) {
-                SinglePageWebResourceController sec = getController(containerNodeId);
-                return sec.validateViewValuesInPage(viewValues);
-            } else {
-                return Collections.emptyMap();
+                WizardNode wizardNode = pageMap.get(NodeIDSuffix.fromString(key));
+                CheckUtils.checkState(wizardNode != null, "No wizard node with ID %s in component %s", key,
+                    containerNodeId);
+                wizardNodes.put(key, wizardNode);
             }
+            // only the deserialization of the values runs concurrently, validation stays under the lock
+            return validateViewValuesConcurrently(wizardNodes, viewValues);
         }
     }
 
@@ -221,11 +294,13 @@ public void applyValidatedValuesAndReexecute(final Map<String, String> valueMap,
     String processViewRequest(final String nodeID, final String jsonRequest, final NodeID containerNodeId,
         final ExecutionMonitor exec)
         throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        ViewRequestSnapshot snapshot;
         try (WorkflowLock lock = getWorkflowManager().lock()) {
-            SinglePageWebResourceController sec = getController(containerNodeId);
-            WizardViewResponse response = sec.processViewRequest(nodeID, jsonRequest, exec);
-            return serializeViewResponse(response);
+            snapshot = createViewRequestSnapshot(containerNodeId, nodeID, jsonRequest);
         }
+        // the request itself is processed without the lock, so it does not block other operations on the workflow
+        WizardViewResponse response = snapshot.process(exec);
+        return serializeViewResponse(response);
     }
 
 }
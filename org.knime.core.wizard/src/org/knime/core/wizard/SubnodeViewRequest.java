@@ -68,9 +68,11 @@ public class SubnodeViewRequest extends JSONViewRequest {
 
     static final String CFG_NODE_ID = "nodeID";
     private static final String CFG_JSON_REQUEST = "jsonRequest";
+    private static final String CFG_SUPERSEDE_PREVIOUS = "supersedePrevious";
 
     private String m_nodeID;
     private String m_jsonRequest;
+    private boolean m_supersedePrevious;
 
     /**
      * @return the nodeID
@@ -100,6 +102,23 @@ public void setJsonRequest(final String jsonRequest) {
         m_jsonRequest = jsonRequest;
     }
 
+    /**
+     * @return true if this request makes older running requests of the same view obsolete, false otherwise
+     * @since 4.2
+     */
+    public boolean isSupersedePrevious() {
+        return m_supersedePrevious;
+    }
+
+    /**
+     * @param supersedePrevious true if older running requests of the same view can be cancelled once this request
+     *            is received
+     * @since 4.2
+     */
+    public void setSupersedePrevious(final boolean supersedePrevious) {
+        m_supersedePrevious = supersedePrevious;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,6 +127,7 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
         super.saveToNodeSettings(settings);
         settings.addString(CFG_NODE_ID, m_nodeID);
         settings.addString(CFG_JSON_REQUEST, m_jsonRequest);
+        settings.addBoolean(CFG_SUPERSEDE_PREVIOUS, m_supersedePrevious);
     }
 
     /**
@@ -118,6 +138,8 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
         super.loadFromNodeSettings(settings);
         m_nodeID = settings.getString(CFG_NODE_ID);
         m_jsonRequest = settings.getString(CFG_JSON_REQUEST);
+        // added with 4.2
+        m_supersedePrevious = settings.getBoolean(CFG_SUPERSEDE_PREVIOUS, false);
     }
 
     /**
@@ -139,6 +161,7 @@ public boolean equals(final Object obj) {
                 .appendSuper(super.equals(obj))
                 .append(m_nodeID, other.m_nodeID)
                 .append(m_jsonRequest, other.m_jsonRequest)
+                .append(m_supersedePrevious, other.m_supersedePrevious)
                 .isEquals();
     }
 
@@ -151,6 +174,7 @@ public int hashCode() {
                 .appendSuper(super.hashCode())
                 .append(m_nodeID)
                 .append(m_jsonRequest)
+                .append(m_supersedePrevious)
                 .toHashCode();
     }
 
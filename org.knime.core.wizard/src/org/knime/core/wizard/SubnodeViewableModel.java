@@ -55,7 +55,13 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.FileUtils;
 import org.knime.core.node.AbstractNodeView.ViewableModel;
@@ -78,6 +84,7 @@
 import org.knime.core.node.workflow.NodeStateChangeListener;
 import org.knime.core.node.workflow.SubNodeContainer;
 import org.knime.core.node.workflow.WorkflowLock;
+import org.knime.core.util.ThreadUtils;
 import org.knime.js.core.JSONWebNode;
 import org.knime.js.core.JSONWebNodePage;
 import org.knime.js.core.JSONWebNodePageConfiguration;
@@ -101,14 +108,35 @@ public class SubnodeViewableModel implements ViewableModel, WizardNode<JSONWebNo
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(SubnodeViewableModel.class);
 
-    private JSONWebNodePage m_page;
-    private SubnodeViewValue m_value;
+    /* opt-in: build page, values and HTML of an open view in the background once the component is executed */
+    private static final boolean PRERENDER = Boolean.getBoolean("knime.wizard.prerenderViews");
+
+    private static final ExecutorService PRERENDER_EXECUTOR;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), r -> {
+                Thread t = new Thread(r, "KNIME-Component-View-Prerender");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        PRERENDER_EXECUTOR = executor;
+    }
+
+    private volatile JSONWebNodePage m_page;
+    private volatile SubnodeViewValue m_value;
 
     private final SinglePageManager m_spm;
     private final SubNodeContainer m_container;
     private final String m_viewName;
     private final JavaScriptViewCreator<JSONWebNodePage, SubnodeViewValue> m_viewCreator;
-    private String m_viewPath;
+    private volatile String m_viewPath;
+    /* incremented on every reset, so that a pre-rendered page of an outdated execution is dropped */
+    private final AtomicInteger m_renderGeneration = new AtomicInteger();
     private AbstractWizardNodeView<SubnodeViewableModel, JSONWebNodePage, SubnodeViewValue> m_view;
     private AtomicBoolean m_isReexecuteInProgress = new AtomicBoolean(false);
     private NodeStateChangeListener m_nodeStateChangeListener;
@@ -144,7 +172,12 @@ private void onNodeStateChange() {
             boolean isCallModelChanged = true;
             SubnodeViewValue v = getViewValue();
             if (nodeContainerState.isExecuted()) {
-                if (v == null) {
+                if (v == null && PRERENDER) {
+                    // node was just executed, build the page off the state change thread, the view is notified
+                    // once it is ready
+                    prerenderPageAndValue();
+                    isCallModelChanged = false;
+                } else if (v == null) {
                     // node was just executed, i.e. view is open and user executes via "run" button in main application
                     try {
                         createPageAndValue();
@@ -182,15 +215,59 @@ public void registerView(final AbstractWizardNodeView<SubnodeViewableModel, JSON
     }
 
     private void createPageAndValue() throws IOException {
-        m_page = m_spm.createWizardPage(m_container.getID());
+        JSONWebNodePage page = m_spm.createWizardPage(m_container.getID());
+        m_value = createViewValue(page);
+        m_page = page;
+    }
+
+    private static SubnodeViewValue createViewValue(final JSONWebNodePage page) throws JsonProcessingException {
         Map<String, String> valueMap = new HashMap<String, String>();
-        ObjectMapper mapper = new ObjectMapper();
-        for (Entry<String, JSONWebNode> entry : m_page.getWebNodes().entrySet()) {
-            String value = mapper.writeValueAsString(entry.getValue().getViewValue());
+        for (Entry<String, JSONWebNode> entry : page.getWebNodes().entrySet()) {
+            String value = MAPPER.writeValueAsString(entry.getValue().getViewValue());
             valueMap.put(entry.getKey(), value);
         }
-        m_value = new SubnodeViewValue();
-        m_value.setViewValues(valueMap);
+        SubnodeViewValue value = new SubnodeViewValue();
+        value.setViewValues(valueMap);
+        return value;
+    }
+
+    /**
+     * Builds page, value and HTML of the view on a low priority background thread. The result is dropped if the
+     * node was reset in the meantime.
+     */
+    private void prerenderPageAndValue() {
+        final int generation = m_renderGeneration.get();
+        PRERENDER_EXECUTOR.execute(ThreadUtils.runnableWithContext(() -> {
+            if (generation != m_renderGeneration.get()) {
+                return;
+            }
+            String viewPath = null;
+            try {
+                JSONWebNodePage page = m_spm.createWizardPage(m_container.getID());
+                SubnodeViewValue value = createViewValue(page);
+                viewPath = m_viewCreator.createWebResources(m_viewName, page, null, null);
+                synchronized (this) {
+                    if (generation != m_renderGeneration.get() || !m_container.getNodeContainerState().isExecuted()) {
+                        LOGGER.debug("Dropping pre-rendered view of reset node " + m_container.getID());
+                        FileUtils.deleteQuietly(new File(viewPath));
+                        return;
+                    }
+                    m_value = value;
+                    m_page = page;
+                    m_viewPath = viewPath;
+                }
+            } catch (IOException e) {
+                LOGGER.error("Creating view failed: " + e.getMessage(), e);
+                if (viewPath != null) {
+                    FileUtils.deleteQuietly(new File(viewPath));
+                }
+                return;
+            }
+            AbstractWizardNodeView<SubnodeViewableModel, JSONWebNodePage, SubnodeViewValue> view = m_view;
+            if (view != null) {
+                view.callViewableModelChanged();
+            }
+        }));
     }
 
     private SubnodeViewValue createViewValue() throws IOException {
@@ -224,6 +301,13 @@ public void loadViewValue(final SubnodeViewValue value, final boolean useAsDefau
         try {
             CheckUtils.checkState(m_container.getNodeContainerState().isExecuted(),
                 "Node needs to be in executed state to apply new view values.");
+            // storing new defaults resets the component, so in that case it always has to be re-executed
+            if (!useAsDefault && getChangedViewValues(value).isEmpty()) {
+                // re-executing would reproduce the current result
+                LOGGER.debug("View values of node " + m_container.getID() + " unchanged, skipping re-execution.");
+                m_value = value;
+                return;
+            }
             m_isReexecuteInProgress.set(true);
             try (WorkflowLock lock = m_container.getParent().lock()) {
                 m_spm.applyValidatedValuesAndReexecute(value.getViewValues(), m_container.getID(), useAsDefault);
@@ -246,6 +330,43 @@ public void loadViewValue(final SubnodeViewValue value, final boolean useAsDefau
         }
     }
 
+    /**
+     * Compares the given values per node with the currently loaded ones. Values are compared as JSON trees, so
+     * formatting and property order do not matter.
+     *
+     * @param value the value to compare
+     * @return a map of all node values which differ from the currently loaded ones
+     */
+    private Map<String, String> getChangedViewValues(final SubnodeViewValue value) {
+        SubnodeViewValue current = m_value;
+        Map<String, String> newValues = value.getViewValues();
+        if (current == null || current.getViewValues() == null || newValues == null) {
+            return newValues == null ? new HashMap<String, String>() : newValues;
+        }
+        Map<String, String> changedValues = new HashMap<String, String>();
+        for (Entry<String, String> entry : newValues.entrySet()) {
+            if (!isSameJSON(current.getViewValues().get(entry.getKey()), entry.getValue())) {
+                changedValues.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return changedValues;
+    }
+
+    private static boolean isSameJSON(final String json, final String otherJSON) {
+        if (Objects.equals(json, otherJSON)) {
+            return true;
+        }
+        if (json == null || otherJSON == null) {
+            return false;
+        }
+        try {
+            return MAPPER.readTree(json).equals(MAPPER.readTree(otherJSON));
+        } catch (IOException e) {
+            // can't tell, treat as changed
+            return false;
+        }
+    }
+
     private void logErrorAndReset(final String message, final Exception ex) {
         LOGGER.error(message + ex.getMessage(), ex);
         reset();
@@ -328,7 +449,8 @@ public String getViewHTMLPath() {
         return m_viewPath;
     }
 
-    private void reset() {
+    private synchronized void reset() {
+        m_renderGeneration.incrementAndGet();
         m_page = null;
         m_value = null;
         if (m_viewPath != null) {
@@ -425,18 +547,24 @@ public static WebTemplate createSubnodeWebTemplate() {
          * {@inheritDoc}
          */
         @Override
-        public String createInitJSViewMethodCall(final boolean parseArguments, final JSONWebNodePage viewRepresentation, final SubnodeViewValue viewValue) {
+        protected String createInitJSViewMethodCall(final boolean parseArguments,
+            final JSONWebNodePage viewRepresentation, final SubnodeViewValue viewValue, final boolean streamed) {
+            String initMethod = getWebTemplate().getInitMethodName();
+            String initCall = getNamespacePrefix() + initMethod + "(parsedRepresentation, null, null, " + isDebug() + ");";
             StringBuilder builder = new StringBuilder();
             if (parseArguments) {
                 String jsonViewRepresentation = getViewRepresentationJSONString(viewRepresentation);
+                String streamedCall =
+                    streamed ? createStreamedInitCall(jsonViewRepresentation, null, initCall) : null;
+                if (streamedCall != null) {
+                    return streamedCall;
+                }
                 String escapedRepresentation = jsonViewRepresentation.replace("\\", "\\\\").replace("'", "\\'");
                 String repParseCall = "var parsedRepresentation = JSON.parse('" + escapedRepresentation + "');";
                 builder.append(repParseCall);
             }
-            String initMethod = getWebTemplate().getInitMethodName();
-            String initCall = getNamespacePrefix() + initMethod + "(parsedRepresentation, null, null, " + isDebug() + ");";
             builder.append(initCall);
-            return builder.toString();
+            return streamed ? createPendingInitCall(builder.toString()) : builder.toString();
         }
     }
 
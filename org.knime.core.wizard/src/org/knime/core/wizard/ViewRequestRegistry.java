@@ -20,25 +20,64 @@
  */
 package org.knime.core.wizard;
 
-import java.util.HashMap;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.interactive.ViewResponseMonitor;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.wizard.WizardViewResponse;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.node.workflow.WorkflowManager;
 
 /**
- * Simple singleton registry utility class for view initiated requests.
+ * Singleton registry utility class for view initiated requests.
+ * <p>
+ * Jobs without any activity for longer than a configurable time to live (system property
+ * <code>knime.wizard.viewRequestTTL</code>, in seconds) are evicted and cancelled if they are still running. Activity
+ * is the registration or update of a job, a poll of its status and any change of its state, e.g. when its response
+ * becomes available. The number of registered jobs is bounded (system property
+ * <code>knime.wizard.maxViewRequests</code>), new jobs are rejected once the limit is reached and no finished or
+ * expired jobs can be evicted. Jobs registered with an owning workflow or node are removed as soon as that workflow
+ * is closed, or the page containing the node is closed (see {@link #removeJobsOfClosedPages(NodeID, NodeID)}).
  *
  * @author Christian Albrecht, KNIME GmbH, Konstanz, Germany
  * @since 3.7
  */
 public final class ViewRequestRegistry {
 
-    private static ViewRequestRegistry instance;
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ViewRequestRegistry.class);
+
+    static final long TTL_MILLIS =
+        TimeUnit.SECONDS.toMillis(Long.getLong("knime.wizard.viewRequestTTL", 600));
+
+    private static final int MAX_JOBS = Integer.getInteger("knime.wizard.maxViewRequests", 1000);
+
+    private static final Object LOCK = new Object();
+
+    private static volatile ViewRequestRegistry instance;
+
+    private final Map<String, RegisteredJob> m_requestMap;
 
-    private final Map<String, ViewResponseMonitor<? extends WizardViewResponse>> m_requestMap;
+    private final ScheduledExecutorService m_sweeper;
+
+    private final WorkflowListener m_rootListener;
+
+    private final LongAdder m_completedJobs = new LongAdder();
+
+    private final LongAdder m_cancelledJobs = new LongAdder();
+
+    private final LongAdder m_evictedJobs = new LongAdder();
 
     /**
      * Singleton accessor, returns the instance for this class.
@@ -46,10 +85,17 @@ public final class ViewRequestRegistry {
      * @return the instance for this class
      */
     public static ViewRequestRegistry getInstance() {
-        if (instance == null) {
-            instance = new ViewRequestRegistry();
+        ViewRequestRegistry registry = instance;
+        if (registry == null) {
+            synchronized (LOCK) {
+                registry = instance;
+                if (registry == null) {
+                    registry = new ViewRequestRegistry();
+                    instance = registry;
+                }
+            }
         }
-        return instance;
+        return registry;
     }
 
     /**
@@ -60,7 +106,21 @@ public static boolean isRunning() {
     }
 
     private ViewRequestRegistry() {
-        m_requestMap = new HashMap<String, ViewResponseMonitor<? extends WizardViewResponse>>();
+        m_requestMap = new ConcurrentHashMap<String, RegisteredJob>();
+        m_sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "KNIME-ViewRequestRegistry-Sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long sweepInterval = Math.max(1000, Math.min(TTL_MILLIS / 4, 60000));
+        m_sweeper.scheduleWithFixedDelay(() -> evictExpiredJobs(System.currentTimeMillis()), sweepInterval,
+            sweepInterval, TimeUnit.MILLISECONDS);
+        m_rootListener = e -> {
+            if (e.getType() == WorkflowEvent.Type.NODE_REMOVED) {
+                removeJobsOfWorkflow(e.getID());
+            }
+        };
+        WorkflowManager.ROOT.addListener(m_rootListener);
     }
 
     /**
@@ -70,12 +130,34 @@ private ViewRequestRegistry() {
      * @param requestJob the job to add or update, not null
      * @return the previous job associated with the same id, or <tt>null</tt> if there was no mapping for the
      * id.
+     * @throws IllegalStateException if the maximum number of registered jobs is reached
      */
-    public synchronized ViewResponseMonitor<? extends WizardViewResponse>
+    public ViewResponseMonitor<? extends WizardViewResponse>
         addOrUpdateJob(final ViewResponseMonitor<? extends WizardViewResponse> requestJob) {
+        return addOrUpdateJob(requestJob, null);
+    }
+
+    /**
+     * Adds a job to the registry if the job with the current id does not exist yet. Otherwise updates an
+     * already registered job under that same id. The job is removed and cancelled once the owning workflow is
+     * closed or, if the owner is a node, once the page containing it is closed.
+     *
+     * @param requestJob the job to add or update, not null
+     * @param ownerID the id of the workflow or the node issuing the request, may be null
+     * @return the previous job associated with the same id, or <tt>null</tt> if there was no mapping for the
+     * id.
+     * @throws IllegalStateException if the maximum number of registered jobs is reached
+     * @since 4.2
+     */
+    public ViewResponseMonitor<? extends WizardViewResponse> addOrUpdateJob(
+        final ViewResponseMonitor<? extends WizardViewResponse> requestJob, final NodeID ownerID) {
         CheckUtils.checkNotNull(requestJob);
         CheckUtils.checkNotNull(requestJob.getId());
-        return m_requestMap.put(requestJob.getId(), requestJob);
+        if (!m_requestMap.containsKey(requestJob.getId()) && m_requestMap.size() >= MAX_JOBS) {
+            makeRoom();
+        }
+        RegisteredJob previous = m_requestMap.put(requestJob.getId(), new RegisteredJob(requestJob, ownerID));
+        return previous == null ? null : previous.m_job;
     }
 
     /**
@@ -83,8 +165,24 @@ private ViewRequestRegistry() {
      * @param jobID the id to get the request job for
      * @return the registered view request job, or null if no job is registered with the given id
      */
-    public synchronized ViewResponseMonitor<? extends WizardViewResponse> getJob(final String jobID) {
-        return m_requestMap.get(jobID);
+    public ViewResponseMonitor<? extends WizardViewResponse> getJob(final String jobID) {
+        RegisteredJob registered = m_requestMap.get(jobID);
+        if (registered == null) {
+            return null;
+        }
+        registered.touch(System.currentTimeMillis());
+        return registered.m_job;
+    }
+
+    /**
+     * Returns a view request job for a given id without counting it as an access by the requesting view, i.e. the
+     * job can still expire.
+     * @param jobID the id to get the request job for
+     * @return the registered view request job, or null if no job is registered with the given id
+     */
+    ViewResponseMonitor<? extends WizardViewResponse> peekJob(final String jobID) {
+        RegisteredJob registered = m_requestMap.get(jobID);
+        return registered == null ? null : registered.m_job;
     }
 
     /**
@@ -92,31 +190,105 @@ public synchronized ViewResponseMonitor<? extends WizardViewResponse> getJob(fin
      * @param jobID the job id of the job to remove
      * @return the removed job, or null if no job was registered with the given id
      */
-    public synchronized ViewResponseMonitor<? extends WizardViewResponse> removeJob(final String jobID) {
-        return m_requestMap.remove(jobID);
+    public ViewResponseMonitor<? extends WizardViewResponse> removeJob(final String jobID) {
+        RegisteredJob registered = m_requestMap.remove(jobID);
+        if (registered == null) {
+            return null;
+        }
+        if (registered.m_job.isCancelled()) {
+            m_cancelledJobs.increment();
+        } else if (registered.isDone()) {
+            m_completedJobs.increment();
+        }
+        return registered.m_job;
+    }
+
+    /**
+     * Removes and cancels all view request jobs which were registered for a given workflow or one of its children.
+     * @param workflowID the id of the workflow to remove the jobs for
+     * @return the number of removed jobs
+     * @since 4.2
+     */
+    public int removeJobsOfWorkflow(final NodeID workflowID) {
+        int removed = 0;
+        for (Map.Entry<String, RegisteredJob> entry : m_requestMap.entrySet()) {
+            NodeID owner = entry.getValue().m_ownerID;
+            if (owner != null && (owner.equals(workflowID) || owner.hasPrefix(workflowID))
+                && m_requestMap.remove(entry.getKey(), entry.getValue())) {
+                cancel(entry.getValue());
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes and cancels all view request jobs which were registered for nodes of a workflow that are not part of
+     * its current page, i.e. which belong to pages that were closed in the meantime.
+     * @param workflowID the id of the workflow showing the page
+     * @param currentPageID the id of the component of the page which is currently shown
+     * @return the number of removed jobs
+     * @since 4.2
+     */
+    public int removeJobsOfClosedPages(final NodeID workflowID, final NodeID currentPageID) {
+        int removed = 0;
+        for (Map.Entry<String, RegisteredJob> entry : m_requestMap.entrySet()) {
+            NodeID owner = entry.getValue().m_ownerID;
+            if (owner != null && owner.hasPrefix(workflowID) && !owner.equals(currentPageID)
+                && !owner.hasPrefix(currentPageID) && m_requestMap.remove(entry.getKey(), entry.getValue())) {
+                cancel(entry.getValue());
+                removed++;
+            }
+        }
+        return removed;
     }
 
     /**
      * Creates a {@link Stream} for all currently registered view request jobs.
      * @return a stream from all registered jobs
      */
-    public synchronized Stream<ViewResponseMonitor<? extends WizardViewResponse>> streamJobs() {
-        return m_requestMap.values().stream();
+    public Stream<ViewResponseMonitor<? extends WizardViewResponse>> streamJobs() {
+        return m_requestMap.values().stream().map(registered -> registered.m_job);
     }
 
     /**
      * @return the number of all currently registered view request jobs
      */
-    public synchronized int getNumberOfRegisteredJobs() {
+    public int getNumberOfRegisteredJobs() {
         return m_requestMap.size();
     }
 
+    /**
+     * @return the number of jobs which were removed after they finished or failed
+     * @since 4.2
+     */
+    public long getNumberOfCompletedJobs() {
+        return m_completedJobs.sum();
+    }
+
+    /**
+     * @return the number of jobs which were removed after they were cancelled
+     * @since 4.2
+     */
+    public long getNumberOfCancelledJobs() {
+        return m_cancelledJobs.sum();
+    }
+
+    /**
+     * @return the number of jobs which were evicted because they expired, the registry was full or their workflow
+     *         was closed
+     * @since 4.2
+     */
+    public long getNumberOfEvictedJobs() {
+        return m_evictedJobs.sum();
+    }
+
     /**
      * Tests if a view request job with a given id exists in the registry.
      * @param jobID the id of the job to test
      * @return true if a job is registered with the given id, false otherwise
      */
-    public synchronized boolean isJobRegistered(final String jobID) {
+    public boolean isJobRegistered(final String jobID) {
         return m_requestMap.containsKey(jobID);
     }
 
@@ -125,9 +297,117 @@ public synchronized boolean isJobRegistered(final String jobID) {
      * allocated resources.
      */
     public void teardown() {
-        m_requestMap.values().forEach(job -> job.cancel());
-        m_requestMap.clear();
-        instance = null;
+        synchronized (LOCK) {
+            m_sweeper.shutdownNow();
+            WorkflowManager.ROOT.removeListener(m_rootListener);
+            m_requestMap.values().forEach(registered -> registered.m_job.cancel());
+            m_requestMap.clear();
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ViewRequestRegistry[active=" + getNumberOfRegisteredJobs() + ", completed="
+            + getNumberOfCompletedJobs() + ", cancelled=" + getNumberOfCancelledJobs() + ", evicted="
+            + getNumberOfEvictedJobs() + "]";
+    }
+
+    /**
+     * Evicts and cancels all jobs without activity for longer than the time to live. A change of a job's state since
+     * the last sweep counts as activity at the given time.
+     *
+     * @param now the current time in milliseconds
+     */
+    void evictExpiredJobs(final long now) {
+        try {
+            for (Map.Entry<String, RegisteredJob> entry : m_requestMap.entrySet()) {
+                RegisteredJob registered = entry.getValue();
+                registered.observeState(now);
+                if (now - registered.m_lastActivity > TTL_MILLIS
+                    && m_requestMap.remove(entry.getKey(), registered)) {
+                    cancel(registered);
+                }
+            }
+        } catch (Throwable t) {
+            // never let an exception kill the periodic sweep
+            LOGGER.error("Could not evict expired view requests: " + t.getMessage(), t);
+        }
+    }
+
+    private void makeRoom() {
+        evictExpiredJobs(System.currentTimeMillis());
+        if (m_requestMap.size() < MAX_JOBS) {
+            return;
+        }
+        // evict the least recently accessed job which does not need to run anymore
+        List<Map.Entry<String, RegisteredJob>> done = new ArrayList<Map.Entry<String, RegisteredJob>>();
+        m_requestMap.entrySet().stream().filter(e -> e.getValue().isDone()).forEach(done::add);
+        done.sort((a, b) -> Long.compare(a.getValue().m_lastActivity, b.getValue().m_lastActivity));
+        for (Map.Entry<String, RegisteredJob> entry : done) {
+            if (m_requestMap.size() < MAX_JOBS) {
+                return;
+            }
+            if (m_requestMap.remove(entry.getKey(), entry.getValue())) {
+                m_evictedJobs.increment();
+            }
+        }
+        if (m_requestMap.size() >= MAX_JOBS) {
+            throw new IllegalStateException("Too many concurrent view requests (" + m_requestMap.size()
+                + "), please try again later.");
+        }
+    }
+
+    private void cancel(final RegisteredJob registered) {
+        if (!registered.isDone()) {
+            registered.m_job.cancel();
+        }
+        m_evictedJobs.increment();
+    }
+
+    private static final class RegisteredJob {
+
+        private final ViewResponseMonitor<? extends WizardViewResponse> m_job;
+
+        private final NodeID m_ownerID;
+
+        private volatile long m_lastActivity;
+
+        /* state of the job when it was last observed, see #getState */
+        private volatile int m_state;
+
+        private RegisteredJob(final ViewResponseMonitor<? extends WizardViewResponse> job, final NodeID ownerID) {
+            m_job = job;
+            m_ownerID = ownerID;
+            m_lastActivity = System.currentTimeMillis();
+            m_state = getState();
+        }
+
+        private void touch(final long now) {
+            m_lastActivity = Math.max(m_lastActivity, now);
+        }
+
+        private void observeState(final long now) {
+            int state = getState();
+            if (state != m_state) {
+                m_state = state;
+                touch(now);
+            }
+        }
+
+        private int getState() {
+            return (m_job.isCancelled() ? 1 : 0) | (m_job.isExecutionFailed() ? 2 : 0)
+                | (m_job.isExecutionFinished() ? 4 : 0) | (m_job.isResponseAvailable() ? 8 : 0);
+        }
+
+        private boolean isDone() {
+            return m_job.isCancelled() || m_job.isExecutionFailed() || m_job.isExecutionFinished();
+        }
     }
 
 }
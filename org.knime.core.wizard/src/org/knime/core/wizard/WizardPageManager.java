@@ -50,8 +50,18 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
@@ -61,15 +71,19 @@
 import org.knime.core.node.interactive.SimpleErrorViewResponse;
 import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.interactive.ViewResponseMonitor;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.ViewRequestExecutor;
 import org.knime.core.node.wizard.WizardViewRequestHandler;
 import org.knime.core.node.wizard.WizardViewRequestRunner;
 import org.knime.core.node.wizard.WizardViewResponse;
+import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.NodeID.NodeIDSuffix;
 import org.knime.core.node.workflow.WebResourceController;
 import org.knime.core.node.workflow.WebResourceController.WizardPageContent;
 import org.knime.core.node.workflow.WizardExecutionController;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowLock;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.js.core.JSONWebNodePage;
@@ -78,6 +92,7 @@
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
 /**
@@ -90,14 +105,62 @@
 public final class WizardPageManager extends AbstractPageManager implements ViewRequestExecutor<String>,
     WizardViewRequestHandler<SubnodeViewRequest, SubnodeViewResponse> {
 
+    /* one manager per workflow manager; managers reference their workflow manager, so they are only softly
+     * reachable from the pool and evicted explicitly once the workflow or a container around it is removed */
+    private static final Map<WorkflowManager, SoftReference<WizardPageManager>> INSTANCES =
+        Collections.synchronizedMap(new WeakHashMap<WorkflowManager, SoftReference<WizardPageManager>>());
+
+    /* registered on all ancestors of pooled workflow managers, references neither managers nor workflows */
+    private static final WorkflowListener EVICTION_LISTENER = e -> {
+        if (e.getType() == WorkflowEvent.Type.NODE_REMOVED) {
+            evict(e.getID());
+        }
+    };
+
+    /* configured once, mappers are thread safe and expensive to create for every status update */
+    private static final ObjectMapper MONITOR_MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    /* running view requests by job id, used to cancel superseded requests */
+    private static final Map<String, InFlightRequest> IN_FLIGHT_REQUESTS =
+        new ConcurrentHashMap<String, InFlightRequest>();
+
+    /* responses of running requests by workflow, node and request payload without its sequence, identical requests
+     * arriving while one is processed wait for and share its response */
+    private static final Map<String, CompletableFuture<String>> SHARED_RESPONSES =
+        new ConcurrentHashMap<String, CompletableFuture<String>>();
+
+    private static final String JSON_SEQUENCE = "sequence";
+
+    /* interval in milliseconds in which requests waiting for a shared response check for their cancellation */
+    private static final long SHARED_RESPONSE_POLL_INTERVAL = 100;
+
+    /* drops the running requests of workflows which are removed or closed */
+    private static final WorkflowListener IN_FLIGHT_LISTENER = e -> {
+        if (e.getType() == WorkflowEvent.Type.NODE_REMOVED) {
+            NodeID removedID = e.getID();
+            IN_FLIGHT_REQUESTS.values().removeIf(
+                inFlight -> inFlight.m_workflowID.equals(removedID) || inFlight.m_workflowID.hasPrefix(removedID));
+        }
+    };
+
     /**
-     * Returns a {@link WizardPageManager} instance for the given {@link WorkflowManager}
+     * Returns a {@link WizardPageManager} instance for the given {@link WorkflowManager}. Instances are pooled per
+     * {@link WorkflowManager} and released when the workflow, or the metanode or component containing it, is removed.
      * @param workflowManager the {@link WorkflowManager} to get the {@link WizardPageManager} instance for
      * @return a {@link WizardPageManager} of the given {@link WorkflowManager}
      */
     public static WizardPageManager of(final WorkflowManager workflowManager) {
-        // return new instance, could also be used to invoke a caching/pooling service in the future
-        return new WizardPageManager(workflowManager);
+        CheckUtils.checkArgumentNotNull(workflowManager);
+        synchronized (INSTANCES) {
+            SoftReference<WizardPageManager> ref = INSTANCES.get(workflowManager);
+            WizardPageManager manager = ref == null ? null : ref.get();
+            if (manager == null) {
+                manager = new WizardPageManager(workflowManager);
+                INSTANCES.put(workflowManager, new SoftReference<WizardPageManager>(manager));
+                registerEvictionListener(workflowManager);
+            }
+            return manager;
+        }
     }
 
     /**
@@ -109,6 +172,32 @@ private WizardPageManager(final WorkflowManager workflowManager) {
         super(workflowManager);
     }
 
+    private static void registerEvictionListener(final WorkflowManager workflowManager) {
+        // removing a node is announced by its parent only, so every ancestor up to the root is observed;
+        // addListener ignores listeners which are already registered
+        for (WorkflowManager parent = workflowManager.getParent(); parent != null; parent = parent.getParent()) {
+            parent.addListener(EVICTION_LISTENER);
+            if (parent == WorkflowManager.ROOT) {
+                break;
+            }
+        }
+    }
+
+    private static void evict(final NodeID removedID) {
+        synchronized (INSTANCES) {
+            INSTANCES.keySet().removeIf(wfm -> wfm.getID().equals(removedID) || wfm.getID().hasPrefix(removedID));
+        }
+    }
+
+    /**
+     * @param workflowManager the workflow manager to check
+     * @return true if a {@link WizardPageManager} is currently pooled for the given workflow manager
+     */
+    static boolean isPooled(final WorkflowManager workflowManager) {
+        SoftReference<WizardPageManager> ref = INSTANCES.get(workflowManager);
+        return ref != null && ref.get() != null;
+    }
+
     /**
      * Returns the underlying {@link WebResourceController} instance.
      *<br><br>
@@ -123,13 +212,19 @@ public WizardExecutionController getWizardExecutionController() {
     }
 
     /**
-     * Creates a wizard page for the current subnode in wizard execution
+     * Creates a wizard page for the current subnode in wizard execution. View requests still registered for nodes of
+     * other pages of the workflow are removed and cancelled, as those pages have been closed.
      * @return a {@link JSONWebNodePage} object which can be used for serialization
      * @throws IOException if the layout of the wizard page can not be generated
      */
     public JSONWebNodePage createCurrentWizardPage() throws IOException {
         WizardExecutionController wec = getWizardExecutionController();
         WizardPageContent page = wec.getCurrentWizardPage();
+        if (ViewRequestRegistry.isRunning() && page.getPageNodeID() != null) {
+            NodeID workflowID = getWorkflowManager().getID();
+            ViewRequestRegistry.getInstance().removeJobsOfClosedPages(workflowID,
+                page.getPageNodeID().prependParent(workflowID));
+        }
         return createWizardPageInternal(page);
     }
 
@@ -209,16 +304,22 @@ public String handleViewRequest(final String request) {
         ExecutionMonitor exec = new ExecutionMonitor();
         ViewResponseMonitor<SubnodeViewResponse> requestJob = null;
         int requestSequence = -1;
-        try (WorkflowLock lock = getWorkflowManager().lock()){
+        try {
             SubnodeViewRequest wrapperRequest = new SubnodeViewRequest();
             wrapperRequest.loadFromStream(new ByteArrayInputStream(request.getBytes("UTF-8")));
             requestSequence = wrapperRequest.getSequence();
+            cancelSupersededRequests(wrapperRequest);
+            NodeID ownerID = getOwnerID(wrapperRequest);
             requestJob = WizardViewRequestRunner.run(this, wrapperRequest, exec);
-            registry.addOrUpdateJob(requestJob);
+            registry.addOrUpdateJob(requestJob, ownerID);
+            registerInFlightRequest(requestJob, wrapperRequest, exec);
             return serializeResponseMonitor(requestJob);
         } catch (Exception ex) {
             if (requestJob != null) {
+                // job may have been rejected by the registry, make sure it does not keep running unobserved
+                requestJob.cancel();
                 registry.removeJob(requestJob.getId());
+                IN_FLIGHT_REQUESTS.remove(requestJob.getId());
             }
             if (requestSequence == -1) {
                 try {
@@ -229,6 +330,70 @@ public String handleViewRequest(final String request) {
         }
     }
 
+    /**
+     * @return the id of the node the request was issued for, so the job can be removed once its page is closed, or
+     *         the id of the workflow if the node id can not be resolved
+     */
+    private NodeID getOwnerID(final SubnodeViewRequest request) {
+        NodeID workflowID = getWorkflowManager().getID();
+        try {
+            return NodeIDSuffix.fromString(request.getNodeID()).prependParent(workflowID);
+        } catch (RuntimeException ex) {
+            // handling the request reports the invalid node id
+            return workflowID;
+        }
+    }
+
+    private void registerInFlightRequest(final ViewResponseMonitor<? extends WizardViewResponse> job,
+        final SubnodeViewRequest request, final ExecutionMonitor exec) {
+        WorkflowManager wfm = getWorkflowManager();
+        // addListener ignores listeners which are already registered
+        for (WorkflowManager parent = wfm.getParent(); parent != null; parent = parent.getParent()) {
+            parent.addListener(IN_FLIGHT_LISTENER);
+            if (parent == WorkflowManager.ROOT) {
+                break;
+            }
+        }
+        IN_FLIGHT_REQUESTS.put(job.getId(), new InFlightRequest(wfm.getID(), request, exec));
+        if (isDone(job)) {
+            // processing ended before the request was registered, see handleRequest
+            IN_FLIGHT_REQUESTS.remove(job.getId());
+        }
+    }
+
+    private static boolean isDone(final ViewResponseMonitor<? extends WizardViewResponse> job) {
+        return job.isCancelled() || job.isExecutionFailed() || job.isExecutionFinished();
+    }
+
+    /**
+     * Cancels the running jobs of the view which are superseded by the given request, if the request allows it.
+     * Entries of jobs which are not running anymore are discarded.
+     *
+     * @param request the newly received request
+     */
+    private void cancelSupersededRequests(final SubnodeViewRequest request) {
+        ViewRequestRegistry registry = ViewRequestRegistry.getInstance();
+        NodeID workflowID = getWorkflowManager().getID();
+        Iterator<Map.Entry<String, InFlightRequest>> it = IN_FLIGHT_REQUESTS.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, InFlightRequest> entry = it.next();
+            ViewResponseMonitor<? extends WizardViewResponse> job = registry.peekJob(entry.getKey());
+            if (job == null || isDone(job)) {
+                it.remove();
+                continue;
+            }
+            InFlightRequest inFlight = entry.getValue();
+            if (request.isSupersedePrevious() && inFlight.m_workflowID.equals(workflowID)
+                && Objects.equals(inFlight.m_nodeID, request.getNodeID())
+                && inFlight.m_sequence < request.getSequence()) {
+                // the job stays registered, so the view can still retrieve its cancelled state
+                job.cancel();
+                inFlight.m_exec.getProgressMonitor().setExecuteCanceled();
+                it.remove();
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      * @since 3.7
@@ -236,11 +401,122 @@ public String handleViewRequest(final String request) {
     @Override
     public SubnodeViewResponse handleRequest(final SubnodeViewRequest request, final ExecutionMonitor exec)
         throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        try {
+            ObjectNode jsonRequest = parseRequest(request.getJsonRequest());
+            if (jsonRequest == null) {
+                return new SubnodeViewResponse(request, request.getNodeID(), processRequest(request, exec));
+            }
+            JsonNode sequence = jsonRequest.remove(JSON_SEQUENCE);
+            String key = getWorkflowManager().getID() + "|" + request.getNodeID() + "|" + jsonRequest;
+            String jsonResponse = processSharedRequest(key, request, exec);
+            return new SubnodeViewResponse(request, request.getNodeID(), withSequence(jsonResponse, sequence));
+        } finally {
+            IN_FLIGHT_REQUESTS.values().removeIf(inFlight -> inFlight.m_exec == exec);
+        }
+    }
+
+    /**
+     * Processes the given request, unless an identical request is already being processed. In that case its response
+     * is shared. If the shared request fails because it was cancelled, e.g. by its own view, while the given request
+     * is still wanted, the given request is processed itself.
+     */
+    private String processSharedRequest(final String key, final SubnodeViewRequest request,
+        final ExecutionMonitor exec) throws ViewRequestHandlingException, InterruptedException,
+        CanceledExecutionException {
+        while (true) {
+            CompletableFuture<String> ownResponse = new CompletableFuture<String>();
+            CompletableFuture<String> sharedResponse = SHARED_RESPONSES.putIfAbsent(key, ownResponse);
+            if (sharedResponse == null) {
+                try {
+                    String response = processRequest(request, exec);
+                    ownResponse.complete(response);
+                    return response;
+                } catch (Throwable t) {
+                    ownResponse.completeExceptionally(t);
+                    throw t;
+                } finally {
+                    SHARED_RESPONSES.remove(key, ownResponse);
+                }
+            }
+            try {
+                return awaitSharedResponse(sharedResponse, exec);
+            } catch (CanceledExecutionException ex) {
+                // the shared request was cancelled, process the request unless it has been cancelled itself
+                exec.checkCanceled();
+            }
+        }
+    }
+
+    private static String awaitSharedResponse(final CompletableFuture<String> sharedResponse,
+        final ExecutionMonitor exec) throws ViewRequestHandlingException, InterruptedException,
+        CanceledExecutionException {
+        while (true) {
+            exec.checkCanceled();
+            try {
+                return sharedResponse.get(SHARED_RESPONSE_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                // check for cancellation again
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof ViewRequestHandlingException) {
+                    throw (ViewRequestHandlingException)cause;
+                } else if (cause instanceof CanceledExecutionException || cause instanceof InterruptedException) {
+                    throw new CanceledExecutionException(cause.getMessage());
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                } else if (cause instanceof Error) {
+                    throw (Error)cause;
+                }
+                throw new ViewRequestHandlingException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    private String processRequest(final SubnodeViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        ViewRequestSnapshot snapshot;
         try (WorkflowLock lock = getWorkflowManager().lock()) {
-            WizardExecutionController wec = getWizardExecutionController();
-            WizardViewResponse response =
-                wec.processViewRequestOnCurrentPage(request.getNodeID(), request.getJsonRequest(), exec);
-            return new SubnodeViewResponse(request, request.getNodeID(), serializeViewResponse(response));
+            WizardPageContent page = getWizardExecutionController().getCurrentWizardPage();
+            NodeID pageID = page.getPageNodeID().prependParent(getWorkflowManager().getID());
+            snapshot = createViewRequestSnapshot(pageID, request.getNodeID(), request.getJsonRequest());
+        }
+        // the request itself is processed without the lock, so it does not block page navigation or other requests
+        WizardViewResponse response = snapshot.process(exec);
+        return serializeViewResponse(response);
+    }
+
+    /**
+     * @return the request as JSON object, null if it can not be parsed as such
+     */
+    private static ObjectNode parseRequest(final String jsonRequest) {
+        if (jsonRequest == null) {
+            return null;
+        }
+        try {
+            JsonNode node = MONITOR_MAPPER.readTree(jsonRequest);
+            return node instanceof ObjectNode ? (ObjectNode)node : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the response with its sequence replaced by the given one, so that a shared response answers the
+     *         sequence of the respective request
+     */
+    private static String withSequence(final String jsonResponse, final JsonNode sequence) {
+        if (jsonResponse == null || sequence == null) {
+            return jsonResponse;
+        }
+        try {
+            JsonNode response = MONITOR_MAPPER.readTree(jsonResponse);
+            if (!(response instanceof ObjectNode) || sequence.equals(response.get(JSON_SEQUENCE))) {
+                return jsonResponse;
+            }
+            ((ObjectNode)response).set(JSON_SEQUENCE, sequence);
+            return MONITOR_MAPPER.writeValueAsString(response);
+        } catch (IOException ex) {
+            return jsonResponse;
         }
     }
 
@@ -255,10 +531,8 @@ public SubnodeViewRequest createEmptyViewRequest() {
 
     private static String serializeResponseMonitor(
         final ViewResponseMonitor<? extends WizardViewResponse> monitor) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new Jdk8Module());
         try {
-            return mapper.writeValueAsString(monitor);
+            return MONITOR_MAPPER.writeValueAsString(monitor);
         } catch (JsonProcessingException ex) {
             //log error?
             return null;
@@ -267,8 +541,7 @@ private static String serializeResponseMonitor(
 
     private static int tryGetSequenceFromRequest(final String jsonRequest) throws JsonProcessingException,
         IOException {
-    ObjectMapper mapper = new ObjectMapper();
-    JsonNode node = mapper.readTree(jsonRequest);
+    JsonNode node = MONITOR_MAPPER.readTree(jsonRequest);
     JsonNode sequenceNode = node.get("sequence");
     if (sequenceNode != null) {
         int sequence = sequenceNode.asInt(-1);
@@ -292,6 +565,7 @@ public String updateRequestStatus(final String monitorID) {
                 if (monitor.isCancelled() || monitor.isExecutionFailed()
                     || (monitor.isExecutionFinished() && monitor.isResponseAvailable())) {
                     registry.removeJob(monitor.getId());
+                    IN_FLIGHT_REQUESTS.remove(monitor.getId());
                 }
                 return serializeResponseMonitor(monitor);
             }
@@ -307,9 +581,32 @@ public String updateRequestStatus(final String monitorID) {
     public void cancelRequest(final String monitorID) {
         ViewRequestRegistry registry = ViewRequestRegistry.getInstance();
         if (registry.isJobRegistered(monitorID)) {
+            InFlightRequest inFlight = IN_FLIGHT_REQUESTS.remove(monitorID);
+            if (inFlight != null) {
+                inFlight.m_exec.getProgressMonitor().setExecuteCanceled();
+            }
             ViewResponseMonitor<? extends WizardViewResponse> job = registry.getJob(monitorID);
             job.cancel();
             registry.removeJob(monitorID);
         }
     }
+
+    private static final class InFlightRequest {
+
+        private final NodeID m_workflowID;
+
+        private final String m_nodeID;
+
+        private final int m_sequence;
+
+        private final ExecutionMonitor m_exec;
+
+        private InFlightRequest(final NodeID workflowID, final SubnodeViewRequest request,
+            final ExecutionMonitor exec) {
+            m_workflowID = workflowID;
+            m_nodeID = request.getNodeID();
+            m_sequence = request.getSequence();
+            m_exec = exec;
+        }
+    }
 }
@@ -206,6 +206,28 @@ window.seleniumKnimeBridge = (function () {
         signal(CANCEL_REQUEST + '-' + id);
     };
 
+    /* delivers a batch of view request events (monitor updates and responses) to the view in one call,
+     * events are given as JSON array of {method, content} */
+    bridge.pushRequestEvents = function (events) {
+        let frameWindow = document.getElementById(FRAME_ID).contentWindow;
+        if (!frameWindow.KnimeInteractivity) {
+            return;
+        }
+        // parse in the frame, the view receives objects of its own realm
+        frameWindow.JSON.parse(events).forEach(function (event) {
+            // a failing event must not keep the remaining events of the batch from being delivered
+            try {
+                frameWindow.KnimeInteractivity[event.method](event.content);
+            } catch (err) {
+                if (err.stack) {
+                    alert(err.stack);
+                } else {
+                    alert(err);
+                }
+            }
+        });
+    };
+
     bridge.respondToViewRequest = function (responseURL) {
         loadJSONFile(responseURL, function (response) {
             bridge.executeOnFrame('if (KnimeInteractivity) {KnimeInteractivity.respondToViewRequest(JSON.parse(\'' +
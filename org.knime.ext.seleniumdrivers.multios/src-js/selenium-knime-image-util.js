@@ -1,33 +1,59 @@
 window.knimeImageUtil = {};
 
-window.knimeImageUtil.loadJSONFile = function (url, callback) {
+window.knimeImageUtil.loadJSONFile = function (url, callback, errorCallback) {
     var httpRequest = new XMLHttpRequest();
     httpRequest.onreadystatechange = function () {
-        if (httpRequest.readyState === 4) {
-            // local requests leave status at 0
-            if (httpRequest.status === 200 || httpRequest.status === 0) {
-                var data = JSON.parse(httpRequest.responseText);
-                if (callback) {
-                    callback(data);
-                }
-            }
+        if (httpRequest.readyState !== 4) {
+            return;
         }
+        // local requests leave status at 0
+        if (httpRequest.status !== 200 && httpRequest.status !== 0) {
+            errorCallback('Could not load view data from ' + url + ' (status ' + httpRequest.status + ')');
+            return;
+        }
+        var data;
+        try {
+            data = JSON.parse(httpRequest.responseText);
+        } catch (err) {
+            errorCallback('Could not parse view data from ' + url + ': ' + err);
+            return;
+        }
+        callback(data);
     };
     httpRequest.open('GET', url);
     httpRequest.send();
 };
 
 window.knimeImageUtil.loadView = function (repURL, valURL, initCall) {
-    window.knimeImageUtil.loadJSONFile(repURL, function (rep) {
-        window.parsedRepresentation = rep;
-        if (window.parsedValue) {
+    // knimeViewInitPending is cleared once the init call has returned or loading the view data failed,
+    // the reason of a failure is kept in knimeImageUtil.initError
+    window.knimeViewInitPending = true;
+    window.knimeImageUtil.initError = null;
+    var loaded = 0;
+    var fail = function (msg) {
+        if (window.knimeViewInitPending) {
+            window.knimeImageUtil.initError = msg;
+            window.knimeViewInitPending = false;
+        }
+    };
+    var init = function () {
+        if (++loaded < 2 || !window.knimeViewInitPending) {
+            return;
+        }
+        try {
             eval(initCall);
+        } catch (err) {
+            fail('View initialization failed: ' + err);
+            return;
         }
-    });
+        window.knimeViewInitPending = false;
+    };
+    window.knimeImageUtil.loadJSONFile(repURL, function (rep) {
+        window.parsedRepresentation = rep;
+        init();
+    }, fail);
     window.knimeImageUtil.loadJSONFile(valURL, function (val) {
         window.parsedValue = val;
-        if (window.parsedRepresentation) {
-            eval(initCall);
-        }
-    });
+        init();
+    }, fail);
 };
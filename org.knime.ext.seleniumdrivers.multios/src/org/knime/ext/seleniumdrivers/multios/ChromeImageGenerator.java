@@ -57,6 +57,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -69,9 +71,11 @@
 import org.knime.core.node.web.WebViewContent;
 import org.knime.core.node.wizard.WizardNode;
 import org.knime.core.node.wizard.WizardViewCreator;
-import org.knime.core.util.FileUtil;
 import org.knime.js.core.AbstractImageGenerator;
 import org.knime.js.core.JSCorePlugin;
+import org.knime.js.core.JavaScriptViewCreator;
+import org.knime.js.core.ViewContentServer;
+import org.knime.js.core.ViewTempStore;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SessionNotCreatedException;
@@ -106,7 +110,12 @@
     private ChromeDriver m_driver;
     private File m_repTempFile;
     private File m_valTempFile;
+    private ViewContentServer m_contentServer;
+    private Path m_contentRoot;
+    private String m_repURL;
+    private String m_valURL;
     private File m_userDataDir;
+    private ChromeSessionPool.Session m_session;
 
     /**
      * @param nodeModel
@@ -133,6 +142,36 @@ protected ChromeDriver initDriver() {
      * @return
      */
     protected ChromeDriver initDriver(final boolean resolveChromium) {
+        try {
+            if (ChromeSessionPool.isEnabled()) {
+                // reuse a running browser, starting one is the most expensive part of generating an image
+                m_session = m_service.getSessionPool().acquire(resolveChromium);
+                m_driver = m_session == null ? null : m_session.getDriver();
+                return m_driver;
+            }
+            if (resolveChromium) {
+                m_userDataDir = m_service.getAndLockUserDataDir(true);
+            }
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOGGER.error("Could not initialize Chrome driver. " + e.getMessage(), e);
+            throw new SeleniumViewException("Could not initialize Chrome driver. " + e.getMessage(), e);
+        }
+        m_driver = createDriver(resolveChromium, m_userDataDir);
+        return m_driver;
+    }
+
+    /**
+     * Starts a new headless browser.
+     *
+     * @param resolveChromium true to start the bundled Chromium, false to start the browser set in the preferences
+     * @param userDataDir the user data directory to use for the bundled Chromium, ignored otherwise
+     * @return the driver, or null if the session could not be created
+     * @throws SeleniumViewException if the browser could not be started
+     */
+    static ChromeDriver createDriver(final boolean resolveChromium, final File userDataDir) {
         String os = Platform.getOS();
         Optional<String> chromeDriverPath = MultiOSDriverActivator.getBundledChromeDriverPath();
         if (!chromeDriverPath.isPresent()) {
@@ -157,8 +196,7 @@ protected ChromeDriver initDriver(final boolean resolveChromium) {
                 }
                 options.setBinary(cPath.get());
 
-                m_userDataDir = m_service.getAndLockUserDataDir(true);
-                options.addArguments("--user-data-dir=" + m_userDataDir.getAbsolutePath(), "--profile-directory=Default");
+                options.addArguments("--user-data-dir=" + userDataDir.getAbsolutePath(), "--profile-directory=Default");
                 /*options.addArguments("--no-default-browser-check", "--profiling-flush=1", "--no-session-id");
             options.addArguments("--no-first-run", "--no-experiments", "--noerrdialogs", "--bwsi");
             options.addArguments("--disable-breakpad", "--disable-infobars", "--disable-session-restore");*/
@@ -174,12 +212,12 @@ protected ChromeDriver initDriver(final boolean resolveChromium) {
             }
             options.setCapability(CapabilityType.UNEXPECTED_ALERT_BEHAVIOUR, UnexpectedAlertBehaviour.DISMISS);
 
-            m_driver = new ChromeDriver(options);
-            m_driver.manage().timeouts().implicitlyWait(VIEW_INIT_TIMEOUT, TimeUnit.SECONDS)
+            ChromeDriver driver = new ChromeDriver(options);
+            driver.manage().timeouts().implicitlyWait(VIEW_INIT_TIMEOUT, TimeUnit.SECONDS)
             .pageLoadTimeout(ChromeWizardNodeView.DEFAULT_TIMEOUT, TimeUnit.SECONDS)
             .setScriptTimeout(ChromeWizardNodeView.DEFAULT_TIMEOUT, TimeUnit.SECONDS);
 
-            return m_driver;
+            return driver;
         } catch (Exception e) {
             String errorMessage = "Could not initialize Chrome driver. ";
             if (e instanceof SessionNotCreatedException) {
@@ -192,7 +230,8 @@ protected ChromeDriver initDriver(final boolean resolveChromium) {
                 LOGGER.error(errorMessage + e.getMessage(), e);
                 Optional<String> additionalInfo = Optional.empty();
                 if (resolveChromium) {
-                    additionalInfo = m_service.tryRetrieveMissingSystemLibraries(MultiOSDriverActivator.getChromiumPath());
+                    additionalInfo = ChromeViewService.getInstance()
+                        .tryRetrieveMissingSystemLibraries(MultiOSDriverActivator.getChromiumPath());
                 }
                 StringBuilder displayString = new StringBuilder(errorMessage);
                 if (additionalInfo.isPresent()) {
@@ -207,12 +246,26 @@ protected ChromeDriver initDriver(final boolean resolveChromium) {
         }
     }
 
+    /**
+     * Creates a key identifying the browser options of sessions started with the current preferences.
+     *
+     * @param resolveChromium true for the bundled Chromium, false for the browser set in the preferences
+     * @return the key
+     */
+    static String getOptionsKey(final boolean resolveChromium) {
+        IPreferenceStore prefs = JSCorePlugin.getDefault().getPreferenceStore();
+        String binary = resolveChromium ? MultiOSDriverActivator.getChromiumPath().orElse("")
+            : prefs.getString(JSCorePlugin.P_HEADLESS_BROWSER_PATH);
+        return binary + "|" + prefs.getString(JSCorePlugin.P_HEADLESS_BROWSER_CLI_ARGS);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void generateView(final Long optionalWait, final ExecutionContext exec) throws Exception {
-        if (m_repTempFile == null || m_valTempFile == null) {
+        JavaScriptViewCreator<REP, VAL> streamingCreator = getStreamingViewCreator();
+        if (streamingCreator == null && (m_repURL == null || m_valURL == null)) {
             throw new SeleniumViewException("One or more mandatory temporary view files not present. "
                 + "View generation not possible.");
         }
@@ -223,61 +276,157 @@ public void generateView(final Long optionalWait, final ExecutionContext exec) t
             }
             //m_driver = initDriver();
 
-            T model = getNodeModel();
-            String viewPath = model.getViewHTMLPath();
-            if (viewPath == null || viewPath.isEmpty()) {
-                throw new SeleniumViewException("Node model returned no path to view HTML. Cannot initialize view.");
+            loadViewPage();
+            if (streamingCreator != null) {
+                // large view data is loaded from the content server by the init call, which maintains the pending flag
+                m_driver.executeScript(streamingCreator.createStreamedInitJSViewMethodCall(
+                    getNodeModel().getViewRepresentation(), getNodeModel().getViewValue()));
+            } else {
+                m_driver.executeScript("knimeImageUtil.loadView(arguments[0], arguments[1], arguments[2]);",
+                    m_repURL, m_valURL, createInitCall());
             }
-            m_driver.navigate().to(new File(viewPath).toURI().toString());
-            ChromeWizardNodeView.waitForDocumentReady(m_driver);
-            embedUtilFileInLoadedPage();
-
-            WizardViewCreator<REP, VAL> viewCreator = model.getViewCreator();
-            String repURL = m_repTempFile.toURI().toString();
-            String valURL = m_valTempFile.toURI().toString();
-            String initCall = viewCreator.wrapInTryCatch(viewCreator.createInitJSViewMethodCall(false, null, null));
-            m_driver.executeScript("knimeImageUtil.loadView(arguments[0], arguments[1], arguments[2]);",
-                repURL, valURL, initCall);
             if (exec != null) {
                 exec.setProgress(0.66);
             }
-            WebDriverWait wait = new WebDriverWait(m_driver, ChromeWizardNodeView.DEFAULT_TIMEOUT);
-            //wait until any element has been appended to body, which is not the service header
-            By anyNonKnimeElement = By.cssSelector("body > *:not(#knime-service-header)");
-            wait.until(driver -> ExpectedConditions.presenceOfElementLocated(anyNonKnimeElement));
-            //the wait seems to work unreliably, enforcing element present in implicit wait time
-            m_driver.findElements(anyNonKnimeElement);
-
-            //wait additional specified time to compensate for initial animation, etc.
-            if (optionalWait != null && optionalWait > 0L) {
-                int waitInS = (int) (optionalWait/1000);
-                final double interval = 0.33 / Math.max(1, waitInS);
+            waitForView(optionalWait, exec);
+            if (exec != null) {
+                exec.setProgress(1.0);
+            }
+        } catch (Exception e) {
+            cleanup();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsBatchGeneration() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateImages(final List<? extends Entry<REP, VAL>> items, final Long optionalWait,
+        final String methodCall, final ImageConsumer consumer, final ExecutionContext exec) throws Exception {
+        // the view data of the node model is not needed, every item brings its own
+        tryDeleteTempFiles();
+        try {
+            m_driver = initDriver();
+            if (m_driver == null) {
+                throw new SeleniumViewException("Chrome driver was not initialized. Image generation not possible.");
+            }
+            WizardViewCreator<REP, VAL> viewCreator = getNodeModel().getViewCreator();
+            String initCall = createInitCall();
+            for (int i = 0; i < items.size(); i++) {
                 if (exec != null) {
-                    String pString = "Waiting additional time.";
-                    if (waitInS > 0) {
-                        pString = "Waiting additional " + waitInS + " seconds.";
-                    }
-                    exec.setProgress(pString);
+                    exec.checkCanceled();
+                    exec.setProgress(i / (double)items.size(), "Rendering image " + (i + 1) + " of " + items.size());
                 }
-                Wait<WebDriver> timedWait = new FluentWait<WebDriver>(m_driver)
-                        .withTimeout(Duration.ofMillis(optionalWait))
-                        .pollingEvery(Duration.ofSeconds(1))
-                        .ignoring(NoSuchElementException.class);
+                Entry<REP, VAL> item = items.get(i);
+                Object image = null;
+                String errorText = null;
                 try {
-                    timedWait.until(driver -> {
-                        if (exec != null) {
-                            exec.setProgress(exec.getProgressMonitor().getProgress() + interval);
-                        }
-                        return null;
-                    });
-                } catch (Exception e) { /* do nothing */ }
+                    // views keep state in their namespace, in the knimeService and in listeners, so every item gets
+                    // a fresh document, the browser session and the cached view resources are reused
+                    loadViewPage();
+                    publishViewData(viewCreator.getViewRepresentationJSONString(item.getKey()),
+                        viewCreator.getViewValueJSONString(item.getValue()));
+                    m_driver.executeScript("knimeImageUtil.loadView(arguments[0], arguments[1], arguments[2]);",
+                        m_repURL, m_valURL, initCall);
+                    waitForView(optionalWait, null);
+                    image = m_driver.executeScript("return " + methodCall);
+                } catch (Exception e) {
+                    errorText = toImageException(e).getMessage();
+                    LOGGER.error("Rendering image " + (i + 1) + " failed: " + errorText, e);
+                } finally {
+                    tryDeleteTempFiles();
+                }
+                consumer.accept(i, image, errorText);
             }
             if (exec != null) {
                 exec.setProgress(1.0);
             }
-        } catch (Exception e) {
+        } finally {
             cleanup();
-            throw e;
+        }
+    }
+
+    /**
+     * @return the view creator of the node model if it can load the view data of a single image from the content
+     *         server itself, null if the data needs to be published by this generator
+     */
+    @SuppressWarnings("unchecked")
+    private JavaScriptViewCreator<REP, VAL> getStreamingViewCreator() {
+        WizardViewCreator<REP, VAL> viewCreator = getNodeModel().getViewCreator();
+        if (m_contentServer != null && viewCreator instanceof JavaScriptViewCreator) {
+            return (JavaScriptViewCreator<REP, VAL>)viewCreator;
+        }
+        return null;
+    }
+
+    private String createInitCall() {
+        WizardViewCreator<REP, VAL> viewCreator = getNodeModel().getViewCreator();
+        return viewCreator.wrapInTryCatch(viewCreator.createInitJSViewMethodCall(false, null, null));
+    }
+
+    /**
+     * Navigates to the view page of the node model and embeds the image utility functions.
+     */
+    private void loadViewPage() {
+        String viewPath = getNodeModel().getViewHTMLPath();
+        if (viewPath == null || viewPath.isEmpty()) {
+            throw new SeleniumViewException("Node model returned no path to view HTML. Cannot initialize view.");
+        }
+        m_driver.navigate().to(ChromeWizardNodeView.toViewURL(m_contentServer, m_contentRoot, new File(viewPath)));
+        ChromeWizardNodeView.waitForDocumentReady(m_driver);
+        embedUtilFileInLoadedPage();
+    }
+
+    /**
+     * Waits until the view data has been loaded and the init call of the view has returned, then until the view has
+     * appended content to the page and the optional additional wait time.
+     *
+     * @throws SeleniumViewException if the view data could not be loaded or the view could not be initialized
+     */
+    private void waitForView(final Long optionalWait, final ExecutionContext exec) {
+        WebDriverWait wait = new WebDriverWait(m_driver, ChromeWizardNodeView.DEFAULT_TIMEOUT);
+        //knimeImageUtil.loadView and the streamed init call clear the pending flag once init has returned or failed
+        wait.until(driver -> Boolean.FALSE.equals(
+            m_driver.executeScript("return window." + JavaScriptViewCreator.INIT_PENDING_VARIABLE + ";")));
+        Object initError = m_driver.executeScript("return knimeImageUtil.initError;");
+        if (initError != null) {
+            throw new SeleniumViewException(initError.toString());
+        }
+        //wait until any element has been appended to body, which is not the service header
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("body > *:not(#knime-service-header)")));
+
+        //wait additional specified time to compensate for initial animation, etc.
+        if (optionalWait != null && optionalWait > 0L) {
+            int waitInS = (int) (optionalWait/1000);
+            final double interval = 0.33 / Math.max(1, waitInS);
+            if (exec != null) {
+                String pString = "Waiting additional time.";
+                if (waitInS > 0) {
+                    pString = "Waiting additional " + waitInS + " seconds.";
+                }
+                exec.setProgress(pString);
+            }
+            Wait<WebDriver> timedWait = new FluentWait<WebDriver>(m_driver)
+                    .withTimeout(Duration.ofMillis(optionalWait))
+                    .pollingEvery(Duration.ofSeconds(1))
+                    .ignoring(NoSuchElementException.class);
+            try {
+                timedWait.until(driver -> {
+                    if (exec != null) {
+                        exec.setProgress(exec.getProgressMonitor().getProgress() + interval);
+                    }
+                    return null;
+                });
+            } catch (Exception e) { /* do nothing */ }
         }
     }
 
@@ -293,25 +442,32 @@ public Object retrieveImage(final String methodCall) throws Exception {
             Object image = m_driver.executeScript("return " + methodCall);
             return image;
         } catch (Exception e) {
-            String errorMessage = e.getMessage();
-            if (e instanceof WebDriverException) {
-                errorMessage = errorMessage.substring(0, errorMessage.indexOf('\n'));
-                try {
-                    ObjectMapper mapper = new ObjectMapper();
-                    JsonNode root = mapper.readTree(errorMessage);
-                    JsonNode errorNode = root.findValue("errorMessage");
-                    if (errorNode != null) {
-                        errorMessage = errorNode.asText();
-                    }
-                } catch (Exception e1) { /*do nothing*/ }
-            }
-            errorMessage = "Error retrieving image: " + errorMessage;
-            throw new IOException(errorMessage, e);
+            throw toImageException(e);
         } finally {
             cleanup();
         }
     }
 
+    private static IOException toImageException(final Exception e) {
+        String errorMessage = e.getMessage();
+        if (e instanceof WebDriverException && errorMessage != null) {
+            int lineEnd = errorMessage.indexOf('\n');
+            if (lineEnd >= 0) {
+                errorMessage = errorMessage.substring(0, lineEnd);
+            }
+            try {
+                ObjectMapper mapper = new ObjectMapper();
+                JsonNode root = mapper.readTree(errorMessage);
+                JsonNode errorNode = root.findValue("errorMessage");
+                if (errorNode != null) {
+                    errorMessage = errorNode.asText();
+                }
+            } catch (Exception e1) { /*do nothing*/ }
+        }
+        errorMessage = "Error retrieving image: " + errorMessage;
+        return new IOException(errorMessage, e);
+    }
+
     /**
      * Writes view representation and value to disk as temporary JSON files. Also copies a JS utility file to
      * the temporary location.
@@ -324,9 +480,7 @@ private void writeTempViewFiles(final REP viewRepresentation, final VAL viewValu
         final WizardViewCreator<REP, VAL> viewCreator) {
         // we can't pass data in directly, as Chromium seems to have a 2MB size limit for these calls
         // see https://bugs.chromium.org/p/chromedriver/issues/detail?id=1026
-        // workaround is writing to disk and passing as URLs to be fetched by AJAX call
-        String viewRepString = viewCreator.getViewRepresentationJSONString(viewRepresentation);
-        String viewValueString = viewCreator.getViewValueJSONString(viewValue);
+        // workaround is serving them from memory or writing to disk and passing as URLs to be fetched by AJAX call
         try {
             // force creation of temp directory, copy resources and create HTML stub and debug output
             getNodeModel().getViewHTMLPath();
@@ -334,28 +488,11 @@ private void writeTempViewFiles(final REP viewRepresentation, final VAL viewValu
             if (tempPath == null) {
                 throw new IllegalArgumentException("Temporary directory for view creation does not exist.");
             }
-            try {
-                if (m_repTempFile != null) {
-                    Files.deleteIfExists(m_repTempFile.toPath());
-                }
-                if (m_valTempFile != null) {
-                    Files.deleteIfExists(m_valTempFile.toPath());
-                }
-            } catch (IOException | SecurityException e) {
-                // log error but continue
-                LOGGER.error("Temporary view file could not be deleted: " + e.getMessage(), e);
-            }
-            m_repTempFile = FileUtil.createTempFile("imageRep_" + System.currentTimeMillis() + "_", ".json",
-                tempPath.toFile(), true);
-            m_valTempFile = FileUtil.createTempFile("imageVal_" + System.currentTimeMillis() + "_", ".json",
-                tempPath.toFile(), true);
-            try (BufferedWriter writer = Files.newBufferedWriter(m_repTempFile.toPath(), Charset.forName("UTF-8"))) {
-                writer.write(viewRepString);
-                writer.flush();
-            }
-            try (BufferedWriter writer = Files.newBufferedWriter(m_valTempFile.toPath(), Charset.forName("UTF-8"))) {
-                writer.write(viewValueString);
-                writer.flush();
+            m_contentServer = ChromeWizardNodeView.getContentServer();
+            m_contentRoot = tempPath;
+            if (getStreamingViewCreator() == null) {
+                publishViewData(viewCreator.getViewRepresentationJSONString(viewRepresentation),
+                    viewCreator.getViewValueJSONString(viewValue));
             }
         } catch (IOException e) {
             // handle exception further up
@@ -363,6 +500,36 @@ private void writeTempViewFiles(final REP viewRepresentation, final VAL viewValu
         }
     }
 
+    /**
+     * Makes view representation and value available under {@link #m_repURL} and {@link #m_valURL}, replacing
+     * previously published data.
+     */
+    private void publishViewData(final String viewRepString, final String viewValueString) throws IOException {
+        tryDeleteTempFiles();
+        if (m_contentServer != null) {
+            m_repURL = m_contentServer.registerContent(viewRepString, ChromeWizardNodeView.JSON_MIME_TYPE);
+            m_valURL = m_contentServer.registerContent(viewValueString, ChromeWizardNodeView.JSON_MIME_TYPE);
+            return;
+        }
+        ViewTempStore tempStore = ViewTempStore.getInstance();
+        m_repTempFile = tempStore.createTempFile(this, "imageRep_" + System.currentTimeMillis() + "_", ".json",
+            m_contentRoot.toFile());
+        m_valTempFile = tempStore.createTempFile(this, "imageVal_" + System.currentTimeMillis() + "_", ".json",
+            m_contentRoot.toFile());
+        try (BufferedWriter writer = Files.newBufferedWriter(m_repTempFile.toPath(), Charset.forName("UTF-8"))) {
+            writer.write(viewRepString);
+            writer.flush();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(m_valTempFile.toPath(), Charset.forName("UTF-8"))) {
+            writer.write(viewValueString);
+            writer.flush();
+        }
+        tempStore.touch(m_repTempFile);
+        tempStore.touch(m_valTempFile);
+        m_repURL = m_repTempFile.toURI().toString();
+        m_valURL = m_valTempFile.toURI().toString();
+    }
+
     private void embedUtilFileInLoadedPage() {
         if (m_driver == null) {
             return;
@@ -397,6 +564,13 @@ private void embedUtilFileInLoadedPage() {
     @Override
     public void cleanup() {
         tryDeleteTempFiles();
+        if (m_session != null) {
+            // return the browser to the pool instead of quitting it
+            m_service.getSessionPool().release(m_session);
+            m_session = null;
+            m_driver = null;
+            return;
+        }
         try {
             if (m_driver != null) {
                 m_driver.quit();
@@ -419,18 +593,16 @@ public void cleanup() {
      * Tries to delete current temporary files. Potential errors are ignored.
      */
     private void tryDeleteTempFiles() {
-        try {
-            if (m_repTempFile != null && m_repTempFile.exists()) {
-                m_repTempFile.delete();
-                m_repTempFile = null;
-            }
-        } catch (Exception e) { /* continue */ }
-        try {
-            if (m_valTempFile != null && m_valTempFile.exists()) {
-                m_valTempFile.delete();
-                m_valTempFile = null;
-            }
-        } catch (Exception e) { /* continue */ }
+        if (m_contentServer != null) {
+            m_contentServer.unregisterContent(m_repURL);
+            m_contentServer.unregisterContent(m_valURL);
+        }
+        m_repURL = null;
+        m_valURL = null;
+        ViewTempStore.getInstance().delete(m_repTempFile);
+        ViewTempStore.getInstance().delete(m_valTempFile);
+        m_repTempFile = null;
+        m_valTempFile = null;
     }
 
 }
@@ -0,0 +1,406 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.ext.seleniumdrivers.multios;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+/**
+ * Pool of live headless Chrome/Chromium sessions for image generation. Starting the browser process is by far the
+ * most expensive part of rendering a single image, sessions are therefore kept alive between renders instead of being
+ * quit after every image.
+ * <p>
+ * Every render gets a freshly opened tab, which is closed again when the session is released, so views never share
+ * JavaScript state. Idle sessions are health checked before they are handed out and are recycled
+ * <ul>
+ * <li>after <code>knime.js.chromiumMaxRenders</code> renders (default 100)</li>
+ * <li>if the JavaScript heap of a rendered page exceeded <code>knime.js.chromiumMaxHeap</code> MB (default 512)</li>
+ * <li>if they have been idle for more than <code>knime.js.chromiumSessionMaxIdle</code> seconds (default 300)</li>
+ * <li>if the headless browser preferences changed after they have been started</li>
+ * </ul>
+ * <code>knime.js.chromiumWarmSessions</code> bundled Chromium sessions (default 0) are started in the background when
+ * the plug-in is activated, e.g. on executor start, and are kept even if idle. Pooling can be disabled with
+ * <code>-Dknime.js.disableChromiumSessionPool=true</code>.
+ *
+ * @author agent
+ */
+final class ChromeSessionPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ChromeSessionPool.class);
+
+    private static final boolean ENABLED = !Boolean.getBoolean("knime.js.disableChromiumSessionPool");
+
+    private static final int MAX_RENDERS = Integer.getInteger("knime.js.chromiumMaxRenders", 100);
+
+    private static final long MAX_HEAP = Long.getLong("knime.js.chromiumMaxHeap", 512) * 1024 * 1024;
+
+    private static final long MAX_IDLE =
+        TimeUnit.SECONDS.toMillis(Long.getLong("knime.js.chromiumSessionMaxIdle", 300));
+
+    private static final int WARM_SESSIONS = Math.min(Integer.getInteger("knime.js.chromiumWarmSessions", 0),
+        ChromeViewService.IMAGE_GENERATION_POOL_SIZE);
+
+    private static final long SWEEP_INTERVAL = 30;
+
+    /* time to wait for a free Chromium instance before checking again for released sessions */
+    private static final long INSTANCE_POLL_INTERVAL = 1;
+
+    private static final String HEAP_SIZE_SCRIPT = "return window.performance && window.performance.memory "
+        + "? window.performance.memory.usedJSHeapSize : 0;";
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "try {window.localStorage.clear(); window.sessionStorage.clear();} catch (e) {}";
+
+    private final ChromeViewService m_service;
+
+    /* idle sessions, most recently used first */
+    private final Deque<Session> m_idle = new ArrayDeque<Session>();
+
+    private final ScheduledExecutorService m_executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "KNIME Chromium session pool");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private boolean m_shutdown;
+
+    ChromeSessionPool(final ChromeViewService service) {
+        m_service = service;
+        m_executor.scheduleWithFixedDelay(this::closeIdleSessions, SWEEP_INTERVAL, SWEEP_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return true if image generation should use pooled sessions
+     */
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Hands out a healthy idle session or starts a new one. The returned session has a new, empty tab selected and
+     * needs to be given back with {@link #release(Session)}.
+     *
+     * @param chromium true for the bundled Chromium, false for the Chrome installation set in the preferences
+     * @return the session or null if the browser could not be started
+     * @throws IOException if the user data directory for Chromium could not be created
+     * @throws InterruptedException if interrupted while waiting for a free Chromium instance
+     */
+    Session acquire(final boolean chromium) throws IOException, InterruptedException {
+        String optionsKey = ChromeImageGenerator.getOptionsKey(chromium);
+        while (true) {
+            Session session;
+            while ((session = pollIdle(chromium, optionsKey)) != null) {
+                try {
+                    session.checkHealth();
+                    session.openTab();
+                    LOGGER.debug("Reusing headless browser session (" + session.m_renderCount + " renders).");
+                    return session;
+                } catch (Exception e) {
+                    LOGGER.debug("Discarding unresponsive headless browser session: " + e.getMessage(), e);
+                    close(session);
+                }
+            }
+            File userDataDir = null;
+            if (chromium) {
+                // only wait a short time, sessions might be released to the pool in the meantime
+                userDataDir = m_service.tryGetAndLockImageGenerationUserDataDir(INSTANCE_POLL_INTERVAL,
+                    TimeUnit.SECONDS);
+                if (userDataDir == null) {
+                    continue;
+                }
+            }
+            session = createSession(chromium, optionsKey, userDataDir);
+            if (session != null) {
+                try {
+                    session.openTab();
+                } catch (RuntimeException e) {
+                    close(session);
+                    throw e;
+                }
+            }
+            return session;
+        }
+    }
+
+    /**
+     * Closes the tab used for rendering and returns the session to the pool, or quits it if it needs to be recycled.
+     *
+     * @param session the session to release
+     */
+    void release(final Session session) {
+        session.m_renderCount++;
+        boolean recycle = session.m_renderCount >= MAX_RENDERS;
+        try {
+            Object heapSize = session.m_driver.executeScript(HEAP_SIZE_SCRIPT);
+            if (heapSize instanceof Number && ((Number)heapSize).longValue() > MAX_HEAP) {
+                LOGGER.debug("Recycling headless browser session, JavaScript heap size exceeded "
+                    + (MAX_HEAP / 1024 / 1024) + " MB.");
+                recycle = true;
+            }
+            session.closeTab();
+        } catch (Exception e) {
+            LOGGER.debug("Recycling headless browser session, closing the render tab failed: " + e.getMessage(), e);
+            recycle = true;
+        }
+        if (recycle) {
+            close(session);
+        } else {
+            offer(session);
+        }
+    }
+
+    /**
+     * Starts the configured number of warm Chromium sessions in the background.
+     */
+    void warmUp() {
+        if (!ENABLED || WARM_SESSIONS <= 0 || !MultiOSDriverActivator.getChromiumPath().isPresent()) {
+            return;
+        }
+        m_executor.execute(() -> {
+            String optionsKey = ChromeImageGenerator.getOptionsKey(true);
+            List<Session> sessions = new ArrayList<Session>(WARM_SESSIONS);
+            try {
+                for (int i = 0; i < WARM_SESSIONS; i++) {
+                    File userDataDir = m_service.tryGetAndLockImageGenerationUserDataDir(0, TimeUnit.SECONDS);
+                    if (userDataDir == null) {
+                        break;
+                    }
+                    Session session = createSession(true, optionsKey, userDataDir);
+                    if (session == null) {
+                        break;
+                    }
+                    sessions.add(session);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Could not start headless Chromium sessions for image generation: " + e.getMessage(), e);
+            }
+            LOGGER.debug("Started " + sessions.size() + " headless Chromium sessions for image generation.");
+            sessions.forEach(this::offer);
+        });
+    }
+
+    /**
+     * Quits all idle sessions. Sessions released afterwards are quit immediately.
+     */
+    void shutdown() {
+        List<Session> sessions;
+        synchronized (m_idle) {
+            m_shutdown = true;
+            sessions = new ArrayList<Session>(m_idle);
+            m_idle.clear();
+        }
+        sessions.forEach(this::close);
+        m_executor.shutdownNow();
+    }
+
+    private void offer(final Session session) {
+        Session evicted = session;
+        synchronized (m_idle) {
+            if (!m_shutdown) {
+                session.m_lastUsed = System.currentTimeMillis();
+                m_idle.push(session);
+                evicted = m_idle.size() > ChromeViewService.IMAGE_GENERATION_POOL_SIZE ? m_idle.removeLast() : null;
+            }
+        }
+        if (evicted != null) {
+            close(evicted);
+        }
+    }
+
+    private Session pollIdle(final boolean chromium, final String optionsKey) {
+        List<Session> stale = new ArrayList<Session>();
+        Session result = null;
+        synchronized (m_idle) {
+            for (Iterator<Session> it = m_idle.iterator(); it.hasNext();) {
+                Session session = it.next();
+                if (session.m_chromium == chromium) {
+                    it.remove();
+                    if (session.m_optionsKey.equals(optionsKey)) {
+                        result = session;
+                        break;
+                    }
+                    // started with different preferences
+                    stale.add(session);
+                }
+            }
+        }
+        stale.forEach(this::close);
+        return result;
+    }
+
+    private Session createSession(final boolean chromium, final String optionsKey, final File userDataDir) {
+        ChromeDriver driver = null;
+        try {
+            driver = ChromeImageGenerator.createDriver(chromium, userDataDir);
+            return driver == null ? null : new Session(driver, userDataDir, chromium, optionsKey);
+        } finally {
+            if (driver == null && userDataDir != null) {
+                m_service.unlockUserDataDir(userDataDir, true);
+            }
+        }
+    }
+
+    private void closeIdleSessions() {
+        long expiry = System.currentTimeMillis() - MAX_IDLE;
+        List<Session> expired = new ArrayList<Session>();
+        synchronized (m_idle) {
+            int warmSessions = 0;
+            for (Iterator<Session> it = m_idle.iterator(); it.hasNext();) {
+                Session session = it.next();
+                if (session.m_chromium && warmSessions < WARM_SESSIONS) {
+                    warmSessions++;
+                } else if (session.m_lastUsed < expiry) {
+                    it.remove();
+                    expired.add(session);
+                }
+            }
+        }
+        expired.forEach(this::close);
+    }
+
+    private void close(final Session session) {
+        try {
+            session.m_driver.quit();
+            if (session.m_userDataDir != null) {
+                m_service.unlockUserDataDir(session.m_userDataDir, true);
+            }
+        } catch (Throwable t) {
+            /* continue, the browser might be unavailable or unresponsive */
+            LOGGER.error("Could not shutdown headless Chromium browser. The process might still be "
+                + "existing in the system and require manual shutdown.", t);
+            if (session.m_userDataDir != null) {
+                m_service.tryDeleteUserDataDir(session.m_userDataDir, true);
+            }
+        }
+    }
+
+    /**
+     * A live browser session, owned by the pool while idle and by a single image generator while rendering.
+     */
+    static final class Session {
+
+        private final ChromeDriver m_driver;
+
+        private final File m_userDataDir;
+
+        private final boolean m_chromium;
+
+        private final String m_optionsKey;
+
+        /* the initial tab, kept open while idle so the browser does not exit */
+        private final String m_baseHandle;
+
+        private String m_tabHandle;
+
+        private int m_renderCount;
+
+        private long m_lastUsed;
+
+        private Session(final ChromeDriver driver, final File userDataDir, final boolean chromium,
+            final String optionsKey) {
+            m_driver = driver;
+            m_userDataDir = userDataDir;
+            m_chromium = chromium;
+            m_optionsKey = optionsKey;
+            m_baseHandle = driver.getWindowHandle();
+        }
+
+        /**
+         * @return the driver of this session
+         */
+        ChromeDriver getDriver() {
+            return m_driver;
+        }
+
+        private void checkHealth() {
+            m_driver.switchTo().window(m_baseHandle);
+            m_driver.executeScript("return document.readyState;");
+        }
+
+        private void openTab() {
+            Set<String> handles = m_driver.getWindowHandles();
+            m_driver.switchTo().window(m_baseHandle);
+            m_driver.executeScript("window.open('about:blank', '_blank');");
+            for (String handle : m_driver.getWindowHandles()) {
+                if (!handles.contains(handle)) {
+                    m_tabHandle = handle;
+                    m_driver.switchTo().window(handle);
+                    return;
+                }
+            }
+            // the tab could not be opened, render in the base tab instead
+            m_tabHandle = null;
+        }
+
+        private void closeTab() {
+            // local storage is shared between tabs of the same origin
+            m_driver.executeScript(CLEAR_STORAGE_SCRIPT);
+            if (m_tabHandle != null) {
+                m_driver.switchTo().window(m_tabHandle);
+                m_driver.close();
+                m_tabHandle = null;
+                m_driver.switchTo().window(m_baseHandle);
+            } else {
+                m_driver.navigate().to("about:blank");
+            }
+        }
+    }
+}
@@ -61,12 +61,12 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.apache.commons.io.FileUtils;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.util.FileUtil;
+import org.knime.js.core.ViewTempStore;
 import org.openqa.selenium.chrome.ChromeDriver;
 
 /**
@@ -99,17 +99,23 @@ public class ChromeViewService {
     private ThreadGroup m_cometThreadGroup;
 	private final Map<File, AtomicBoolean> m_userDirMap;
 	private final Semaphore m_imageGenerationCounter;
+	private final ChromeSessionPool m_sessionPool;
 
 	/* hidden default constructor */
 	private ChromeViewService() {
 	    m_userDirMap = new ConcurrentHashMap<File, AtomicBoolean>();
 	    m_imageGenerationCounter = new Semaphore(IMAGE_GENERATION_POOL_SIZE, true);
+	    m_sessionPool = new ChromeSessionPool(this);
 	}
 
 	static ChromeViewService getInstance() {
 		return INSTANCE;
 	}
 
+	ChromeSessionPool getSessionPool() {
+	    return m_sessionPool;
+	}
+
 	boolean registerDriver(final ChromeDriver driver) {
 		return m_drivers.add(driver);
 	}
@@ -119,6 +125,7 @@ boolean unregisterDriver(final ChromeDriver driver) {
 	}
 
 	void shutdown() {
+	    m_sessionPool.shutdown();
 		for (Iterator<ChromeDriver> iterator = m_drivers.iterator(); iterator.hasNext();) {
 			ChromeDriver driver = iterator.next();
 			try {
@@ -214,10 +221,42 @@ File getAndLockUserDataDir(final boolean imageGeneration) throws IOException, In
             LOGGER.debug("Acquiring Chromium image generation instance (" + m_imageGenerationCounter.availablePermits()
                 + " left available of " + IMAGE_GENERATION_POOL_SIZE + ").");
 	    }
+	    return lockUserDataDir();
+	}
+
+	/**
+	 * Acquires a Chromium image generation instance and locks a user data directory for it, waiting at most the given
+	 * time for an instance to become available.
+	 * @param timeout the maximum time to wait
+	 * @param unit the unit of the timeout
+	 * @return the locked directory or null if no instance became available in time
+	 * @throws IOException if a new directory could not be created
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	File tryGetAndLockImageGenerationUserDataDir(final long timeout, final TimeUnit unit)
+	    throws IOException, InterruptedException {
+	    if (!m_imageGenerationCounter.tryAcquire(timeout, unit)) {
+	        return null;
+	    }
+	    LOGGER.debug("Acquiring Chromium image generation instance (" + m_imageGenerationCounter.availablePermits()
+	        + " left available of " + IMAGE_GENERATION_POOL_SIZE + ").");
+	    try {
+	        return lockUserDataDir();
+	    } catch (IOException e) {
+	        m_imageGenerationCounter.release();
+	        throw e;
+	    }
+	}
+
+	private File lockUserDataDir() throws IOException {
 	    // try recycling an available existing directory
 	    for (Entry<File, AtomicBoolean> entry : m_userDirMap.entrySet()) {
 	        if (entry.getValue().compareAndSet(false, true)) {
-	            return entry.getKey();
+	            if (ViewTempStore.getInstance().retain(entry.getKey())) {
+	                return entry.getKey();
+	            }
+	            // removed by the temp store in the meantime
+	            m_userDirMap.remove(entry.getKey());
 	        }
 	    }
 
@@ -233,6 +272,7 @@ void unlockUserDataDir(final File dir) {
 
 	void unlockUserDataDir(final File dir, final boolean imageGeneration) {
 	    if (m_userDirMap.containsKey(dir)) {
+	        ViewTempStore.getInstance().release(dir);
 	        m_userDirMap.get(dir).set(false);
 	    }
 	    if (imageGeneration) {
@@ -246,11 +286,7 @@ void tryDeleteUserDataDir(final File dir, final boolean imageGeneration) {
 	    if (m_userDirMap.containsKey(dir)) {
             m_userDirMap.remove(dir);
         }
-	    try {
-	        FileUtils.deleteDirectory(dir);
-	    } catch (Exception e) {
-	        /* nothing to do */
-	    }
+	    ViewTempStore.getInstance().delete(dir);
 	    if (imageGeneration) {
 	        m_imageGenerationCounter.release();
 	        LOGGER.debug("Releasing Chromium image generation instance (" + m_imageGenerationCounter.availablePermits()
@@ -258,10 +294,10 @@ void tryDeleteUserDataDir(final File dir, final boolean imageGeneration) {
 	    }
 	}
 
-	private static File createUserDataDir() throws IOException {
+	private File createUserDataDir() throws IOException {
         /* Make sure that bundled Chromium instances us a different user directory and profile, than
-        other potentially installed Chrome/Chromium applications. */
-	    //TODO: limit maximum? intermediate cleanup? don't use regular temp dir?
-	    return FileUtil.createTempDir("knime_chromium_data");
+        other potentially installed Chrome/Chromium applications. Unused directories are removed by the temp store
+        once they are idle for too long or exceed its quota. */
+	    return ViewTempStore.getInstance().createTempDir(this, "knime_chromium_data", m_userDirMap::remove);
     }
 }
@@ -58,10 +58,15 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -84,6 +89,7 @@
 import org.knime.core.util.FileUtil;
 import org.knime.core.wizard.SubnodeViewableModel;
 import org.knime.js.core.JSCorePlugin;
+import org.knime.js.core.ViewContentServer;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.SessionNotCreatedException;
@@ -132,6 +138,21 @@
 
     private static final int DEFAULT_HEIGHT = 768;
 
+    /* time in ms view request events are collected before they are pushed to the view in one batch */
+    private static final int PUSH_INTERVAL = 20;
+
+    private static final int MAX_INLINE_PUSH_LENGTH = 500000;
+
+    static final String JSON_MIME_TYPE = "application/json; charset=utf-8";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ScheduledExecutorService PUSH_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "KNIME-Chromium-Request-Push");
+        t.setDaemon(true);
+        return t;
+    });
+
     private final Object LOCK = new Object();
 
     private final ChromeViewService m_service;
@@ -152,10 +173,26 @@
 
     private File m_lastResponseTempFile;
 
+    /* server for view HTML and data, null if disabled, in which case everything is loaded from file URLs */
+    private ViewContentServer m_contentServer;
+
+    private Path m_contentRoot;
+
+    private String m_repURL;
+
+    private String m_valURL;
+
+    private String m_lastResponseURL;
+
     private File m_userDataDir;
 
     private String m_viewTitle = "KNIME View";
 
+    /* view request events waiting to be pushed to the view, in the order they were received */
+    private final Deque<RequestEvent> m_pendingRequestEvents = new ArrayDeque<RequestEvent>();
+
+    private final AtomicBoolean m_pushScheduled = new AtomicBoolean(false);
+
     /**
      * Instantiates a new view instance
      *
@@ -192,6 +229,9 @@ protected void closeView() {
                 /* continue shutdown */ }
         }
         cancelOutstandingViewRequests();
+        synchronized (m_pendingRequestEvents) {
+            m_pendingRequestEvents.clear();
+        }
         if (getViewableModel() instanceof SubnodeViewableModel) {
             ((SubnodeViewableModel)getViewableModel()).discard();
         }
@@ -305,7 +345,7 @@ protected String initDriver(final int left, final int top, final int width, fina
         }
         try {
             ChromeOptions options = new ChromeOptions();
-            options.addArguments("--app=" + m_bridgeTempFile.toURI().toString());
+            options.addArguments("--app=" + toViewURL(m_contentServer, m_contentRoot, m_bridgeTempFile));
             options.addArguments("--window-size=" + width + "," + height);
             options.addArguments("--window-position=" + left + "," + top);
             //options.addArguments("--disable-infobars");
@@ -427,14 +467,12 @@ private static boolean testChromePresent() {
     private void initView(final boolean forceFocus) {
         initializeCometQuery();
         WizardViewCreator<REP, VAL> viewCreator = getModel().getViewCreator();
-        String viewURL = new File(getModel().getViewHTMLPath()).toURI().toString();
-        String repURL = m_repTempFile.toURI().toString();
-        String valURL = m_valTempFile.toURI().toString();
+        String viewURL = toViewURL(m_contentServer, m_contentRoot, new File(getModel().getViewHTMLPath()));
         String initCall = viewCreator.wrapInTryCatch(viewCreator.createInitJSViewMethodCall(false, null, null));
         // pass arguments 'nicely' to init method
         executeScript(
             "seleniumKnimeBridge.initView(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]);",
-            viewURL, repURL, valURL, m_viewTitle, initCall);
+            viewURL, m_repURL, m_valURL, m_viewTitle, initCall);
         if (forceFocus) {
             m_driver.switchTo().window(m_windowHandle);
         }
@@ -454,7 +492,7 @@ private void writeTempViewFiles(final REP viewRepresentation, final VAL viewValu
         final WizardViewCreator<REP, VAL> viewCreator, final Path bridgePath) {
         // we can't pass data in directly, as chrome seems to have a 2MB size limit for these calls
         // see https://bugs.chromium.org/p/chromedriver/issues/detail?id=1026
-        // workaround is writing to disk and passing as urls to be fetched by AJAX call
+        // workaround is serving them from memory or writing to disk and passing as urls to be fetched by AJAX call
         String viewRepString = viewCreator.getViewRepresentationJSONString(viewRepresentation);
         String viewValueString = viewCreator.getViewValueJSONString(viewValue);
         try {
@@ -475,10 +513,33 @@ private void writeTempViewFiles(final REP viewRepresentation, final VAL viewValu
                 // log error but continue
                 LOGGER.error("Temporary view file could not be deleted: " + e.getMessage(), e);
             }
-            m_repTempFile =
-                FileUtil.createTempFile("rep_" + System.currentTimeMillis() + "_", ".json", tempPath.toFile(), true);
-            m_valTempFile =
-                FileUtil.createTempFile("val_" + System.currentTimeMillis() + "_", ".json", tempPath.toFile(), true);
+            m_contentServer = getContentServer();
+            m_contentRoot = tempPath;
+            if (m_contentServer != null) {
+                m_contentServer.unregisterContent(m_repURL);
+                m_contentServer.unregisterContent(m_valURL);
+                m_repTempFile = null;
+                m_valTempFile = null;
+                m_repURL = m_contentServer.registerContent(viewRepString, JSON_MIME_TYPE);
+                m_valURL = m_contentServer.registerContent(viewValueString, JSON_MIME_TYPE);
+            } else {
+                m_repTempFile = FileUtil.createTempFile("rep_" + System.currentTimeMillis() + "_", ".json",
+                    tempPath.toFile(), true);
+                m_valTempFile = FileUtil.createTempFile("val_" + System.currentTimeMillis() + "_", ".json",
+                    tempPath.toFile(), true);
+                try (BufferedWriter writer =
+                    Files.newBufferedWriter(m_repTempFile.toPath(), Charset.forName("UTF-8"))) {
+                    writer.write(viewRepString);
+                    writer.flush();
+                }
+                try (BufferedWriter writer =
+                    Files.newBufferedWriter(m_valTempFile.toPath(), Charset.forName("UTF-8"))) {
+                    writer.write(viewValueString);
+                    writer.flush();
+                }
+                m_repURL = m_repTempFile.toURI().toString();
+                m_valURL = m_valTempFile.toURI().toString();
+            }
             m_bridgeTempFile = null;
             List<Path> favIconFiles = new ArrayList<Path>(0);
             if (bridgePath != null) {
@@ -498,14 +559,6 @@ private void writeTempViewFiles(final REP viewRepresentation, final VAL viewValu
                     }
                 });
             }
-            try (BufferedWriter writer = Files.newBufferedWriter(m_repTempFile.toPath(), Charset.forName("UTF-8"))) {
-                writer.write(viewRepString);
-                writer.flush();
-            }
-            try (BufferedWriter writer = Files.newBufferedWriter(m_valTempFile.toPath(), Charset.forName("UTF-8"))) {
-                writer.write(viewValueString);
-                writer.flush();
-            }
             if (bridgePath != null) {
                 try {
                     Files.copy(bridgePath, m_bridgeTempFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
@@ -556,6 +609,14 @@ private File writeTempFileForViewResponse(final String response, final WizardVie
      *            false otherwise
      */
     private void tryDeleteTempFiles(final boolean deleteBridgeFile) {
+        if (m_contentServer != null) {
+            m_contentServer.unregisterContent(m_lastResponseURL);
+            m_contentServer.unregisterContent(m_repURL);
+            m_contentServer.unregisterContent(m_valURL);
+            m_lastResponseURL = null;
+            m_repURL = null;
+            m_valURL = null;
+        }
         try {
             if (m_lastResponseTempFile != null && m_lastResponseTempFile.exists()) {
                 m_lastResponseTempFile.delete();
@@ -586,6 +647,37 @@ private void tryDeleteTempFiles(final boolean deleteBridgeFile) {
             /* continue */ }
     }
 
+    /**
+     * @return the running view content server, or null if it is disabled or could not be started
+     */
+    static ViewContentServer getContentServer() {
+        if (!ViewContentServer.isEnabled()) {
+            return null;
+        }
+        try {
+            return ViewContentServer.getInstance();
+        } catch (IOException e) {
+            LOGGER.warn("View content server could not be started, using temporary files instead: "
+                + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the URL a file in the view container is loaded from, either served by the given server or as file URL.
+     *
+     * @param server the content server or null
+     * @param root the view container directory
+     * @param file the file to load
+     * @return the URL of the file
+     */
+    static String toViewURL(final ViewContentServer server, final Path root, final File file) {
+        if (server == null || root == null) {
+            return file.toURI().toString();
+        }
+        return server.getResourceURL(root, file.toPath());
+    }
+
     private static void tryDeleteTempFile(final File fileToDelete) {
         try {
             if (fileToDelete != null && fileToDelete.exists()) {
@@ -834,7 +926,7 @@ protected void showValidationErrorInView(final String error) {
      */
     @Override
     public void respondToViewRequest(final String response) {
-        pushUpdateToView(response, "respondToViewRequest");
+        queueRequestEvent(null, "respondToViewRequest", response);
     }
 
     /**
@@ -842,7 +934,77 @@ public void respondToViewRequest(final String response) {
      */
     @Override
     public void pushRequestUpdate(final String monitor) {
-        pushUpdateToView(monitor, "updateResponseMonitor");
+        queueRequestEvent(getMonitorID(monitor), "updateResponseMonitor", monitor);
+    }
+
+    private static String getMonitorID(final String monitor) {
+        try {
+            return MAPPER.readTree(monitor).path("id").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Queues a view request event for the next batched push to the view. A progress update replaces the previous
+     * one of the same request only if nothing else was queued since, so events are never reordered.
+     */
+    private void queueRequestEvent(final String monitorID, final String methodCall, final String content) {
+        synchronized (m_pendingRequestEvents) {
+            RequestEvent last = m_pendingRequestEvents.peekLast();
+            if (monitorID != null && last != null && monitorID.equals(last.m_monitorID)) {
+                m_pendingRequestEvents.pollLast();
+            }
+            m_pendingRequestEvents.addLast(new RequestEvent(monitorID, methodCall, content));
+        }
+        if (m_pushScheduled.compareAndSet(false, true)) {
+            PUSH_EXECUTOR.schedule(this::pushRequestEvents, PUSH_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Delivers all queued events to the view. Only ever runs on the push thread, large contents are loaded by URL
+     * in between the batches of the events queued before and after them.
+     */
+    private void pushRequestEvents() {
+        List<RequestEvent> events;
+        synchronized (m_pendingRequestEvents) {
+            m_pushScheduled.set(false);
+            if (m_pendingRequestEvents.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<RequestEvent>(m_pendingRequestEvents);
+            m_pendingRequestEvents.clear();
+        }
+        try {
+            StringJoiner batch = new StringJoiner(",", "[", "]");
+            int batchSize = 0;
+            for (RequestEvent event : events) {
+                if (event.m_content.length() > MAX_INLINE_PUSH_LENGTH) {
+                    if (batchSize > 0) {
+                        pushEventsToView(batch.toString());
+                        batch = new StringJoiner(",", "[", "]");
+                        batchSize = 0;
+                    }
+                    pushUpdateToView(event.m_content, event.m_methodCall);
+                } else {
+                    batch.add("{\"method\":\"" + event.m_methodCall + "\",\"content\":" + event.m_content + "}");
+                    batchSize++;
+                }
+            }
+            if (batchSize > 0) {
+                pushEventsToView(batch.toString());
+            }
+        } catch (Exception e) {
+            LOGGER.error("Could not push view request updates: " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized void pushEventsToView(final String batch) {
+        testAlive();
+        if (m_driver != null) {
+            executeScript("seleniumKnimeBridge.pushRequestEvents(arguments[0]);", batch);
+        }
     }
 
     private synchronized void pushUpdateToView(final String toBeUpdated, final String methodCall) {
@@ -850,10 +1012,18 @@ private synchronized void pushUpdateToView(final String toBeUpdated, final Strin
             tryDeleteTempFile(m_lastResponseTempFile);
             m_lastResponseTempFile = null;
         }
+        if (m_lastResponseURL != null && m_contentServer != null) {
+            m_contentServer.unregisterContent(m_lastResponseURL);
+            m_lastResponseURL = null;
+        }
         testAlive();
         if (m_driver != null) {
             WizardViewCreator<REP, VAL> creator = getViewCreator();
-            if (toBeUpdated.length() > 500000) {
+            if (toBeUpdated.length() > MAX_INLINE_PUSH_LENGTH && m_contentServer != null) {
+                // in case of large responses serve them from memory and load them from there
+                m_lastResponseURL = m_contentServer.registerContent(toBeUpdated, JSON_MIME_TYPE);
+                executeScript("return seleniumKnimeBridge." + methodCall + "(arguments[0])", m_lastResponseURL);
+            } else if (toBeUpdated.length() > MAX_INLINE_PUSH_LENGTH) {
                 // in case of large responses write temp file and load that
                 File responseFile = writeTempFileForViewResponse(toBeUpdated, creator);
                 String responseURL = responseFile.toURI().toString();
@@ -896,6 +1066,21 @@ protected boolean showApplyOptionsDialog(final boolean showDiscardOption, final
         return false;
     }
 
+    private static final class RequestEvent {
+
+        private final String m_monitorID;
+
+        private final String m_methodCall;
+
+        private final String m_content;
+
+        private RequestEvent(final String monitorID, final String methodCall, final String content) {
+            m_monitorID = monitorID;
+            m_methodCall = methodCall;
+            m_content = content;
+        }
+    }
+
     @JsonAutoDetect
     private static class CloseDialogOption {
 
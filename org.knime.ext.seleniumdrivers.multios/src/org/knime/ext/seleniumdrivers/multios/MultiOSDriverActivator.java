@@ -121,6 +121,9 @@ public void start(final BundleContext bundleContext) throws Exception {
             }
             CHROMIUM_PATH = Paths.get(CHROMIUM_PATH).normalize().toString();
         }
+
+        // optionally start headless browsers for image generation ahead of time
+        ChromeViewService.getInstance().getSessionPool().warmUp();
 	}
 
     /**
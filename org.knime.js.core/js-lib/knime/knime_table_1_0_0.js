@@ -48,6 +48,10 @@ window.kt = function () {
         return dataTable.fragment;
     };
 
+    kt.getSpecVersion = function () {
+        return dataTable.specVersion;
+    };
+
     kt.isFiltered = function () {
         return dataTable.filtered;
     };
@@ -222,20 +226,57 @@ window.kt = function () {
         return included;
     };
 
+    // Completes a table whose spec was sent without its row independent content, by reusing the spec
+    // already held for the same spec version. Only row count, row colors and row sizes are taken from the
+    // reduced spec.
+    var _restoreOmittedSpec = function (mergeTable) {
+        if (!mergeTable.specOmitted) {
+            return true;
+        }
+        if (!dataTable.spec || mergeTable.specVersion !== dataTable.specVersion) {
+            return false;
+        }
+        var rowSpec = mergeTable.spec;
+        var spec = {};
+        for (var key in dataTable.spec) {
+            if (dataTable.spec.hasOwnProperty(key)) {
+                spec[key] = dataTable.spec[key];
+            }
+        }
+        spec.numRows = rowSpec.numRows;
+        spec.rowColorValues = rowSpec.rowColorValues;
+        spec.rowSizeValues = rowSpec.rowSizeValues;
+        mergeTable.spec = spec;
+        mergeTable.specOmitted = false;
+        return true;
+    };
+
+    // Returns false and leaves the current table untouched if the fragment was sent without its spec for a
+    // spec version not held here. The fragment then has to be requested again with its full spec.
     kt.mergeTables = function (mergeTable) {
         // TODO: make sure spec etc. validates
+        if (!_restoreOmittedSpec(mergeTable)) {
+            return false;
+        }
         if (dataTable.fragmentFirstRowIndex + dataTable.spec.numRows === mergeTable.fragmentFirstRowIndex) {
             dataTable.rows = dataTable.rows.concat(mergeTable.rows);
             dataTable.spec.rowColorValues = dataTable.spec.rowColorValues.concat(mergeTable.spec.rowColorValues);
+            if (dataTable.spec.rowSizeValues && mergeTable.spec.rowSizeValues) {
+                dataTable.spec.rowSizeValues = dataTable.spec.rowSizeValues.concat(mergeTable.spec.rowSizeValues);
+            }
             dataTable.spec.numRows += mergeTable.spec.numRows;
         } else if (mergeTable.fragmentFirstRowIndex + mergeTable.spec.numRows === dataTable.fragmentFirstRowIndex) {
             mergeTable.rows = mergeTable.rows.concat(dataTable.rows);
             mergeTable.spec.rowColorValues = mergeTable.spec.rowColorValues.concat(dataTable.spec.rowColorValues);
+            if (mergeTable.spec.rowSizeValues && dataTable.spec.rowSizeValues) {
+                mergeTable.spec.rowSizeValues = mergeTable.spec.rowSizeValues.concat(dataTable.spec.rowSizeValues);
+            }
             mergeTable.spec.numRows += dataTable.spec.numRows;
             this.setDataTable(mergeTable);
         } else {
             dataTable = mergeTable;
         }
+        return true;
     };
 
     return kt;
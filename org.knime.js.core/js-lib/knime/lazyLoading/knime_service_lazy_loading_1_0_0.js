@@ -166,7 +166,8 @@ window.initLazyLoading = function () {
             let monitor;
             if (knimeService.isInteractivityAvailable()) {
                 monitor = knimeService.getGlobalService()
-                .requestViewUpdate(window.frameElement.id, JSON.stringify(request), request.sequence);
+                .requestViewUpdate(window.frameElement.id, JSON.stringify(request), request.sequence,
+                    resolvable.supersedePrevious);
             } else {
                 monitor = knimeViewRequest(JSON.stringify(request));
             }
@@ -199,14 +200,16 @@ window.initLazyLoading = function () {
         }
     };
 
-    knimeService.requestViewUpdate = function (request, preserveOrder, notCancelable) {
+    knimeService.requestViewUpdate = function (request, preserveOrder, notCancelable, supersedePrevious) {
         // let prevSequence = requestSequence;
         request.sequence = getAndSetNextRequestSequence();
         let resolvable = {
             sequence: request.sequence,
             monitor: {},
             notCancelable: notCancelable,
-            preserveOrder: preserveOrder
+            preserveOrder: preserveOrder,
+            // lets the server cancel older running requests of this view
+            supersedePrevious: supersedePrevious
         };
         let promise = new MonitorablePromise(function (res, rej) {
             resolvable.resolve = res;
@@ -51,6 +51,12 @@ KnimePageLoader = function() {
 	var interactivityMap = new Object();
 	// Map for interactivity event subscribers
 	var interactivitySubscribers = new Object();
+	// Map for interactivity event versions, incremented with every published change
+	var interactivityVersions = new Object();
+	// Queue of subscriber notifications not yet delivered, in publish order
+	var pendingNotifications = [], pendingFlushScheduled = false;
+	// Interval in ms in which notifications are collected and consecutive changeSets coalesced (roughly one frame)
+	var COALESCE_INTERVAL = 16;
 	
 	var viewRequests = [], requestSequence = 0
 	
@@ -728,6 +734,9 @@ KnimePageLoader = function() {
 		manualSizing = new Object();
 		interactivityMap = new Object();
 		interactivitySubscribers = new Object();
+		interactivityVersions = new Object();
+		pendingNotifications = [];
+		pendingFlushScheduled = false;
 		viewRequests = [];
 		requestSequence = 0;
 		
@@ -880,17 +889,18 @@ KnimePageLoader = function() {
 			var allRemovedPartial = [];
 			var allAddedPartial = [];
 			if (curElement && curElement.elements && data.changeSet.removed && data.changeSet.removed.length > 0) {
+				var removedLookup = _toLookup(data.changeSet.removed);
 				var i = curElement.elements.length;
 				while (i--) {
 					var curRows = curElement.elements[i].rows || [];
-					// filter rows of current element according to removed rows
+					// filter rows of current element according to removed rows and determine actually removed rows
 					var filteredRows = curRows.filter(function(row) {
-						return data.changeSet.removed.indexOf(row) < 0;
+						if (removedLookup[row] === true) {
+							allRemovedRows.push(row);
+							return false;
+						}
+						return true;
 					});
-					// determine actually removed rows
-					allRemovedRows = allRemovedRows.concat(data.changeSet.removed.filter(function(row) {
-						return curRows.indexOf(row) > -1;
-					}));
 					if (filteredRows.length < 1) {
 						// remove element if it contains no more rows
 						curElement.elements.splice(i, 1);
@@ -900,11 +910,13 @@ KnimePageLoader = function() {
 				}
 			}
 			if (curElement && curElement.partial && data.changeSet.partialRemoved && data.changeSet.partialRemoved.length > 0) {
+				var partialRemovedLookup = _toLookup(data.changeSet.partialRemoved);
 				var filteredPartial = curElement.partial.filter(function(row) {
-					return data.changeSet.partialRemoved.indexOf(row) < 0;
-				});
-				allRemovedPartial = data.changeSet.partialRemoved.filter(function(row) {
-					return curElement.partial.indexOf(row) > -1;
+					if (partialRemovedLookup[row] === true) {
+						allRemovedPartial.push(row);
+						return false;
+					}
+					return true;
 				});
 				if (filteredPartial.length < 1) {
 					delete curElement.partial;
@@ -920,8 +932,14 @@ KnimePageLoader = function() {
 					// only consider first unnamed element for added rows
 					if (typeof curElement.elements[i].id == 'undefined') {
 						var curRows = curElement.elements[i].rows || [];
+						var curRowsLookup = _toLookup(curRows);
 						allAddedRows = data.changeSet.added.filter(function(row) {
-							return curRows.indexOf(row) < 0;
+							if (curRowsLookup[row] === true) {
+								return false;
+							}
+							// also guards against duplicates within the added rows
+							curRowsLookup[row] = true;
+							return true;
 						});
 						curElement.elements[i].rows = curRows.concat(allAddedRows);
 						break;
@@ -929,9 +947,13 @@ KnimePageLoader = function() {
 				}
 			}
 			if (data.changeSet.partialAdded && data.changeSet.partialAdded.length > 0) {
-				var curPartial = curElement.partial || [];
+				var curPartialLookup = _toLookup(curElement.partial || []);
 				allAddedPartial = data.changeSet.partialAdded.filter(function(row) {
-					return curPartial.indexOf(row) < 0;
+					if (curPartialLookup[row] === true) {
+						return false;
+					}
+					curPartialLookup[row] = true;
+					return true;
 				});
 				if (!curElement.partial && allAddedPartial.length > 0) {
 					curElement.partial = [];
@@ -939,7 +961,7 @@ KnimePageLoader = function() {
 				curElement.partial = curElement.partial.concat(allAddedPartial);
 			}
 			if (allRemovedRows.length + allAddedRows.length + allRemovedPartial.length + allAddedPartial.length) {
-				var toPublish = {'selectionMethod': data.selectionMethod, 'changeSet': {}};
+				var toPublish = {'selectionMethod': data.selectionMethod, 'changeSet': {}, 'version': _nextVersion(id)};
 				if (allRemovedRows.length) {
 					toPublish.changeSet.removed = allRemovedRows;
 				}
@@ -981,6 +1003,7 @@ KnimePageLoader = function() {
 					return;
 				}
 				interactivityMap[id] = data;
+				_nextVersion(id);
 				_notifySubscribers(id, data, skip, changedIds);
 			}
 		}
@@ -1016,6 +1039,11 @@ KnimePageLoader = function() {
 				if (skip && subscriber.callback === skip) {
 					continue;
 				}
+				if (data.changeSet) {
+					// row-based deltas are coalesced per subscriber and delivered once per interval
+					_queueChangeSet(id, subscriber, data);
+					continue;
+				}
 				var payload = data;
 				if (changedIds) {
 					payload = _createRelevantElements(id, subscriber.filter, changedIds);
@@ -1027,10 +1055,136 @@ KnimePageLoader = function() {
 		}
 	}
 	
+	_queueChangeSet = function(id, subscriber, data) {
+		// only merge into the last queued notification of this subscriber, so that changeSets are never
+		// reordered relative to other events delivered to the same callback
+		var pending = null;
+		for (var i = pendingNotifications.length - 1; i >= 0; i--) {
+			if (pendingNotifications[i].callback === subscriber.callback) {
+				pending = pendingNotifications[i];
+				break;
+			}
+		}
+		// changeSets of different selection methods cannot be merged, their row keys do not refer to the same set
+		if (!pending || !pending.rows || pending.id !== id || pending.mappedEvent !== data.mappedEvent
+				|| pending.selectionMethod !== data.selectionMethod) {
+			pending = {'id': id, 'subscriber': subscriber, 'callback': subscriber.callback,
+					'selectionMethod': data.selectionMethod, 'mappedEvent': data.mappedEvent,
+					'rows': _createDelta(), 'partial': _createDelta()};
+			pendingNotifications.push(pending);
+		}
+		// a merged notification carries the version of the latest changeSet it contains
+		pending.version = data.version;
+		_mergeDelta(pending.rows, data.changeSet.added, data.changeSet.removed);
+		_mergeDelta(pending.partial, data.changeSet.partialAdded, data.changeSet.partialRemoved);
+		_scheduleFlush();
+	}
+	
+	_createDelta = function() {
+		// state maps row keys to true (added) or false (removed), order keeps the keys in the order they were published
+		return {'state': Object.create(null), 'order': []};
+	}
+	
+	_mergeDelta = function(delta, added, removed) {
+		// published deltas only contain effective changes, so an add cancels out a pending remove and vice versa
+		var apply = function(row, isAdded) {
+			var cur = delta.state[row];
+			if (cur === !isAdded) {
+				delete delta.state[row];
+			} else {
+				if (typeof cur === 'undefined') {
+					delta.order.push(row);
+				}
+				delta.state[row] = isAdded;
+			}
+		};
+		var i;
+		if (added) {
+			for (i = 0; i < added.length; i++) {
+				apply(added[i], true);
+			}
+		}
+		if (removed) {
+			for (i = 0; i < removed.length; i++) {
+				apply(removed[i], false);
+			}
+		}
+	}
+	
+	_scheduleFlush = function() {
+		if (!pendingFlushScheduled) {
+			pendingFlushScheduled = true;
+			setTimeout(_flushNotifications, COALESCE_INTERVAL);
+		}
+	}
+	
+	_flushNotifications = function() {
+		var toDeliver = pendingNotifications;
+		pendingNotifications = [];
+		pendingFlushScheduled = false;
+		for (var i = 0; i < toDeliver.length; i++) {
+			if (toDeliver[i].rows) {
+				_deliverChangeSet(toDeliver[i]);
+			} else {
+				toDeliver[i].callback.call(this, toDeliver[i].payload);
+			}
+		}
+	}
+	
+	_deliverChangeSet = function(pending) {
+		var subscribers = interactivitySubscribers[pending.id];
+		if (!subscribers || subscribers.indexOf(pending.subscriber) < 0) {
+			// unsubscribed in the meantime
+			return;
+		}
+		var changeSet = {}, empty = true;
+		var addDelta = function(delta, addedKey, removedKey) {
+			// a key can be listed twice in order if it was cancelled out and published again
+			var seen = Object.create(null);
+			for (var i = 0; i < delta.order.length; i++) {
+				var row = delta.order[i];
+				if (seen[row] === true || typeof delta.state[row] === 'undefined') {
+					continue;
+				}
+				seen[row] = true;
+				var key = delta.state[row] ? addedKey : removedKey;
+				if (!changeSet[key]) {
+					changeSet[key] = [];
+				}
+				changeSet[key].push(row);
+				empty = false;
+			}
+		};
+		addDelta(pending.rows, 'added', 'removed');
+		addDelta(pending.partial, 'partialAdded', 'partialRemoved');
+		if (empty) {
+			return;
+		}
+		var payload = {'selectionMethod': pending.selectionMethod, 'changeSet': changeSet, 'version': pending.version};
+		if (typeof pending.mappedEvent != 'undefined') {
+			payload.mappedEvent = pending.mappedEvent;
+		}
+		pending.callback.call(this, payload);
+	}
+	
+	_nextVersion = function(id) {
+		interactivityVersions[id] = (interactivityVersions[id] || 0) + 1;
+		return interactivityVersions[id];
+	}
+	
+	_toLookup = function(array) {
+		// no prototype, so that row keys like 'hasOwnProperty' or '__proto__' cannot clash with inherited members
+		var lookup = Object.create(null);
+		for (var i = 0; i < array.length; i++) {
+			lookup[array[i]] = true;
+		}
+		return lookup;
+	}
+	
 	_notifySubscriber = function(callback, data) {
-		setTimeout(function() {
-			callback.call(this, data);
-		}, 0);
+		// goes through the same queue as changeSets, so all events reach subscribers in publish order
+		pendingNotifications.push({'callback': callback, 'payload': data});
+		_scheduleFlush();
 	}
 	
 	pageLoader.getPublishedElement = function(id) {
@@ -1046,11 +1200,20 @@ KnimePageLoader = function() {
 	    return pageLoader.getPublishedElement(id);
 	}
 	
+	pageLoader.getPublishedVersion = function(id) {
+		// subscribers can compare this with the version of a received changeSet to skip events that are already stale
+		return interactivityVersions[id] || 0;
+	}
+	
 	pageLoader.registerSelectionTranslator = function(translator, translatorID) {
 		// check non-existing IDs
 		if (!translator.sourceID || !translator.targetIDs) {
 			return;
 		}
+		// mapping is transferred in compact form and only expanded when first needed
+		if (!translator.mapping && translator.compactMapping) {
+			_defineLazyMapping(translator);
+		}
 		// check if translator is forwarding events or contains mapping
 		if (!translator.forward && !translator.mapping) {
 			return;
@@ -1079,6 +1242,28 @@ KnimePageLoader = function() {
 		}
 	}
 	
+	_defineLazyMapping = function(translator) {
+		var compact = translator.compactMapping;
+		var expanded = null;
+		Object.defineProperty(translator, 'mapping', {
+			configurable: true,
+			enumerable: true,
+			get: function() {
+				if (!expanded) {
+					expanded = {};
+					for (var k = 0; k < compact.keys.length; k++) {
+						var targets = [];
+						for (var i = compact.offsets[k]; i < compact.offsets[k + 1]; i++) {
+							targets.push(compact.targets[compact.indices[i]]);
+						}
+						expanded[compact.keys[k]] = targets;
+					}
+				}
+				return expanded;
+			}
+		});
+	}
+	
 	_subscribeTargetTranslator = function(translator, translatorID, handlerID) {
 		pageLoader.subscribe('selection-' + handlerID, function(data) {
 			if(!data || data.mappedEvent == translatorID) {
@@ -1238,13 +1423,16 @@ KnimePageLoader = function() {
 		return requestSequence;
 	}
 	
-	pageLoader.requestViewUpdate = function(frameID, request, requestSequence) {
+	pageLoader.requestViewUpdate = function(frameID, request, requestSequence, supersedePrevious) {
 		var nodeID = frameID.substring('node'.length).replace(/-/g, ":");
 		var requestContainer = {
 				"sequence": getAndSetNextRequestSequence(),
 				"nodeID": nodeID,
 				"jsonRequest": request
 		}
+		if (supersedePrevious) {
+			requestContainer.supersedePrevious = true;
+		}
 		var resolvable = {
 				"sequence": requestContainer.sequence,
 				"nodeID": requestContainer.nodeID,
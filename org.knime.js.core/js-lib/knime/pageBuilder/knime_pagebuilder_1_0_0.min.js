@@ -1,2 +1,2 @@
 /* eslint-disable */
-LOGGER=function(){var e={log:function(e){console&&console.log&&console.log(e)},error:function(e){console&&console.error&&console.error(e)}};return e}(),"undefined"==typeof KnimePageLoader&&(KnimePageLoader=function(){var S,l,d,c={},b="knimeWebNode",w="VAADIN/src-js",E=null,x=new Object,u=0,n=new Object,a=new Object,I=new Object,y=new Object,R=new Object,s=new Object,g=[],e=0,h=null,f=null,m=null,p=null,v=null,O=!1,L=!0;return c.registerWidget=function(e,t,n,i,r){h=e,f=t,m=n,p=i,v=r},c.init=function(e,t,n,i,r){if(!e){var o=document.createElement("p");o.appendChild(document.createTextNode("No data available.")),_getContainerElement().appendChild(o)}h=t,f=n,O=i,S=r||"./";try{var a=e;if("string"==typeof e?a=JSON.parse(e):(S=".",w=""),l="0.0.0",a.version&&(l=a.version),(d=a.webNodePageConfiguration)&&d.selectionTranslators)for(var s=0;s<d.selectionTranslators.length;s++)c.registerSelectionTranslator(d.selectionTranslators[s],s);E=a.webNodes,void 0!==d&&null!=d&&void 0!==d.layout&&null!=d.layout&&(_compareVersionString(l,"3.1.0")<0?_buildLayoutGrid(d.layout.gridEntryList,null):(L=!1,_buildBSLayout(d.layout,null))),void(u=0)!==E&&null!=E&&_processWebNodes()}catch(e){LOGGER.error(e)}},_compareVersionString=function(e,t){for(var n=e.split("."),i=t.split("."),r=0;r<3;r++){var o=parseInt(n[r])-parseInt(i[r]);if(o)return o/Math.abs(o)}return 0},_getContainerElement=function(){var e=document.getElementById(b);return e=e||document.getElementsByTagName("body")[0]},_buildBSLayout=function(e,t){var n=t;if(void 0===t||null==t){var i=document.createElement("div");i.id="knimeBSLayoutContainer",i.setAttribute("class","container-fluid"),document.getElementById(b)&&(i.style.padding=0),_getContainerElement().appendChild(i),n=i}if(e.rows)for(var r=0;r<e.rows.length;r++)_buildBSLayout(e.rows[r],n);if(e.type)if("nestedLayout"===e.type||"JSONNestedLayout"===e.type)n.id="node"+e.nodeID.replace(/:/g,"-"),_buildBSLayout(e.layout,n);else if("row"===e.type||"JSONLayoutRow"===e.type){var o=document.createElement("div"),a="row";if(e.additionalClasses&&(a+=" "+e.additionalClasses.join(" ")),o.setAttribute("class",a),e.additionalStyles&&o.setAttribute("style",e.additionalStyles.join(" ")),n.appendChild(o),!e.columns)return;for(r=0;r<e.columns.length;r++){var s=e.columns[r],l=document.createElement("div"),d="";if(0<s.widthXS&&s.widthXS<=12&&(d+="col-xs-"+s.widthXS+" "),0<s.widthSM&&s.widthSM<=12&&(d+="col-sm-"+s.widthSM+" "),0<s.widthMD&&s.widthMD<=12&&(d+="col-md-"+s.widthMD+" "),0<s.widthLG&&s.widthLG<=12&&(d+="col-lg-"+s.widthLG+" "),0<s.widthXL&&s.widthXL<=12&&(d+="col-xl-"+s.widthXL),0==d.length&&(d="col-xs-12"),s.additionalClasses&&(d+=" "+s.additionalClasses.join(" ")),l.setAttribute("class",d),s.additionalStyles&&l.setAttribute("style",s.additionalStyles.join(" ")),o.appendChild(l),s.content)for(var c=0;c<s.content.length;c++)_buildBSLayout(s.content[c],l)}}else if("view"===e.type||"JSONLayoutViewContent"===e.type){var u=E[e.nodeID];if(!u||u.nodeInfo&&!u.nodeInfo.displayPossible)return void(n.id="node"+e.nodeID.replace(/:/g,"-"));if("aspectRatio"===e.resizeMethod.substring(0,"aspectRatio".length)){var g=document.createElement("div"),h="embed-responsive";"aspectRatio16by9"===e.resizeMethod?h+=" embed-responsive-16by9":"aspectRatio4by3"===e.resizeMethod?h+=" embed-responsive-4by3":"aspectRatio1by1"===e.resizeMethod&&(h+=" embed-responsive-1by1"),g.setAttribute("class",h),"aspectRatio1by1"===e.resizeMethod&&(g.style.paddingBottom="100%"),n.appendChild(g),n=g}var f=document.createElement("iframe");e.additionalStyles&&f.setAttribute("style",e.additionalStyles.join(" ")),f.style.border||(f.style.border="none"),f.style.backgroundColor||(f.style.backgroundColor="white"),f.style.display="block",f.style.maxWidth="100%",f.setAttribute("width","100%"),f.setAttribute("allowfullscreen",""),f.id="node"+e.nodeID.replace(/:/g,"-");var m="";if(e.additionalClasses&&(m+=e.additionalClasses.join(" ")),"view"===e.resizeMethod.substring(0,"view".length)){f.setAttribute("class",m+"resizable-frame");var p=e.resizeMethod.substring(4,5).toLowerCase()+e.resizeMethod.substring(5);if("lowestElementIEMax"===p)p=-1!==navigator.userAgent.indexOf("MSIE")?"max":"lowestElement";var v={log:O,enablePublicMethods:!0,checkOrigin:!1,resizeFrom:"child",autoResize:e.autoResize,scrolling:e.scrolling,heightCalculationMethod:p,sizeHeight:e.sizeHeight,sizeWidth:e.sizeWidth,tolerance:5};e.minWidth&&(v.minWidth=e.minWidth),e.maxWidth&&(v.maxWidth=e.maxWidth),e.minHeight&&(v.minHeight=e.minHeight),e.maxHeight&&(v.maxHeight=e.maxHeight),e.resizeInterval&&(v.interval=e.resizeInterval),e.resizeTolerance&&(v.tolerance=e.resizeTolerance),I[f.id]=v}else"aspectRatio"===e.resizeMethod.substring(0,"aspectRatio".length)?f.setAttribute("class",m+"embed-responsive-item"):"manual"===e.resizeMethod&&(y[f.id]=!0);n.appendChild(f)}else"html"!==e.type&&"JSONLayoutHTMLContent"!==e.type||(n.innerHTML=e.value)},_buildLayoutGrid=function(e,t){for(var n=-1,i=-1,r=0;r<e.length;r++)n=Math.max(n,e[r].position.x),i=Math.max(i,e[r].position.y);var o=document.createElement("table");void 0===t||null==t?(o.id="knimeLayoutGridTable",_getContainerElement().appendChild(o)):(o.setAttribute("class","knimeInnerLayoutGridTable"),t.appendChild(o)),o.setAttribute("style","width: 100%; height: 100%; min-height: 200px; border-collapse: collapse; border: none; border-spacing: 0; margin: 0; padding: 0;");for(var a=0;a<=i;a++){var s=document.createElement("tr");s.setAttribute("class","knimeLayoutGridRow"),s.setAttribute("style","margin: 0; padding:0; vertical-align: middle;"),o.appendChild(s);for(var l="margin: 0; border: none; width: "+100/(n+1)+"%;",d=0;d<=n;d++){var c=document.createElement("td");c.setAttribute("class","knimeLayoutGridCell"),c.setAttribute("style","padding:0; "+l),s.appendChild(c);var u=_getGridContentFromPosition(d,a,e);if(null!=u){var g=u.content.sizing,h="";if(g&&(g.padding&&(h+="padding: "+g.padding+"; "),0<g.width&&(h+="width: "+g.width+"px; "),0<g.minWidth&&(h+="min-width: "+g.minWidth+"px; "),0<g.maxWidth&&(h+="max-width: "+g.maxWidth+"px; "),0<g.height&&(h+="height: "+g.height+"px; "),0<g.minHeight&&(h+="min-height: "+g.minHeight+"px; "),0<g.maxHeight&&(h+="max-height: "+g.maxHeight+"px; ")),h+=l,c.setAttribute("style",h),u.content.containsView){var f=document.createElement("iframe");f.style.border="none",f.style.backgroundColor="white",f.style.display="block",f.style.maxWidth="100%",f.setAttribute("width","100%"),f.id=u.content.nodeID,c.appendChild(f)}else _buildLayoutGrid(u.content.nestedGridContent,c)}}}},_getGridContentFromPosition=function(e,t,n){for(var i=0;i<n.length;i++){var r=n[i].position;if(r.x==e&&r.y==t)return n[i]}return null},_processWebNodes=function(){for(var e in E){var t=E[e],n="node"+e.replace(/:/g,"-"),i=document.getElementById(e);if(i=i||document.getElementById(n),!t.nodeInfo||t.nodeInfo.displayPossible){void 0!==i&&null!=i||((i=document.createElement("iframe")).setAttribute("style","border: none; background-color: white; display:block;"),i.setAttribute("class","resizable-frame"),i.setAttribute("width","100%"),i.setAttribute("allowfullscreen",""),i.id=n,I[n]={log:O,enablePublicMethods:!0,checkOrigin:!1,resizeFrom:"child",scrolling:!0,tolerance:5},_getContainerElement().appendChild(i));var r="";if(t.stylesheets)for(var o=0;o<t.stylesheets.length;o++)r+='<link rel="stylesheet" href="'+S+w+t.stylesheets[o]+'"></link>\n';document.getElementById("element_for_"+n)&&(r+='<link rel="stylesheet" type="text/css" href="'+S+'VAADIN/themes/knime/styles.css">');var a=new Array;if(t.javascriptLibraries)for(var s=0;s<t.javascriptLibraries.length;s++){var l=t.javascriptLibraries[s];/.*require.*/i.test(l)||(l="/"==l.charAt(0)?l.substring(1):l,a.push(l.substring(0,l.length-3)))}-1<(" "+i.className+" ").indexOf(" resizable-frame ")&&a.push("org/knime/core/iframeResizer/iframeResizer.contentWindow");var d=t.namespace;void 0===d||""==d?d="":d+=".";var c=[];for(s=0;s<a.length;s++)c.push('"'+a[s]+'"');var u=d+t.initMethodName+'(parent.KnimePageLoader.getWebNode("'+e+'").viewRepresentation, parent.KnimePageLoader.getWebNode("'+e+'").viewValue);\nparent.KnimePageLoader.setInitialized(window.frameElement.id);\n',g=S+w+"/org/knime/",h='<script data-main="'+(g+=O?"debug/":"core/")+'callInitFrame.js" src="'+g+'require.js"><\/script>\n',f='<script type="text/javascript">\n'+("function requireLibs(libs, index) {\n\tif (index >= libs.length) return;\n\trequire([libs[index]], function(libObject) {\n\t\tparent.KnimePageLoader.addLibrary(libs[index], libObject);\n\t\tindex++;\n\t\tif (index === libs.length) {\n\t\t\t"+u+"\t\t}\n\t\trequireLibs(libs, index);\n\t});\n}\n\n")+"function initFrame() {\n\trequireLibs(["+c.join(",")+"], 0);}\n<\/script>\n",m="";if(t.customCSS)m='<style type="text/css">'+t.customCSS.replace(new RegExp("</style>","gim"),"")+"</style>";var p="<!DOCTYPE html>\n<html>\n<head>\n"+r+f+h+m+"</head>\n<body>\n</body>\n</html>",v=i.contentWindow.document;try{v.open(),v.write(p)}finally{v.close()}x[e]=i}else{var b="<strong>";b+=t.nodeInfo.nodeName,b+=" ("+e+")",t.nodeInfo.nodeAnnotation&&(b+=' - "'+t.nodeInfo.nodeAnnotation+'" -'),b+=" cannot be displayed.",b+="</strong><br>",t.nodeInfo.nodeErrorMessage?(b+="<strong>Error message on node:</strong> ",b+=t.nodeInfo.nodeErrorMessage):t.nodeInfo.nodeWarnMessage?(b+="<strong>Warn message on node:</strong> ",b+=t.nodeInfo.nodeWarnMessage):b+="No further information available. Please check the configuration of the workflow.",O&&(b+="<br>",b+="The node was in state ",b+='<span style="text-transform: uppercase;">',b+=t.nodeInfo.nodeState,b+="</span>.");var y=document.createElement("div");y.setAttribute("class","nodeError alert alert-danger"),y.setAttribute("role","alert"),y.innerHTML=b,(i||_getContainerElement()).appendChild(y)}}},c.getWebNode=function(e){return E[e]},c.getFrame=function(e){return x[e]},c.getContextRoot=function(){return S},c.getBasePath=function(){return S+w},c.setInitialized=function(e){if(I[e]&&iFrameResize){var t=I[e];if(!t.heightCalculationMethod){var n=-1!==navigator.userAgent.indexOf("MSIE")?"max":"lowestElement";t.heightCalculationMethod=n}iFrameResize(t,"iframe#"+e)}++u===Object.keys(E).length&&c.getPageValues()},c.getLibrary=function(e){return n[e]},c.addLibrary=function(e,t){n[e]=t},c.getPageValues=function(){try{for(var e in a=new Object,E){var t=E[e];if(!t.nodeInfo||t.nodeInfo.displayPossible){var n;a[e]={};var i=t.namespace,r=null;if(void 0===i||""==i)r=c.getFrame(e).contentWindow[t.getViewValueMethodName];else{var o=n=c.getFrame(e).contentWindow[i];void 0!==o&&(r=o[t.getViewValueMethodName].bind(o))}r&&(void 0===(n=r())&&(n={}),a[e]=n)}}if(!f)return a;f(h,JSON.stringify(a))}catch(e){LOGGER.error(e)}},c.updateComponentValue=function(e,t){try{a[e]&&(a[e]=t,f(h,JSON.stringify(a)))}catch(e){LOGGER.error(e)}},c.validate=function(){var e=!0;for(var t in E){var n=E[t];if(!n.nodeInfo||n.nodeInfo.displayPossible){var i,r=n.namespace;(i=void 0===r||""==r?c.getFrame(t).contentWindow[n.validateMethodName]:c.getFrame(t).contentWindow[r][n.validateMethodName])&&(e&=i())}}return!!e},c.setValidationError=function(e){var t=JSON.parse(e);if("string"!=typeof t){for(var n in t)for(var i in E)if(n===i){var r,o=E[i],a=o.namespace;(r=void 0===a||""==a?c.getFrame(i).contentWindow[o.setValidationErrorMethodName]:c.getFrame(i).contentWindow[a][o.setValidationErrorMethodName])&&(r(t[n].error),c.autoResize(n));break}}else alert(t)},c.reset=function(){E=d=l=null,x=new Object,u=0,n=new Object,a=new Object,I=new Object,y=new Object,R=new Object,s=new Object,e=0,v=p=m=f=h=null,L=!(O=!(g=[]))},c.isRunningInWebportal=function(){try{return null!=document.querySelector("body.v-generated-body > div.webportalui")}catch(e){return LOGGER.error(e),!1}},c.isRunningInSeleniumBrowser=function(){try{return void 0!==parent.seleniumKnimeBridge}catch(e){return LOGGER.error(e),!1}},c.autoResize=function(o,a,s){(L||y[o])&&setTimeout(function(){var e=s,t=a;if(document.getElementById&&document.getElementById(o)){var n=document.getElementById(o).contentWindow.document.body,i=document.getElementById(o).contentWindow.document.documentElement;void 0!==s&&null!=s||(e=Math.max(n.scrollHeight,n.offsetHeight,i.clientHeight,i.scrollHeight,i.offsetHeight)),void 0!==a&&null!=a||(t=Math.max(n.scrollWidth,n.offsetWidth,i.clientWidth,i.scrollWidth,i.offsetWidth));var r=document.getElementById(o);r.height=e+"px",document.getElementById(o).width=t+"px",r.style.width=t+"px",r.style.height=e+"px"}},0)},outerHeight=function(e){if(void 0!==e&&"undefined"!=typeof getComputedStyle){var t=e.offsetHeight,n=getComputedStyle(e);return t+=parseInt(n.marginTop)+parseInt(n.marginBottom)}},outerWidth=function(e){if(void 0!==e&&"undefined"!=typeof getComputedStyle){var t=e.offsetWidth,n=getComputedStyle(e);return t+=parseInt(n.marginLeft)+parseInt(n.marginRight)}},c.subscribe=function(e,t,n){if(O&&LOGGER.log("Subscribing event listener for: "+e+(n?JSON.stringify(n):"")),s.hasOwnProperty(e)||(s[e]=[]),s[e].push({callback:t,filter:n}),R[e]){var i=_createRelevantElements(e,n);(i=i||{}).reevaluate=!0,_notifySubscriber(t,i)}},c.unsubscribe=function(e,t){if(s.hasOwnProperty(e))for(var n=s[e],i=n.length;i--;)if(n[i].callback===t)return O&&LOGGER.log("Unsubscribing event listener for: "+e),n.splice(i,1)},c.publish=function(e,t,n){O&&LOGGER.log("Publishing interactivity event ("+e+"): "+JSON.stringify(t));var i=R.hasOwnProperty(e);if(t.changeSet){if(!i){if(!(t.changeSet.added&&0<t.changeSet.added.length||t.changeSet.partialAdded&&0<t.changeSet.partialAdded.length))return;R[e]={selectionMethod:t.selectionMethod,elements:[]},t.changeSet.partialAdded&&0<t.changeSet.partialAdded.length&&(R[e].partial=[])}var r=R[e],o=[],a=[],s=[],l=[];if(r&&r.elements&&t.changeSet.removed&&0<t.changeSet.removed.length)for(var d=r.elements.length;d--;){var c=(g=r.elements[d].rows||[]).filter(function(e){return t.changeSet.removed.indexOf(e)<0});o=o.concat(t.changeSet.removed.filter(function(e){return-1<g.indexOf(e)})),c.length<1?r.elements.splice(d,1):r.elements[d].rows=c}if(r&&r.partial&&t.changeSet.partialRemoved&&0<t.changeSet.partialRemoved.length){var u=r.partial.filter(function(e){return t.changeSet.partialRemoved.indexOf(e)<0});s=t.changeSet.partialRemoved.filter(function(e){return-1<r.partial.indexOf(e)}),u.length<1?delete r.partial:r.partial=u}if(t.changeSet.added&&0<t.changeSet.added.length){r.elements.length<1&&(r.elements=[{type:"row",rows:[]}]);for(d=0;d<r.elements.length;d++)if(void 0===r.elements[d].id){var g=r.elements[d].rows||[];a=t.changeSet.added.filter(function(e){return g.indexOf(e)<0}),r.elements[d].rows=g.concat(a);break}}if(t.changeSet.partialAdded&&0<t.changeSet.partialAdded.length){var h=r.partial||[];l=t.changeSet.partialAdded.filter(function(e){return h.indexOf(e)<0}),!r.partial&&0<l.length&&(r.partial=[]),r.partial=r.partial.concat(l)}if(o.length+a.length+s.length+l.length){var f={selectionMethod:t.selectionMethod,changeSet:{}};o.length&&(f.changeSet.removed=o),a.length&&(f.changeSet.added=a),s.length&&(f.changeSet.partialRemoved=s),l.length&&(f.changeSet.partialAdded=l),void 0!==t.mappedEvent&&(f.mappedEvent=t.mappedEvent),_notifySubscribers(e,f,n)}}else{var m=[];for(d=0;d<t.elements.length;d++){if(void 0!==t.elements[d].id){var p=!0;if(i)for(var v=R[e],b=0;b<v.elements.length;b++)if(t.elements[d].id==v.elements[b].id){p=t.elements[d]===v.elements[b];break}p&&m.push(t.elements[d].id)}if(m.length<1)return;R[e]=t,_notifySubscribers(e,t,n,m)}}},_createRelevantElements=function(e,t,n){var i=R[e];if(!i||!t)return i;if(n){for(var r=!1,o=0;o<t.length;o++)if(n.indexOf(0<=t[o])){r=!0;break}if(!r)return null}var a=i.elements.filter(function(e){return void 0!==e.id&&0<=t.indexOf(e.id)});return{selectionMethod:i.selectionMethod,elements:a}},_notifySubscribers=function(e,t,n,i){if(s[e])for(var r=0;r<s[e].length;r++){var o=s[e][r];if(!n||o.callback!==n){var a=t;i&&(a=_createRelevantElements(e,o.filter,i)),a&&_notifySubscriber(o.callback,a)}}},_notifySubscriber=function(e,t){setTimeout(function(){e.call(this,t)},0)},c.getPublishedElement=function(e){var t=R[e];return t&&delete t.mappedEvent,t},c.getPublishedData=function(e){return c.getPublishedElement(e)},c.registerSelectionTranslator=function(o,a){if(o.sourceID&&o.targetIDs&&(o.forward||o.mapping)){c.subscribe("selection-"+o.sourceID,function(e){if(e&&e.mappedEvent!=a)for(var t=0;t<o.targetIDs.length;t++){var n=e;if(!o.forward&&o.mapping){var i=c.getPublishedElement("selection-"+o.sourceID),r=c.getPublishedElement("selection-"+o.targetIDs[t]);if(!(n=_mapSelectionEvent(e,o.mapping,!0,i,r)))return}n.mappedEvent=a,c.publish("selection-"+o.targetIDs[t],n)}});for(var e=0;e<o.targetIDs.length;e++)_subscribeTargetTranslator(o,a,o.targetIDs[e])}},_subscribeTargetTranslator=function(r,o,a){c.subscribe("selection-"+a,function(e){if(e&&e.mappedEvent!=o){var t=e;if(!r.forward&&r.mapping){var n=c.getPublishedElement("selection-"+r.sourceID),i=c.getPublishedElement("selection-"+a);if(!(t=_mapSelectionEvent(e,r.mapping,!1,n,i)))return}t.mappedEvent=o,c.publish("selection-"+r.sourceID,t)}})},_mapSelectionEvent=function(e,t,n,i,r){if(e&&e.changeSet){var o={selectionMethod:"selection",changeSet:{}},a=[];if(i&&i.elements)for(var s=0;s<i.elements.length;s++)i.elements[s].rows&&(a=a.concat(i.elements[s].rows));var l=[];i&&i.partial&&(l=i.partial);var d=[];if(r&&r.elements)for(s=0;s<r.elements.length;s++)r.elements[s].rows&&(d=d.concat(r.elements[s].rows));var c=[];e.changeSet&&e.changeSet.added&&(c=e.changeSet.added);var u=[];if(e.changeSet&&e.changeSet.removed&&(u=e.changeSet.removed),e.changeSet&&e.changeSet.partialRemoved)for(s=0;s<e.changeSet.partialRemoved.length;s++)c.indexOf(e.changeSet.partialRemoved[s])<0&&u.push(e.changeSet.partialRemoved[s]);var g=[],h=[],f=[],m=[];if(n){for(var p=0;p<c.length;p++)if(t[c[p]]){var v=t[c[p]].filter(function(e){return d.indexOf(e)<0});g=g.concat(v)}for(p=0;p<u.length;p++)if(t[u[p]]){var b=t[u[p]].filter(function(e){return-1<d.indexOf(e)});h=h.concat(b)}}else{var y=[];for(var p in t){var S=t[p].every(function(e){return-1<d.indexOf(e)}),w=t[p].some(function(e){return-1<d.indexOf(e)});r&&r.partial&&(w|=t[p].some(function(e){return-1<r.partial.indexOf(e)}));var E=t[p].some(function(e){return-1<c.indexOf(e)}),x=t[p].some(function(e){return-1<u.indexOf(e)});S&&E&&a.indexOf(p)<0&&g.push(p),!S&&x&&-1<a.indexOf(p)&&h.push(p),!S&&w&&y.push(p)}f=y.filter(function(e){return l.indexOf(e)<0}),m=l.filter(function(e){return y.indexOf(e)<0})}return g.length+h.length+f.length+m.length&&(o.changeSet={},0<g.length&&(o.changeSet.added=g),0<h.length&&(o.changeSet.removed=h),0<f.length&&(o.changeSet.partialAdded=f),0<m.length&&(o.changeSet.partialRemoved=m)),o}},getNextRequestSequence=function(e){return++e%(void 0!==Number.MAX_SAFE_INTEGER?Number.MAX_SAFE_INTEGER:Number.MAX_VALUE)},getPreviousRequestSequence=function(e){return--e%(void 0!==Number.MAX_SAFE_INTEGER?Number.MAX_SAFE_INTEGER:Number.MAX_VALUE)},getAndSetNextRequestSequence=function(){return e=getNextRequestSequence(e)},c.requestViewUpdate=function(e,t,n){var i,r=e.substring("node".length).replace(/-/g,":"),o={sequence:getAndSetNextRequestSequence(),nodeID:r,jsonRequest:t},a={sequence:o.sequence,nodeID:o.nodeID,requestSequence:n};return g.push(a),c.isRunningInWebportal()?h&&m?i=m(h,JSON.stringify(o)):LOGGER.error("Could not request view update. Widget not registered."):i=knimeViewRequest(JSON.stringify(o)),"string"==typeof(i=i||{})&&(i=JSON.parse(i)),i.requestSequence=n,a.monitor=i},c.isPushSupported=function(){return!c.isRunningInWebportal()&&knimePushSupported()},c.cancelViewRequest=function(e,t,n){for(var i=e.substring("node".length).replace(/-/g,":"),r=t,o=-1,a=0;a<g.length;a++){var s=g[a];if(s.monitor&&t==s.monitor.id){o=a;break}if(t==s.requestSequence&&i==s.nodeID){o=a,t=s.sequence;break}}try{c.isRunningInWebportal()?h&&v?v(h,r):LOGGER.error("Could not cancel view request. Widget not registered."):knimeCancelRequest(r),!n&&-1<o&&g.splice(o,1)}catch(e){LOGGER.error("Could not cancel view request: "+e)}},c.respondToViewRequest=function(e){for(var t="node"+e.nodeID.replace(/:/g,"-"),n=0;n<g.length;n++)if(g[n].sequence===e.sequence){g.splice(n,1);break}var i=document.getElementById(t);if(void 0!==i){var r=e.jsonResponse;i.contentWindow.KnimeInteractivity.respondToViewRequest(r)}},c.updateResponseMonitor=function(e){var t,n;"string"==typeof e&&(e=JSON.parse(e));for(var i=0;i<g.length;i++){var r=g[i];if(r.monitor&&e.id===r.monitor.id||e.requestSequence===r.sequence){t=r,n=i;break}}if(t){e.requestSequence=t.requestSequence,e.executionFinished&&e.responseAvailable&&(e.response=e.response.jsonResponse),t.monitor=e;var o="node"+t.nodeID.replace(/:/g,"-"),a=document.getElementById(o);(e.executionFailed||e.cancelled||e.executionFinished&&e.responseAvailable)&&g.splice(n,1),void 0!==a&&a.contentWindow.KnimeInteractivity.updateResponseMonitor(e)}},c.updateRequestStatus=function(e,t){for(var n,i=0;i<g.length;i++){var r=g[i];if(r.monitor&&t===r.monitor.id){n=r;break}}if(n)try{var o;if(c.isRunningInWebportal()?h&&p?o=p(h,t):LOGGER.error("Could not update view request status. Widget not registered."):o=knimeUpdateRequestStatus(t),o)return"string"==typeof o&&(o=JSON.parse(o)),o.requestSequence=n.requestSequence,o.executionFinished&&o.responseAvailable&&(o.response=o.response.jsonResponse),n.monitor=o}catch(e){LOGGER.error("Could not update view request status: "+e)}},c}()),"undefined"==typeof KnimeInteractivity&&(KnimeInteractivity={respondToViewRequest:function(e){return KnimePageLoader.respondToViewRequest(e)},updateResponseMonitor:function(e){return KnimePageLoader.updateResponseMonitor(e)}});
\ No newline at end of file
+LOGGER=function(){var e={log:function(e){console&&console.log&&console.log(e)},error:function(e){console&&console.error&&console.error(e)}};return e}(),"undefined"==typeof KnimePageLoader&&(KnimePageLoader=function(){var S,l,d,c={},b="knimeWebNode",w="VAADIN/src-js",E=null,x=new Object,u=0,n=new Object,a=new Object,I=new Object,y=new Object,R=new Object,s=new Object,interactivityVersions=new Object,pendingNotifications=[],pendingFlushScheduled=!1,COALESCE_INTERVAL=16,g=[],e=0,h=null,f=null,m=null,p=null,v=null,O=!1,L=!0;return c.registerWidget=function(e,t,n,i,r){h=e,f=t,m=n,p=i,v=r},c.init=function(e,t,n,i,r){if(!e){var o=document.createElement("p");o.appendChild(document.createTextNode("No data available.")),_getContainerElement().appendChild(o)}h=t,f=n,O=i,S=r||"./";try{var a=e;if("string"==typeof e?a=JSON.parse(e):(S=".",w=""),l="0.0.0",a.version&&(l=a.version),(d=a.webNodePageConfiguration)&&d.selectionTranslators)for(var s=0;s<d.selectionTranslators.length;s++)c.registerSelectionTranslator(d.selectionTranslators[s],s);E=a.webNodes,void 0!==d&&null!=d&&void 0!==d.layout&&null!=d.layout&&(_compareVersionString(l,"3.1.0")<0?_buildLayoutGrid(d.layout.gridEntryList,null):(L=!1,_buildBSLayout(d.layout,null))),void(u=0)!==E&&null!=E&&_processWebNodes()}catch(e){LOGGER.error(e)}},_compareVersionString=function(e,t){for(var n=e.split("."),i=t.split("."),r=0;r<3;r++){var o=parseInt(n[r])-parseInt(i[r]);if(o)return o/Math.abs(o)}return 0},_getContainerElement=function(){var e=document.getElementById(b);return e=e||document.getElementsByTagName("body")[0]},_buildBSLayout=function(e,t){var n=t;if(void 0===t||null==t){var i=document.createElement("div");i.id="knimeBSLayoutContainer",i.setAttribute("class","container-fluid"),document.getElementById(b)&&(i.style.padding=0),_getContainerElement().appendChild(i),n=i}if(e.rows)for(var r=0;r<e.rows.length;r++)_buildBSLayout(e.rows[r],n);if(e.type)if("nestedLayout"===e.type||"JSONNestedLayout"===e.type)n.id="node"+e.nodeID.replace(/:/g,"-"),_buildBSLayout(e.layout,n);else if("row"===e.type||"JSONLayoutRow"===e.type){var o=document.createElement("div"),a="row";if(e.additionalClasses&&(a+=" "+e.additionalClasses.join(" ")),o.setAttribute("class",a),e.additionalStyles&&o.setAttribute("style",e.additionalStyles.join(" ")),n.appendChild(o),!e.columns)return;for(r=0;r<e.columns.length;r++){var s=e.columns[r],l=document.createElement("div"),d="";if(0<s.widthXS&&s.widthXS<=12&&(d+="col-xs-"+s.widthXS+" "),0<s.widthSM&&s.widthSM<=12&&(d+="col-sm-"+s.widthSM+" "),0<s.widthMD&&s.widthMD<=12&&(d+="col-md-"+s.widthMD+" "),0<s.widthLG&&s.widthLG<=12&&(d+="col-lg-"+s.widthLG+" "),0<s.widthXL&&s.widthXL<=12&&(d+="col-xl-"+s.widthXL),0==d.length&&(d="col-xs-12"),s.additionalClasses&&(d+=" "+s.additionalClasses.join(" ")),l.setAttribute("class",d),s.additionalStyles&&l.setAttribute("style",s.additionalStyles.join(" ")),o.appendChild(l),s.content)for(var c=0;c<s.content.length;c++)_buildBSLayout(s.content[c],l)}}else if("view"===e.type||"JSONLayoutViewContent"===e.type){var u=E[e.nodeID];if(!u||u.nodeInfo&&!u.nodeInfo.displayPossible)return void(n.id="node"+e.nodeID.replace(/:/g,"-"));if("aspectRatio"===e.resizeMethod.substring(0,"aspectRatio".length)){var g=document.createElement("div"),h="embed-responsive";"aspectRatio16by9"===e.resizeMethod?h+=" embed-responsive-16by9":"aspectRatio4by3"===e.resizeMethod?h+=" embed-responsive-4by3":"aspectRatio1by1"===e.resizeMethod&&(h+=" embed-responsive-1by1"),g.setAttribute("class",h),"aspectRatio1by1"===e.resizeMethod&&(g.style.paddingBottom="100%"),n.appendChild(g),n=g}var f=document.createElement("iframe");e.additionalStyles&&f.setAttribute("style",e.additionalStyles.join(" ")),f.style.border||(f.style.border="none"),f.style.backgroundColor||(f.style.backgroundColor="white"),f.style.display="block",f.style.maxWidth="100%",f.setAttribute("width","100%"),f.setAttribute("allowfullscreen",""),f.id="node"+e.nodeID.replace(/:/g,"-");var m="";if(e.additionalClasses&&(m+=e.additionalClasses.join(" ")),"view"===e.resizeMethod.substring(0,"view".length)){f.setAttribute("class",m+"resizable-frame");var p=e.resizeMethod.substring(4,5).toLowerCase()+e.resizeMethod.substring(5);if("lowestElementIEMax"===p)p=-1!==navigator.userAgent.indexOf("MSIE")?"max":"lowestElement";var v={log:O,enablePublicMethods:!0,checkOrigin:!1,resizeFrom:"child",autoResize:e.autoResize,scrolling:e.scrolling,heightCalculationMethod:p,sizeHeight:e.sizeHeight,sizeWidth:e.sizeWidth,tolerance:5};e.minWidth&&(v.minWidth=e.minWidth),e.maxWidth&&(v.maxWidth=e.maxWidth),e.minHeight&&(v.minHeight=e.minHeight),e.maxHeight&&(v.maxHeight=e.maxHeight),e.resizeInterval&&(v.interval=e.resizeInterval),e.resizeTolerance&&(v.tolerance=e.resizeTolerance),I[f.id]=v}else"aspectRatio"===e.resizeMethod.substring(0,"aspectRatio".length)?f.setAttribute("class",m+"embed-responsive-item"):"manual"===e.resizeMethod&&(y[f.id]=!0);n.appendChild(f)}else"html"!==e.type&&"JSONLayoutHTMLContent"!==e.type||(n.innerHTML=e.value)},_buildLayoutGrid=function(e,t){for(var n=-1,i=-1,r=0;r<e.length;r++)n=Math.max(n,e[r].position.x),i=Math.max(i,e[r].position.y);var o=document.createElement("table");void 0===t||null==t?(o.id="knimeLayoutGridTable",_getContainerElement().appendChild(o)):(o.setAttribute("class","knimeInnerLayoutGridTable"),t.appendChild(o)),o.setAttribute("style","width: 100%; height: 100%; min-height: 200px; border-collapse: collapse; border: none; border-spacing: 0; margin: 0; padding: 0;");for(var a=0;a<=i;a++){var s=document.createElement("tr");s.setAttribute("class","knimeLayoutGridRow"),s.setAttribute("style","margin: 0; padding:0; vertical-align: middle;"),o.appendChild(s);for(var l="margin: 0; border: none; width: "+100/(n+1)+"%;",d=0;d<=n;d++){var c=document.createElement("td");c.setAttribute("class","knimeLayoutGridCell"),c.setAttribute("style","padding:0; "+l),s.appendChild(c);var u=_getGridContentFromPosition(d,a,e);if(null!=u){var g=u.content.sizing,h="";if(g&&(g.padding&&(h+="padding: "+g.padding+"; "),0<g.width&&(h+="width: "+g.width+"px; "),0<g.minWidth&&(h+="min-width: "+g.minWidth+"px; "),0<g.maxWidth&&(h+="max-width: "+g.maxWidth+"px; "),0<g.height&&(h+="height: "+g.height+"px; "),0<g.minHeight&&(h+="min-height: "+g.minHeight+"px; "),0<g.maxHeight&&(h+="max-height: "+g.maxHeight+"px; ")),h+=l,c.setAttribute("style",h),u.content.containsView){var f=document.createElement("iframe");f.style.border="none",f.style.backgroundColor="white",f.style.display="block",f.style.maxWidth="100%",f.setAttribute("width","100%"),f.id=u.content.nodeID,c.appendChild(f)}else _buildLayoutGrid(u.content.nestedGridContent,c)}}}},_getGridContentFromPosition=function(e,t,n){for(var i=0;i<n.length;i++){var r=n[i].position;if(r.x==e&&r.y==t)return n[i]}return null},_processWebNodes=function(){for(var e in E){var t=E[e],n="node"+e.replace(/:/g,"-"),i=document.getElementById(e);if(i=i||document.getElementById(n),!t.nodeInfo||t.nodeInfo.displayPossible){void 0!==i&&null!=i||((i=document.createElement("iframe")).setAttribute("style","border: none; background-color: white; display:block;"),i.setAttribute("class","resizable-frame"),i.setAttribute("width","100%"),i.setAttribute("allowfullscreen",""),i.id=n,I[n]={log:O,enablePublicMethods:!0,checkOrigin:!1,resizeFrom:"child",scrolling:!0,tolerance:5},_getContainerElement().appendChild(i));var r="";if(t.stylesheets)for(var o=0;o<t.stylesheets.length;o++)r+='<link rel="stylesheet" href="'+S+w+t.stylesheets[o]+'"></link>\n';document.getElementById("element_for_"+n)&&(r+='<link rel="stylesheet" type="text/css" href="'+S+'VAADIN/themes/knime/styles.css">');var a=new Array;if(t.javascriptLibraries)for(var s=0;s<t.javascriptLibraries.length;s++){var l=t.javascriptLibraries[s];/.*require.*/i.test(l)||(l="/"==l.charAt(0)?l.substring(1):l,a.push(l.substring(0,l.length-3)))}-1<(" "+i.className+" ").indexOf(" resizable-frame ")&&a.push("org/knime/core/iframeResizer/iframeResizer.contentWindow");var d=t.namespace;void 0===d||""==d?d="":d+=".";var c=[];for(s=0;s<a.length;s++)c.push('"'+a[s]+'"');var u=d+t.initMethodName+'(parent.KnimePageLoader.getWebNode("'+e+'").viewRepresentation, parent.KnimePageLoader.getWebNode("'+e+'").viewValue);\nparent.KnimePageLoader.setInitialized(window.frameElement.id);\n',g=S+w+"/org/knime/",h='<script data-main="'+(g+=O?"debug/":"core/")+'callInitFrame.js" src="'+g+'require.js"><\/script>\n',f='<script type="text/javascript">\n'+("function requireLibs(libs, index) {\n\tif (index >= libs.length) return;\n\trequire([libs[index]], function(libObject) {\n\t\tparent.KnimePageLoader.addLibrary(libs[index], libObject);\n\t\tindex++;\n\t\tif (index === libs.length) {\n\t\t\t"+u+"\t\t}\n\t\trequireLibs(libs, index);\n\t});\n}\n\n")+"function initFrame() {\n\trequireLibs(["+c.join(",")+"], 0);}\n<\/script>\n",m="";if(t.customCSS)m='<style type="text/css">'+t.customCSS.replace(new RegExp("</style>","gim"),"")+"</style>";var p="<!DOCTYPE html>\n<html>\n<head>\n"+r+f+h+m+"</head>\n<body>\n</body>\n</html>",v=i.contentWindow.document;try{v.open(),v.write(p)}finally{v.close()}x[e]=i}else{var b="<strong>";b+=t.nodeInfo.nodeName,b+=" ("+e+")",t.nodeInfo.nodeAnnotation&&(b+=' - "'+t.nodeInfo.nodeAnnotation+'" -'),b+=" cannot be displayed.",b+="</strong><br>",t.nodeInfo.nodeErrorMessage?(b+="<strong>Error message on node:</strong> ",b+=t.nodeInfo.nodeErrorMessage):t.nodeInfo.nodeWarnMessage?(b+="<strong>Warn message on node:</strong> ",b+=t.nodeInfo.nodeWarnMessage):b+="No further information available. Please check the configuration of the workflow.",O&&(b+="<br>",b+="The node was in state ",b+='<span style="text-transform: uppercase;">',b+=t.nodeInfo.nodeState,b+="</span>.");var y=document.createElement("div");y.setAttribute("class","nodeError alert alert-danger"),y.setAttribute("role","alert"),y.innerHTML=b,(i||_getContainerElement()).appendChild(y)}}},c.getWebNode=function(e){return E[e]},c.getFrame=function(e){return x[e]},c.getContextRoot=function(){return S},c.getBasePath=function(){return S+w},c.setInitialized=function(e){if(I[e]&&iFrameResize){var t=I[e];if(!t.heightCalculationMethod){var n=-1!==navigator.userAgent.indexOf("MSIE")?"max":"lowestElement";t.heightCalculationMethod=n}iFrameResize(t,"iframe#"+e)}++u===Object.keys(E).length&&c.getPageValues()},c.getLibrary=function(e){return n[e]},c.addLibrary=function(e,t){n[e]=t},c.getPageValues=function(){try{for(var e in a=new Object,E){var t=E[e];if(!t.nodeInfo||t.nodeInfo.displayPossible){var n;a[e]={};var i=t.namespace,r=null;if(void 0===i||""==i)r=c.getFrame(e).contentWindow[t.getViewValueMethodName];else{var o=n=c.getFrame(e).contentWindow[i];void 0!==o&&(r=o[t.getViewValueMethodName].bind(o))}r&&(void 0===(n=r())&&(n={}),a[e]=n)}}if(!f)return a;f(h,JSON.stringify(a))}catch(e){LOGGER.error(e)}},c.updateComponentValue=function(e,t){try{a[e]&&(a[e]=t,f(h,JSON.stringify(a)))}catch(e){LOGGER.error(e)}},c.validate=function(){var e=!0;for(var t in E){var n=E[t];if(!n.nodeInfo||n.nodeInfo.displayPossible){var i,r=n.namespace;(i=void 0===r||""==r?c.getFrame(t).contentWindow[n.validateMethodName]:c.getFrame(t).contentWindow[r][n.validateMethodName])&&(e&=i())}}return!!e},c.setValidationError=function(e){var t=JSON.parse(e);if("string"!=typeof t){for(var n in t)for(var i in E)if(n===i){var r,o=E[i],a=o.namespace;(r=void 0===a||""==a?c.getFrame(i).contentWindow[o.setValidationErrorMethodName]:c.getFrame(i).contentWindow[a][o.setValidationErrorMethodName])&&(r(t[n].error),c.autoResize(n));break}}else alert(t)},c.reset=function(){E=d=l=null,x=new Object,u=0,n=new Object,a=new Object,I=new Object,y=new Object,R=new Object,s=new Object,interactivityVersions=new Object,pendingNotifications=[],pendingFlushScheduled=!1,e=0,v=p=m=f=h=null,L=!(O=!(g=[]))},c.isRunningInWebportal=function(){try{return null!=document.querySelector("body.v-generated-body > div.webportalui")}catch(e){return LOGGER.error(e),!1}},c.isRunningInSeleniumBrowser=function(){try{return void 0!==parent.seleniumKnimeBridge}catch(e){return LOGGER.error(e),!1}},c.autoResize=function(o,a,s){(L||y[o])&&setTimeout(function(){var e=s,t=a;if(document.getElementById&&document.getElementById(o)){var n=document.getElementById(o).contentWindow.document.body,i=document.getElementById(o).contentWindow.document.documentElement;void 0!==s&&null!=s||(e=Math.max(n.scrollHeight,n.offsetHeight,i.clientHeight,i.scrollHeight,i.offsetHeight)),void 0!==a&&null!=a||(t=Math.max(n.scrollWidth,n.offsetWidth,i.clientWidth,i.scrollWidth,i.offsetWidth));var r=document.getElementById(o);r.height=e+"px",document.getElementById(o).width=t+"px",r.style.width=t+"px",r.style.height=e+"px"}},0)},outerHeight=function(e){if(void 0!==e&&"undefined"!=typeof getComputedStyle){var t=e.offsetHeight,n=getComputedStyle(e);return t+=parseInt(n.marginTop)+parseInt(n.marginBottom)}},outerWidth=function(e){if(void 0!==e&&"undefined"!=typeof getComputedStyle){var t=e.offsetWidth,n=getComputedStyle(e);return t+=parseInt(n.marginLeft)+parseInt(n.marginRight)}},c.subscribe=function(e,t,n){if(O&&LOGGER.log("Subscribing event listener for: "+e+(n?JSON.stringify(n):"")),s.hasOwnProperty(e)||(s[e]=[]),s[e].push({callback:t,filter:n}),R[e]){var i=_createRelevantElements(e,n);(i=i||{}).reevaluate=!0,_notifySubscriber(t,i)}},c.unsubscribe=function(e,t){if(s.hasOwnProperty(e))for(var n=s[e],i=n.length;i--;)if(n[i].callback===t)return O&&LOGGER.log("Unsubscribing event listener for: "+e),n.splice(i,1)},c.publish=function(e,t,n){O&&LOGGER.log("Publishing interactivity event ("+e+"): "+JSON.stringify(t));var i=R.hasOwnProperty(e);if(t.changeSet){if(!i){if(!(t.changeSet.added&&0<t.changeSet.added.length||t.changeSet.partialAdded&&0<t.changeSet.partialAdded.length))return;R[e]={selectionMethod:t.selectionMethod,elements:[]},t.changeSet.partialAdded&&0<t.changeSet.partialAdded.length&&(R[e].partial=[])}var r=R[e],o=[],a=[],s=[],l=[];if(r&&r.elements&&t.changeSet.removed&&0<t.changeSet.removed.length){var T=_toLookup(t.changeSet.removed);for(var d=r.elements.length;d--;){var c=(r.elements[d].rows||[]).filter(function(e){return!0!==T[e]||(o.push(e),!1)});c.length<1?r.elements.splice(d,1):r.elements[d].rows=c}}if(r&&r.partial&&t.changeSet.partialRemoved&&0<t.changeSet.partialRemoved.length){var k=_toLookup(t.changeSet.partialRemoved),u=r.partial.filter(function(e){return!0!==k[e]||(s.push(e),!1)});u.length<1?delete r.partial:r.partial=u}if(t.changeSet.added&&0<t.changeSet.added.length){r.elements.length<1&&(r.elements=[{type:"row",rows:[]}]);for(d=0;d<r.elements.length;d++)if(void 0===r.elements[d].id){var g=r.elements[d].rows||[],C=_toLookup(g);a=t.changeSet.added.filter(function(e){return!0!==C[e]&&(C[e]=!0)}),r.elements[d].rows=g.concat(a);break}}if(t.changeSet.partialAdded&&0<t.changeSet.partialAdded.length){var h=_toLookup(r.partial||[]);l=t.changeSet.partialAdded.filter(function(e){return!0!==h[e]&&(h[e]=!0)}),!r.partial&&0<l.length&&(r.partial=[]),r.partial=r.partial.concat(l)}if(o.length+a.length+s.length+l.length){var f={selectionMethod:t.selectionMethod,changeSet:{},version:_nextVersion(e)};o.length&&(f.changeSet.removed=o),a.length&&(f.changeSet.added=a),s.length&&(f.changeSet.partialRemoved=s),l.length&&(f.changeSet.partialAdded=l),void 0!==t.mappedEvent&&(f.mappedEvent=t.mappedEvent),_notifySubscribers(e,f,n)}}else{var m=[];for(d=0;d<t.elements.length;d++){if(void 0!==t.elements[d].id){var p=!0;if(i)for(var v=R[e],b=0;b<v.elements.length;b++)if(t.elements[d].id==v.elements[b].id){p=t.elements[d]===v.elements[b];break}p&&m.push(t.elements[d].id)}if(m.length<1)return;R[e]=t,_nextVersion(e),_notifySubscribers(e,t,n,m)}}},_createRelevantElements=function(e,t,n){var i=R[e];if(!i||!t)return i;if(n){for(var r=!1,o=0;o<t.length;o++)if(n.indexOf(0<=t[o])){r=!0;break}if(!r)return null}var a=i.elements.filter(function(e){return void 0!==e.id&&0<=t.indexOf(e.id)});return{selectionMethod:i.selectionMethod,elements:a}},_notifySubscribers=function(e,t,n,i){if(s[e])for(var r=0;r<s[e].length;r++){var o=s[e][r];if(!n||o.callback!==n)if(t.changeSet)_queueChangeSet(e,o,t);else{var a=t;i&&(a=_createRelevantElements(e,o.filter,i)),a&&_notifySubscriber(o.callback,a)}}},_queueChangeSet=function(e,t,n){for(var i=null,r=pendingNotifications.length-1;0<=r;r--)if(pendingNotifications[r].callback===t.callback){i=pendingNotifications[r];break}i&&i.rows&&i.id===e&&i.mappedEvent===n.mappedEvent&&i.selectionMethod===n.selectionMethod||(i={id:e,subscriber:t,callback:t.callback,selectionMethod:n.selectionMethod,mappedEvent:n.mappedEvent,rows:_createDelta(),partial:_createDelta()},pendingNotifications.push(i)),i.version=n.version,_mergeDelta(i.rows,n.changeSet.added,n.changeSet.removed),_mergeDelta(i.partial,n.changeSet.partialAdded,n.changeSet.partialRemoved),_scheduleFlush()},_createDelta=function(){return{state:Object.create(null),order:[]}},_mergeDelta=function(n,e,t){var i,r=function(e,t){var i=n.state[e];i===!t?delete n.state[e]:(void 0===i&&n.order.push(e),n.state[e]=t)};if(e)for(i=0;i<e.length;i++)r(e[i],!0);if(t)for(i=0;i<t.length;i++)r(t[i],!1)},_scheduleFlush=function(){pendingFlushScheduled||(pendingFlushScheduled=!0,setTimeout(_flushNotifications,COALESCE_INTERVAL))},_flushNotifications=function(){var e=pendingNotifications;pendingNotifications=[],pendingFlushScheduled=!1;for(var t=0;t<e.length;t++)e[t].rows?_deliverChangeSet(e[t]):e[t].callback.call(this,e[t].payload)},_deliverChangeSet=function(e){var t=s[e.id];if(t&&!(t.indexOf(e.subscriber)<0)){var a={},l=!0,n=function(e,t,n){for(var i=Object.create(null),r=0;r<e.order.length;r++){var o=e.order[r];if(!0!==i[o]&&void 0!==e.state[o]){i[o]=!0;var s=e.state[o]?t:n;a[s]||(a[s]=[]),a[s].push(o),l=!1}}};if(n(e.rows,"added","removed"),n(e.partial,"partialAdded","partialRemoved"),!l){var i={selectionMethod:e.selectionMethod,changeSet:a,version:e.version};void 0!==e.mappedEvent&&(i.mappedEvent=e.mappedEvent),e.callback.call(this,i)}}},_nextVersion=function(e){return interactivityVersions[e]=(interactivityVersions[e]||0)+1,interactivityVersions[e]},_toLookup=function(e){for(var t=Object.create(null),n=0;n<e.length;n++)t[e[n]]=!0;return t},_notifySubscriber=function(e,t){pendingNotifications.push({callback:e,payload:t}),_scheduleFlush()},c.getPublishedElement=function(e){var t=R[e];return t&&delete t.mappedEvent,t},c.getPublishedData=function(e){return c.getPublishedElement(e)},c.getPublishedVersion=function(e){return interactivityVersions[e]||0},c.registerSelectionTranslator=function(o,a){if(o.sourceID&&o.targetIDs&&(!o.mapping&&o.compactMapping&&_defineLazyMapping(o),o.forward||o.mapping)){c.subscribe("selection-"+o.sourceID,function(e){if(e&&e.mappedEvent!=a)for(var t=0;t<o.targetIDs.length;t++){var n=e;if(!o.forward&&o.mapping){var i=c.getPublishedElement("selection-"+o.sourceID),r=c.getPublishedElement("selection-"+o.targetIDs[t]);if(!(n=_mapSelectionEvent(e,o.mapping,!0,i,r)))return}n.mappedEvent=a,c.publish("selection-"+o.targetIDs[t],n)}});for(var e=0;e<o.targetIDs.length;e++)_subscribeTargetTranslator(o,a,o.targetIDs[e])}},_defineLazyMapping=function(e){var o=e.compactMapping,a=null;Object.defineProperty(e,"mapping",{configurable:!0,enumerable:!0,get:function(){if(!a){a={};for(var e=0;e<o.keys.length;e++){for(var t=[],n=o.offsets[e];n<o.offsets[e+1];n++)t.push(o.targets[o.indices[n]]);a[o.keys[e]]=t}}return a}})},_subscribeTargetTranslator=function(r,o,a){c.subscribe("selection-"+a,function(e){if(e&&e.mappedEvent!=o){var t=e;if(!r.forward&&r.mapping){var n=c.getPublishedElement("selection-"+r.sourceID),i=c.getPublishedElement("selection-"+a);if(!(t=_mapSelectionEvent(e,r.mapping,!1,n,i)))return}t.mappedEvent=o,c.publish("selection-"+r.sourceID,t)}})},_mapSelectionEvent=function(e,t,n,i,r){if(e&&e.changeSet){var o={selectionMethod:"selection",changeSet:{}},a=[];if(i&&i.elements)for(var s=0;s<i.elements.length;s++)i.elements[s].rows&&(a=a.concat(i.elements[s].rows));var l=[];i&&i.partial&&(l=i.partial);var d=[];if(r&&r.elements)for(s=0;s<r.elements.length;s++)r.elements[s].rows&&(d=d.concat(r.elements[s].rows));var c=[];e.changeSet&&e.changeSet.added&&(c=e.changeSet.added);var u=[];if(e.changeSet&&e.changeSet.removed&&(u=e.changeSet.removed),e.changeSet&&e.changeSet.partialRemoved)for(s=0;s<e.changeSet.partialRemoved.length;s++)c.indexOf(e.changeSet.partialRemoved[s])<0&&u.push(e.changeSet.partialRemoved[s]);var g=[],h=[],f=[],m=[];if(n){for(var p=0;p<c.length;p++)if(t[c[p]]){var v=t[c[p]].filter(function(e){return d.indexOf(e)<0});g=g.concat(v)}for(p=0;p<u.length;p++)if(t[u[p]]){var b=t[u[p]].filter(function(e){return-1<d.indexOf(e)});h=h.concat(b)}}else{var y=[];for(var p in t){var S=t[p].every(function(e){return-1<d.indexOf(e)}),w=t[p].some(function(e){return-1<d.indexOf(e)});r&&r.partial&&(w|=t[p].some(function(e){return-1<r.partial.indexOf(e)}));var E=t[p].some(function(e){return-1<c.indexOf(e)}),x=t[p].some(function(e){return-1<u.indexOf(e)});S&&E&&a.indexOf(p)<0&&g.push(p),!S&&x&&-1<a.indexOf(p)&&h.push(p),!S&&w&&y.push(p)}f=y.filter(function(e){return l.indexOf(e)<0}),m=l.filter(function(e){return y.indexOf(e)<0})}return g.length+h.length+f.length+m.length&&(o.changeSet={},0<g.length&&(o.changeSet.added=g),0<h.length&&(o.changeSet.removed=h),0<f.length&&(o.changeSet.partialAdded=f),0<m.length&&(o.changeSet.partialRemoved=m)),o}},getNextRequestSequence=function(e){return++e%(void 0!==Number.MAX_SAFE_INTEGER?Number.MAX_SAFE_INTEGER:Number.MAX_VALUE)},getPreviousRequestSequence=function(e){return--e%(void 0!==Number.MAX_SAFE_INTEGER?Number.MAX_SAFE_INTEGER:Number.MAX_VALUE)},getAndSetNextRequestSequence=function(){return e=getNextRequestSequence(e)},c.requestViewUpdate=function(e,t,n,s){var i,r=e.substring("node".length).replace(/-/g,":"),o={sequence:getAndSetNextRequestSequence(),nodeID:r,jsonRequest:t},a={sequence:o.sequence,nodeID:o.nodeID,requestSequence:n};return s&&(o.supersedePrevious=!0),g.push(a),c.isRunningInWebportal()?h&&m?i=m(h,JSON.stringify(o)):LOGGER.error("Could not request view update. Widget not registered."):i=knimeViewRequest(JSON.stringify(o)),"string"==typeof(i=i||{})&&(i=JSON.parse(i)),i.requestSequence=n,a.monitor=i},c.isPushSupported=function(){return!c.isRunningInWebportal()&&knimePushSupported()},c.cancelViewRequest=function(e,t,n){for(var i=e.substring("node".length).replace(/-/g,":"),r=t,o=-1,a=0;a<g.length;a++){var s=g[a];if(s.monitor&&t==s.monitor.id){o=a;break}if(t==s.requestSequence&&i==s.nodeID){o=a,t=s.sequence;break}}try{c.isRunningInWebportal()?h&&v?v(h,r):LOGGER.error("Could not cancel view request. Widget not registered."):knimeCancelRequest(r),!n&&-1<o&&g.splice(o,1)}catch(e){LOGGER.error("Could not cancel view request: "+e)}},c.respondToViewRequest=function(e){for(var t="node"+e.nodeID.replace(/:/g,"-"),n=0;n<g.length;n++)if(g[n].sequence===e.sequence){g.splice(n,1);break}var i=document.getElementById(t);if(void 0!==i){var r=e.jsonResponse;i.contentWindow.KnimeInteractivity.respondToViewRequest(r)}},c.updateResponseMonitor=function(e){var t,n;"string"==typeof e&&(e=JSON.parse(e));for(var i=0;i<g.length;i++){var r=g[i];if(r.monitor&&e.id===r.monitor.id||e.requestSequence===r.sequence){t=r,n=i;break}}if(t){e.requestSequence=t.requestSequence,e.executionFinished&&e.responseAvailable&&(e.response=e.response.jsonResponse),t.monitor=e;var o="node"+t.nodeID.replace(/:/g,"-"),a=document.getElementById(o);(e.executionFailed||e.cancelled||e.executionFinished&&e.responseAvailable)&&g.splice(n,1),void 0!==a&&a.contentWindow.KnimeInteractivity.updateResponseMonitor(e)}},c.updateRequestStatus=function(e,t){for(var n,i=0;i<g.length;i++){var r=g[i];if(r.monitor&&t===r.monitor.id){n=r;break}}if(n)try{var o;if(c.isRunningInWebportal()?h&&p?o=p(h,t):LOGGER.error("Could not update view request status. Widget not registered."):o=knimeUpdateRequestStatus(t),o)return"string"==typeof o&&(o=JSON.parse(o)),o.requestSequence=n.requestSequence,o.executionFinished&&o.responseAvailable&&(o.response=o.response.jsonResponse),n.monitor=o}catch(e){LOGGER.error("Could not update view request status: "+e)}},c}()),"undefined"==typeof KnimeInteractivity&&(KnimeInteractivity={respondToViewRequest:function(e){return KnimePageLoader.respondToViewRequest(e)},updateResponseMonitor:function(e){return KnimePageLoader.updateResponseMonitor(e)}});
\ No newline at end of file
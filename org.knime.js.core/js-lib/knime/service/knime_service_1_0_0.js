@@ -408,6 +408,15 @@ window.knimeService = (function () {
         return false;
     };
     
+    var toRowLookup = function (rowKeys) {
+        // no prototype, so row keys like 'hasOwnProperty' or '__proto__' do not clash with inherited members
+        var lookup = Object.create(null);
+        for (var i = 0; i < rowKeys.length; i++) {
+            lookup[rowKeys[i]] = true;
+        }
+        return lookup;
+    };
+
     // eslint-disable-next-line max-params
     var addRowsForInteractivityEvent = function (type, tableId, rowKeys, skip, elementId, forceNew) {
         var selection;
@@ -432,11 +441,14 @@ window.knimeService = (function () {
                     curRows = curRows.concat(curElement.elements[i].rows);
                 }
             }
+            // only send the difference to the current state, compared via lookups instead of linear scans
+            var curRowsLookup = toRowLookup(curRows);
+            var rowKeysLookup = toRowLookup(rowKeys);
             updateSelection.changeSet.added = rowKeys.filter(function (row) {
-                return curRows.indexOf(row) < 0;
+                return curRowsLookup[row] !== true;
             });
             updateSelection.changeSet.removed = curRows.filter(function (row) {
-                return rowKeys.indexOf(row) < 0;
+                return rowKeysLookup[row] !== true;
             });
             updateSelection.changeSet.partialRemoved = curElement.partial;
         } else {
@@ -472,8 +484,9 @@ window.knimeService = (function () {
         // only send changeSet
         var toRemove = [];
         var partialRemove = [];
+        var partialLookup = toRowLookup(selection.partial || []);
         for (var i = 0; i < rowKeys.length; i++) {
-            if (selection.partial && selection.partial.indexOf(rowKeys[i]) > -1) {
+            if (partialLookup[rowKeys[i]] === true) {
                 partialRemove.push(rowKeys[i]);
             } else {
                 toRemove.push(rowKeys[i]);
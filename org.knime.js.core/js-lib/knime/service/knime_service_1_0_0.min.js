@@ -1,2 +1,2 @@
 /* eslint-disable */
-window.knimeService=function(){!function(){"use strict";var a="undefined"!=typeof window&&void 0!==window.document?window.document:{},e="undefined"!=typeof module&&module.exports,n="undefined"!=typeof Element&&"ALLOW_KEYBOARD_INPUT"in Element,r=function(){for(var e,t=[["requestFullscreen","exitFullscreen","fullscreenElement","fullscreenEnabled","fullscreenchange","fullscreenerror"],["webkitRequestFullscreen","webkitExitFullscreen","webkitFullscreenElement","webkitFullscreenEnabled","webkitfullscreenchange","webkitfullscreenerror"],["webkitRequestFullScreen","webkitCancelFullScreen","webkitCurrentFullScreenElement","webkitCancelFullScreen","webkitfullscreenchange","webkitfullscreenerror"],["mozRequestFullScreen","mozCancelFullScreen","mozFullScreenElement","mozFullScreenEnabled","mozfullscreenchange","mozfullscreenerror"],["msRequestFullscreen","msExitFullscreen","msFullscreenElement","msFullscreenEnabled","MSFullscreenChange","MSFullscreenError"]],n=0,r=t.length,i={};n<r;n++)if((e=t[n])&&e[1]in a){for(n=0;n<e.length;n++)i[t[0][n]]=e[n];return i}return!1}(),i={change:r.fullscreenchange,error:r.fullscreenerror},t={request:function(e){var t=r.requestFullscreen;e=e||a.documentElement,/ Version\/5\.1(?:\.\d+)? Safari\//.test(navigator.userAgent)?e[t]():e[t](n?Element.ALLOW_KEYBOARD_INPUT:{})},exit:function(){a[r.exitFullscreen]()},toggle:function(e){this.isFullscreen?this.exit():this.request(e)},onchange:function(e){this.on("change",e)},onerror:function(e){this.on("error",e)},on:function(e,t){var n=i[e];n&&a.addEventListener(n,t,!1)},off:function(e,t){var n=i[e];n&&a.off(n,t,!1)},raw:r};r?(Object.defineProperties(t,{isFullscreen:{get:function(){return Boolean(a[r.fullscreenElement])}},element:{enumerable:!0,get:function(){return a[r.fullscreenElement]}},enabled:{enumerable:!0,get:function(){return Boolean(a[r.fullscreenEnabled])}}}),e?module.exports=t:window.screenfull=t):e?module.exports=!1:window.screenfull=!1}(),function(a,f,m){function p(e,t){return typeof e===t}function h(e){return"function"!=typeof f.createElement?f.createElement(e):b?f.createElementNS.call(f,"http://www.w3.org/2000/svg",e):f.createElement.apply(f,arguments)}function l(e,t){return function(){return e.apply(t,arguments)}}function i(e){return e.replace(/([A-Z])/g,function(e,t){return"-"+t.toLowerCase()}).replace(/^ms-/,"-ms-")}function s(e,t,n,r){var i,a,s,l,o,u="modernizr",c=h("div"),d=((o=f.body)||((o=h(b?"svg":"body")).fake=!0),o);if(parseInt(n,10))for(;n--;)(s=h("div")).id=r?r[n]:u+(n+1),c.appendChild(s);return(i=h("style")).type="text/css",i.id="s"+u,(d.fake?d:c).appendChild(i),d.appendChild(c),i.styleSheet?i.styleSheet.cssText=e:i.appendChild(f.createTextNode(e)),c.id=u,d.fake&&(d.style.background="",d.style.overflow="hidden",l=g.style.overflow,g.style.overflow="hidden",g.appendChild(d)),a=t(c,e),d.fake?(d.parentNode.removeChild(d),g.style.overflow=l,g.offsetHeight):c.parentNode.removeChild(c),!!a}function v(e,t){var n=e.length;if("CSS"in a&&"supports"in a.CSS){for(;n--;)if(a.CSS.supports(i(e[n]),t))return!0;return!1}if("CSSSupportsRule"in a){for(var r=[];n--;)r.push("("+i(e[n])+":"+t+")");return s("@supports ("+(r=r.join(" or "))+") { #modernizr { position: absolute; } }",function(e){return"absolute"==function(e,t,n){var r;if("getComputedStyle"in a){r=getComputedStyle.call(a,e,t);var i=a.console;if(null!==r)n&&(r=r.getPropertyValue(n));else if(i){i[i.error?"error":"log"].call(i,"getComputedStyle returning null, its possible modernizr test results are inaccurate")}}else r=!t&&e.currentStyle&&e.currentStyle[n];return r}(e,null,"position")})}return m}function o(e,t,n,r){function i(){s&&(delete E.style,delete E.modElem)}if(r=!p(r,"undefined")&&r,!p(n,"undefined")){var a=v(e,n);if(!p(a,"undefined"))return a}for(var s,l,o,u,c,d=["modernizr","tspan","samp"];!E.style&&d.length;)s=!0,E.modElem=h(d.shift()),E.style=E.modElem.style;for(o=e.length,l=0;l<o;l++)if(u=e[l],c=E.style[u],~(""+u).indexOf("-")&&(u=u.replace(/([a-z])-([a-z])/g,function(e,t,n){return t+n.toUpperCase()}).replace(/^-/,"")),E.style[u]!==m){if(r||p(n,"undefined"))return i(),"pfx"!=t||u;try{E.style[u]=n}catch(e){}if(E.style[u]!=c)return i(),"pfx"!=t||u}return i(),!1}function r(e,t,n,r,i){var a=e.charAt(0).toUpperCase()+e.slice(1),s=(e+" "+y.join(a+" ")+a).split(" ");return p(t,"string")||p(t,"undefined")?o(s,t,r,i):function(e,t,n){var r;for(var i in e)if(e[i]in t)return!1===n?e[i]:p(r=t[e[i]],"function")?l(r,n||t):r;return!1}(s=(e+" "+C.join(a+" ")+a).split(" "),t,n)}function e(e,t,n){return r(e,m,m,t,n)}var u=[],c=[],t={_version:"3.6.0",_config:{classPrefix:"",enableClasses:!0,enableJSClass:!0,usePrefixes:!0},_q:[],on:function(e,t){var n=this;setTimeout(function(){t(n[e])},0)},addTest:function(e,t,n){c.push({name:e,fn:t,options:n})},addAsyncTest:function(e){c.push({name:null,fn:e})}},d=function(){};d.prototype=t,(d=new d).addTest("es6object",!!(Object.assign&&Object.is&&Object.setPrototypeOf)),d.addTest("promises",function(){return"Promise"in a&&"resolve"in a.Promise&&"reject"in a.Promise&&"all"in a.Promise&&"race"in a.Promise&&(new a.Promise(function(e){t=e}),"function"==typeof t);var t});var g=f.documentElement,b="svg"===g.nodeName.toLowerCase(),n="Moz O ms Webkit",y=t._config.usePrefixes?n.split(" "):[];t._cssomPrefixes=y;var C=t._config.usePrefixes?n.toLowerCase().split(" "):[];t._domPrefixes=C;var w={elem:h("modernizr")};d._q.push(function(){delete w.elem});var E={style:w.elem.style};d._q.unshift(function(){delete E.style}),t.testAllProps=r,t.testAllProps=e,d.addTest("cssanimations",e("animationName","a",!0)),function(){var e,t,n,r,i,a;for(var s in c)if(c.hasOwnProperty(s)){if(e=[],(t=c[s]).name&&(e.push(t.name.toLowerCase()),t.options&&t.options.aliases&&t.options.aliases.length))for(n=0;n<t.options.aliases.length;n++)e.push(t.options.aliases[n].toLowerCase());for(r=p(t.fn,"function")?t.fn():t.fn,i=0;i<e.length;i++)1===(a=e[i].split(".")).length?d[a[0]]=r:(!d[a[0]]||d[a[0]]instanceof Boolean||(d[a[0]]=new Boolean(d[a[0]])),d[a[0]][a[1]]=r),u.push((r?"":"no-")+a.join("-"))}}(),function(e){var t=g.className,n=d._config.classPrefix||"";if(b&&(t=t.baseVal),d._config.enableJSClass){var r=new RegExp("(^|\\s)"+n+"no-js(\\s|$)");t=t.replace(r,"$1"+n+"js$2")}d._config.enableClasses&&(t+=" "+n+e.join(" "+n),b?g.className.baseVal=t:g.className=t)}(u),delete t.addTest,delete t.addAsyncTest;for(var S=0;S<d._q.length;S++)d._q[S]();a.Modernizr=d}(window,document);function r(e){e.nodeId=p.nodeId,parent.postMessage(e,window.origin)}function f(){if(p.pageBuilderPresent)i=!0,t="KnimePageBuilderAPI",u={interactivityCallbacks:{},subscribe:function(e,t,n){u.interactivityCallbacks[e]=t,r({type:"interactivitySubscribe",id:e,elementFilter:n})},unsubscribe:function(e){delete u.interactivityCallbacks[e],r({type:"interactivityUnsubscribe",id:e})},publish:function(e,t){r({type:"interactivityPublish",id:e,payload:t})},registerSelectionTranslator:function(e,t){r({type:"interactivityRegisterSelectionTranslator",id:t,translator:e})},getPublishedData:function(e){if(parent[t]&&parent[t].interactivityGetPublishedData)return parent[t].interactivityGetPublishedData(e);throw Error("PageBuilder API not available.")},messageFromPageBuilder:function(e){if(e.origin===window.origin&&"interactivityEvent"===e.data.type&&void 0!==e.data.id){var t=u.interactivityCallbacks[e.data.id];t&&t(e.data.payload)}}},window.addEventListener("message",u.messageFromPageBuilder);else if(parent&&parent.KnimePageLoader){try{n=parent.KnimePageLoader.isRunningInWebportal()}catch(e){n=!1}parent.KnimePageLoader.publish&&(i=!0,u=parent.KnimePageLoader),l=parent.KnimePageLoader.isRunningInSeleniumBrowser()}else l=void 0!==parent.seleniumKnimeBridge;var t,e=document.getElementsByTagName("body")[0];(c=document.createElement("nav")).setAttribute("id","knime-service-header"),c.setAttribute("class","knime-service-header"),e.insertBefore(c,e.firstChild),h=!0}var c,m,p={version:"1.0.0",CLOSE:1,OK:2,CANCEL:4,LINK:8,SMALL_ICON:16},a="selection",s="filter",d="-",h=!1,i=!1,n=!1,l=!1,o={},u=null,v="http://www.w3.org/2000/svg";p.getGlobalService=function(){return h||f(),u},p.floatingHeader=function(e){h||f(),c.style.position=e?"absolute":"static"},p.headerHeight=function(){return h||f(),c.offsetHeight},p.isInteractivityAvailable=function(){return h||f(),i},p.isRunningInWebportal=function(){return h||f(),n},p.isRunningInSeleniumBrowser=function(){return h||f(),l};function g(e,t,n,r,i){if(document.getElementById(e))return!1;var a=document.createElement("div");a.setAttribute("id",e),a.className="service-button",a.setAttribute("title",n),a.setAttribute("aria-label",n);var s=document.createElement("i");if(s.setAttribute("aria-hidden",!0),a.appendChild(s),"number"==typeof t?(s.setAttribute("class","uicon"),s.appendChild(document.createTextNode(String.fromCharCode(t)))):"string"==typeof t&&(s.className="ficon fa fa-fw fa-"+t,s.setAttribute("aria-hidden","true")),!0===i)c.insertBefore(a,c.firstChild);else if("string"==typeof i){for(var l=!1,o=c.children,u=0;u<o.length;u++)if(o[u].getAttribute("id")===i){u+1===o.length?c.appendChild(a):c.insertBefore(a,o[u+1]),l=!0;break}l||c.insertBefore(a,c.firstChild)}else c.appendChild(a);return a.onclick=r,c.style.display="block",a}function b(){var e,t="";for(e in o)o[e]&&(t+=o[e]+"\n");e="knime-service-warn-button";var n=document.getElementById(e);""===t?n&&n.parentNode.removeChild(n):(t=t.substring(0,t.length-1),n?(n.setAttribute("title",t),n.setAttribute("aria-label",t)):(h||f(),(n=g(e,"exclamation",t,function(){alert(this.getAttribute("title"))},"knime-service-menu-button")).setAttribute("class",n.getAttribute("class")+" warn-button")))}p.setWarningMessage=function(e,t){null==t&&(t="knimeGenericWarning"),o[t]=e,b()},p.clearWarningMessage=function(e){null==e&&(e="knimeGenericWarning"),o[e]&&delete o[e],b()},p.clearAllWarningMessages=function(){o={},b()};function y(){var e=document.getElementById("knime-service-menu"),t="open"===e.className,n=t?"":"open";e.className=n,document.getElementById("knime-service-overlay").className=n,document.getElementById("knime-service-menu-button").className=t?"service-button":"service-button active"}function C(){g("knime-service-menu-button","bars","Settings",y,!0);var e=document.createElement("div");e.setAttribute("id","knime-service-overlay"),e.onclick=y,c.appendChild(e);var t=document.createElement("nav");t.setAttribute("id","knime-service-menu"),c.appendChild(t),m=document.createElement("ul"),t.appendChild(m)}function w(e,t,n){return h||f(),i&&u&&u.publish(e,t,n)}function E(e,t,n){return h||f(),i&&u&&u.subscribe(e,t,n)}function S(e,t){return h||f(),i&&u&&u.unsubscribe(e,t)}function x(e){if(h||f(),!i||!u)return null;var t=u.getPublishedData(e);return void 0===(t=t||{}).elements&&(t.elements=[]),t}p.publishSelection=function(e,t,n){return w(a+d+e,t,n)},p.registerSelectionTranslator=function(e,t,n){i&&u&&u.registerSelectionTranslator&&u.registerSelectionTranslator(e,t)},p.subscribeToSelection=function(e,t){return E(a+d+e,t)},p.unsubscribeSelection=function(e,t){return S(a+d+e,t)},p.publishFilter=function(e,t,n){return w(s+d+e,t,n)},p.subscribeToFilter=function(e,t,n){return E(s+d+e,t,n)},p.unsubscribeFilter=function(e,t){return S(s+d+e,t)},p.addToFilter=function(e,t,n){if(!t||!t.id)return!1;var r=x(s+d+e);if(!r)return!1;for(var i=!1,a=0;a<r.elements.length;a++)if(r.elements[a].id===t.id){r.elements[a]=t,i=!0;break}return i||r.elements.push(t),w(s+d+e,r,n)},p.removeFromFilter=function(e,t,n){var r=x(s+d+e);if(!r)return!1;for(var i=r.elements.length;i--;)if(r.elements[i].id===t)return r.elements.splice(i,1),w(s+d+e,r,n);return!1};function A(e,t,n,r,i,a){var s,l=x(e+d+t);a||(s=l),(s=s||{selectionMethod:e,elements:[]}).selectionMethod||(s.selectionMethod=e),n=n||[];var o={selectionMethod:e,changeSet:{}};if(a&&l&&l.elements){for(var u=[],c=0;c<l.elements.length;c++)l.elements[c].rows&&(u=u.concat(l.elements[c].rows));o.changeSet.added=n.filter(function(e){return u.indexOf(e)<0}),o.changeSet.removed=u.filter(function(e){return n.indexOf(e)<0}),o.changeSet.partialRemoved=l.partial}else o.changeSet.added=n;return w(e+d+t,o,r)}p.setSelectedRows=function(e,t,n,r){return A(a,e,t,n,0,!0)},p.setFilteredRows=function(e,t,n,r){return A(s,e,t,n,0,!0)},p.addRowsToSelection=function(e,t,n,r){return A(a,e,t,n,0,!1)},p.addRowsToFilter=function(e,t,n,r){return A(s,e,t,n,0,!1)};function k(e,t,n,r,i){var a=x(e+d+t);if(!a||!a.elements&&!a.partial)return!1;for(var s=[],l=[],o=0;o<n.length;o++)a.partial&&-1<a.partial.indexOf(n[o])?l.push(n[o]):s.push(n[o]);return w(e+d+t,{selectionMethod:e,changeSet:{removed:s,partialRemoved:l}},r)}p.removeRowsFromSelection=function(e,t,n,r){return k(a,e,t,n)},p.removeRowsFromFilter=function(e,t,n,r){return k(s,e,t,n)},p.getAllRowsForSelection=function(e,t){var n=[],r=t;if((r=r||x(a+d+e))&&r.elements)for(var i=0;i<r.elements.length;i++)r.elements[i].rows&&(n=n.concat(r.elements[i].rows));return n},p.getAllPartiallySelectedRows=function(e){return x(a+d+e).partial||[]},p.isRowSelected=function(e,t){return-1<p.getAllRowsForSelection(e).indexOf(t)},p.isRowPartiallySelected=function(e,t){return-1<p.getAllPartiallySelectedRows(e).indexOf(t)},p.addMenuItem=function(e,t,n,r,i){h||f(),m||C();var a=document.createElement("li"),s=document.createElement("a"),l=(p.LINK|p.CLOSE|p.OK|p.CANCEL)&i;s.setAttribute("href","#");var o=document.createElement("span");if(o.style.float="left",l?(s.appendChild(o),a.appendChild(s)):a.appendChild(o),t){var u=t;"string"==typeof t&&((u=document.createElement("i")).className="fa fa-fw fa-"+t,u.setAttribute("aria-hidden","true"),p.SMALL_ICON&i&&(u.className+=" small")),o.appendChild(u)}else s.style.marginLeft="24px";if("string"==typeof e&&""!==e){var c=document.createTextNode(e);if(l||void 0===n.id)o.appendChild(c);else{var d=document.createElement("label");d.setAttribute("for",n.id),d.appendChild(c),o.appendChild(d)}}return n&&(l?a.className="menuItem":(n.style.marginLeft="6px",n.style.float="right",a.appendChild(n)),p.LINK&i&&(s.onclick=function(e){e.preventDefault(),y(),window.open(n,"_blank")})),m.appendChild(a),a},p.createStackedIcon=function(e,t,n,r){var i=document.createElement("span");i.className="fa-fw fa-stack";var a=document.createElement("i");a.className="fa fa-"+e+" fa-stack-1x "+n,i.appendChild(a);var s=document.createElement("i");return s.className="fa fa-"+t+" fa-stack-1x "+r,i.appendChild(s),i};function N(e,t,n){return e.setAttribute("id",t),e.setAttribute("name",t),e.style.fontSize="12px",n&&(e.style.width=n),e.style.margin="0",e.style.outlineOffset="-3px",e}p.createMenuTextField=function(e,t,n,r){var i=document.createElement("input");return i.setAttribute("type","text"),N(i,e,"150px"),n&&(r?void 0===i.oninput?i.addEventListener("keyup",n):i.addEventListener("input",n):(i.addEventListener("keypress",function(e){13===e.keyCode&&n.apply(this)}),i.addEventListener("blur",n))),t&&(i.value=t),i},p.createMenuNumberField=function(e,t,n,r,i,a,s){var l=document.createElement("input");return l.setAttribute("type","number"),N(l,e,"75px"),"number"==typeof n&&l.setAttribute("min",n),"number"==typeof r&&l.setAttribute("max",r),"number"==typeof i&&l.setAttribute("step",i),a&&(s?void 0===l.oninput?l.addEventListener("change",a):l.addEventListener("input",a):(l.addEventListener("keypress",function(e){13===e.keyCode&&a.apply(this)}),l.addEventListener("blur",a))),"number"==typeof t&&l.setAttribute("value",t),l},p.createMenuCheckbox=function(e,t,n,r){var i=document.createElement("input");return i.setAttribute("id",e),i.setAttribute("type","checkbox"),i.setAttribute("name",e),void 0!==r&&i.setAttribute("value",r),i.checked=t,i.style.margin="4px 0 0",i.style.padding="0",n&&i.addEventListener("change",n),i},p.createMenuSelect=function(e,t,n,r){var i=document.createElement("select");N(i,e,"150px");for(var a=0;a<n.length;a++){var s=document.createElement("option");s.setAttribute("value",n[a]),s.appendChild(document.createTextNode(n[a])),i.appendChild(s)}return r&&i.addEventListener("change",r),t&&(i.value=t),i},p.createMenuRadioButton=function(e,t,n,r){var i=document.createElement("input");return i.setAttribute("type","radio"),i.setAttribute("name",t),i.setAttribute("id",e),i.setAttribute("value",n),r&&i.addEventListener("change",r),i},p.createInlineMenuRadioButtons=function(e,t,n,r,i){var a=document.createElement("span");a.setAttribute("id",e),a.className="radioGroup";for(var s=0;s<r.length;s++){var l=r[s],o=t+"_"+l,u=p.createMenuRadioButton(o,t,l,i);u.checked=l===n,a.appendChild(u);var c=document.createElement("label");c.setAttribute("for",o),c.appendChild(document.createTextNode(l)),a.appendChild(c)}return a},p.addMenuDivider=function(){h||f(),m||C();var e=document.createElement("li");return e.className="divider",m.appendChild(e),e},p.addButton=function(e,t,n,r){return h||f(),g(e,t,n,r,!1)},p.allowFullscreen=function(e){h||f();var t=l||n||p.pageBuilderPresent;return i&&screenfull.enabled&&t&&g("knime-service-fullscreen-button","arrows-alt","Toggle Fullscreen",function(){screenfull.enabled&&screenfull.toggle(e)})},p.addNavSpacer=function(){h||f();var e=document.createElement("div");e.className="service-nav-spacer",c.appendChild(e)},p.isViewRequestsSupported=function(){return Modernizr.promises&&Modernizr.es6object},p.cssEscapeId=function(e){var t=e.toString();return/^[a-z]+/i.test(t)||(t="knid_"+t),t.replace(/^[^a-z]+|[^\w:-]+/gi,"___")};function F(e){var t=e.cssText;if(e.cssText.includes("rgba")){for(var n=[],r=[],i=[],a=/(.*?)rgba\(\s*(\d+)\s*,\s*(\d+)\s*,\s*(\d+)\s*,\s*([0-9]+\.[0-9]+|\d\s*)\)/g;null!==(n=a.exec(e.cssText));)i.push(n[0].match(/\w+(?=:\s*rgba):\s*rgba(.*?)\)/g)),r.push([[n[0].match(/\w+(?=:\s*rgba)/g)],[n[n.length-4]],[n[n.length-3]],[n[n.length-2]],[n[n.length-1]]]);for(var s=0;s<r.length;s++){var l=r[s][0]+": rgb("+r[s][1]+","+r[s][2]+","+r[s][3]+");",o=r[s][0]+"-opacity: "+r[s][4]+"; ";t=t.replace(i[s],l+o)}}else e.cssText.includes("transparent")&&(t=e.cssText.replace(new RegExp("transparent","g"),"none"));return t}p.inlineSvgStyles=function(e){for(var t=e.firstChild,n=document.styleSheets,r=[],i=0;i<n.length;i++)if(!n[i].cssRules&&n[i].rules&&(n[i].cssRules=n[i].rules),n[i].cssRules){for(var a=[],s=0;s<n[i].cssRules.length;s++)try{var l=n[i].cssRules[s];e.querySelector(l.selectorText)&&a.push(F(l))}catch(e){continue}if(0<a.length){var o=document.createElementNS(v,"style");o.type="text/css",o.appendChild(document.createTextNode(a.join("\n"))),r.push(o)}}for(var u=0;u<r.length;u++)e.insertBefore(r[u],t)};return p.measureAndTruncate=function(e,s){var t,l,o,u=[],c=[],d=s.minimalChars?s.minimalChars:1;t=void 0===s.tempContainer||null===s.tempContainer?"g":s.tempContainer;var f=0,m=0;if(""!==t){if(l=document.createElementNS(v,t),s.tempContainerClasses&&l.setAttribute("class",s.tempContainerClasses),s.tempContainerAttributes)for(o in s.tempContainerAttributes)l.setAttribute(o,s.tempContainerAttributes[o]);s.container.appendChild(l)}return e.forEach(function(e){var t=document.createElementNS(v,"text");if(t.textContent=e,s.classes&&t.setAttribute("class",s.classes),s.attributes)for(o in s.attributes)t.setAttribute(o,s.attributes[o]);l?l.appendChild(t):(s.container.appendChild(t),u.push(t));var n=function(e,t,n,r){var i=e.getBoundingClientRect(),a=e.textContent;if(i.width>t||i.height>n){var s=1;for(a+="…";(i.width>t||i.height>n)&&a.length>r;){var l=0,o=0;i.width>t&&(o=i.width-t),i.height>n&&(l=i.height-n),s=l<o?o/i.width:l/i.height,(a=a.slice(0,Math.min(Math.floor(-a.length*s),-1))).length>=r||(a=e.textContent.substring(0,r)),e.textContent=a+"…",i=e.getBoundingClientRect()}}return{text:a=e.textContent,rect:i}}(t,s.maxWidth,s.maxHeight,d),r=n.text,i=n.rect.width,a=n.rect.height;m=m<i?i:m,f=f<a?a:f,c.push({originalData:e,truncated:r,width:i,height:a})}),l?l.parentNode.removeChild(l):u.forEach(function(e){e.parentNode.removeChild(e)}),{values:c,max:{maxWidth:m,maxHeight:f}}},p.log=function(e){console&&console.log&&console.log(e)},p.logError=function(e){console&&console.error&&console.error(e)},document.addEventListener("DOMContentLoaded",f,!1),p}();
+window.knimeService=function(){!function(){"use strict";var a="undefined"!=typeof window&&void 0!==window.document?window.document:{},e="undefined"!=typeof module&&module.exports,n="undefined"!=typeof Element&&"ALLOW_KEYBOARD_INPUT"in Element,r=function(){for(var e,t=[["requestFullscreen","exitFullscreen","fullscreenElement","fullscreenEnabled","fullscreenchange","fullscreenerror"],["webkitRequestFullscreen","webkitExitFullscreen","webkitFullscreenElement","webkitFullscreenEnabled","webkitfullscreenchange","webkitfullscreenerror"],["webkitRequestFullScreen","webkitCancelFullScreen","webkitCurrentFullScreenElement","webkitCancelFullScreen","webkitfullscreenchange","webkitfullscreenerror"],["mozRequestFullScreen","mozCancelFullScreen","mozFullScreenElement","mozFullScreenEnabled","mozfullscreenchange","mozfullscreenerror"],["msRequestFullscreen","msExitFullscreen","msFullscreenElement","msFullscreenEnabled","MSFullscreenChange","MSFullscreenError"]],n=0,r=t.length,i={};n<r;n++)if((e=t[n])&&e[1]in a){for(n=0;n<e.length;n++)i[t[0][n]]=e[n];return i}return!1}(),i={change:r.fullscreenchange,error:r.fullscreenerror},t={request:function(e){var t=r.requestFullscreen;e=e||a.documentElement,/ Version\/5\.1(?:\.\d+)? Safari\//.test(navigator.userAgent)?e[t]():e[t](n?Element.ALLOW_KEYBOARD_INPUT:{})},exit:function(){a[r.exitFullscreen]()},toggle:function(e){this.isFullscreen?this.exit():this.request(e)},onchange:function(e){this.on("change",e)},onerror:function(e){this.on("error",e)},on:function(e,t){var n=i[e];n&&a.addEventListener(n,t,!1)},off:function(e,t){var n=i[e];n&&a.off(n,t,!1)},raw:r};r?(Object.defineProperties(t,{isFullscreen:{get:function(){return Boolean(a[r.fullscreenElement])}},element:{enumerable:!0,get:function(){return a[r.fullscreenElement]}},enabled:{enumerable:!0,get:function(){return Boolean(a[r.fullscreenEnabled])}}}),e?module.exports=t:window.screenfull=t):e?module.exports=!1:window.screenfull=!1}(),function(a,f,m){function p(e,t){return typeof e===t}function h(e){return"function"!=typeof f.createElement?f.createElement(e):b?f.createElementNS.call(f,"http://www.w3.org/2000/svg",e):f.createElement.apply(f,arguments)}function l(e,t){return function(){return e.apply(t,arguments)}}function i(e){return e.replace(/([A-Z])/g,function(e,t){return"-"+t.toLowerCase()}).replace(/^ms-/,"-ms-")}function s(e,t,n,r){var i,a,s,l,o,u="modernizr",c=h("div"),d=((o=f.body)||((o=h(b?"svg":"body")).fake=!0),o);if(parseInt(n,10))for(;n--;)(s=h("div")).id=r?r[n]:u+(n+1),c.appendChild(s);return(i=h("style")).type="text/css",i.id="s"+u,(d.fake?d:c).appendChild(i),d.appendChild(c),i.styleSheet?i.styleSheet.cssText=e:i.appendChild(f.createTextNode(e)),c.id=u,d.fake&&(d.style.background="",d.style.overflow="hidden",l=g.style.overflow,g.style.overflow="hidden",g.appendChild(d)),a=t(c,e),d.fake?(d.parentNode.removeChild(d),g.style.overflow=l,g.offsetHeight):c.parentNode.removeChild(c),!!a}function v(e,t){var n=e.length;if("CSS"in a&&"supports"in a.CSS){for(;n--;)if(a.CSS.supports(i(e[n]),t))return!0;return!1}if("CSSSupportsRule"in a){for(var r=[];n--;)r.push("("+i(e[n])+":"+t+")");return s("@supports ("+(r=r.join(" or "))+") { #modernizr { position: absolute; } }",function(e){return"absolute"==function(e,t,n){var r;if("getComputedStyle"in a){r=getComputedStyle.call(a,e,t);var i=a.console;if(null!==r)n&&(r=r.getPropertyValue(n));else if(i){i[i.error?"error":"log"].call(i,"getComputedStyle returning null, its possible modernizr test results are inaccurate")}}else r=!t&&e.currentStyle&&e.currentStyle[n];return r}(e,null,"position")})}return m}function o(e,t,n,r){function i(){s&&(delete E.style,delete E.modElem)}if(r=!p(r,"undefined")&&r,!p(n,"undefined")){var a=v(e,n);if(!p(a,"undefined"))return a}for(var s,l,o,u,c,d=["modernizr","tspan","samp"];!E.style&&d.length;)s=!0,E.modElem=h(d.shift()),E.style=E.modElem.style;for(o=e.length,l=0;l<o;l++)if(u=e[l],c=E.style[u],~(""+u).indexOf("-")&&(u=u.replace(/([a-z])-([a-z])/g,function(e,t,n){return t+n.toUpperCase()}).replace(/^-/,"")),E.style[u]!==m){if(r||p(n,"undefined"))return i(),"pfx"!=t||u;try{E.style[u]=n}catch(e){}if(E.style[u]!=c)return i(),"pfx"!=t||u}return i(),!1}function r(e,t,n,r,i){var a=e.charAt(0).toUpperCase()+e.slice(1),s=(e+" "+y.join(a+" ")+a).split(" ");return p(t,"string")||p(t,"undefined")?o(s,t,r,i):function(e,t,n){var r;for(var i in e)if(e[i]in t)return!1===n?e[i]:p(r=t[e[i]],"function")?l(r,n||t):r;return!1}(s=(e+" "+C.join(a+" ")+a).split(" "),t,n)}function e(e,t,n){return r(e,m,m,t,n)}var u=[],c=[],t={_version:"3.6.0",_config:{classPrefix:"",enableClasses:!0,enableJSClass:!0,usePrefixes:!0},_q:[],on:function(e,t){var n=this;setTimeout(function(){t(n[e])},0)},addTest:function(e,t,n){c.push({name:e,fn:t,options:n})},addAsyncTest:function(e){c.push({name:null,fn:e})}},d=function(){};d.prototype=t,(d=new d).addTest("es6object",!!(Object.assign&&Object.is&&Object.setPrototypeOf)),d.addTest("promises",function(){return"Promise"in a&&"resolve"in a.Promise&&"reject"in a.Promise&&"all"in a.Promise&&"race"in a.Promise&&(new a.Promise(function(e){t=e}),"function"==typeof t);var t});var g=f.documentElement,b="svg"===g.nodeName.toLowerCase(),n="Moz O ms Webkit",y=t._config.usePrefixes?n.split(" "):[];t._cssomPrefixes=y;var C=t._config.usePrefixes?n.toLowerCase().split(" "):[];t._domPrefixes=C;var w={elem:h("modernizr")};d._q.push(function(){delete w.elem});var E={style:w.elem.style};d._q.unshift(function(){delete E.style}),t.testAllProps=r,t.testAllProps=e,d.addTest("cssanimations",e("animationName","a",!0)),function(){var e,t,n,r,i,a;for(var s in c)if(c.hasOwnProperty(s)){if(e=[],(t=c[s]).name&&(e.push(t.name.toLowerCase()),t.options&&t.options.aliases&&t.options.aliases.length))for(n=0;n<t.options.aliases.length;n++)e.push(t.options.aliases[n].toLowerCase());for(r=p(t.fn,"function")?t.fn():t.fn,i=0;i<e.length;i++)1===(a=e[i].split(".")).length?d[a[0]]=r:(!d[a[0]]||d[a[0]]instanceof Boolean||(d[a[0]]=new Boolean(d[a[0]])),d[a[0]][a[1]]=r),u.push((r?"":"no-")+a.join("-"))}}(),function(e){var t=g.className,n=d._config.classPrefix||"";if(b&&(t=t.baseVal),d._config.enableJSClass){var r=new RegExp("(^|\\s)"+n+"no-js(\\s|$)");t=t.replace(r,"$1"+n+"js$2")}d._config.enableClasses&&(t+=" "+n+e.join(" "+n),b?g.className.baseVal=t:g.className=t)}(u),delete t.addTest,delete t.addAsyncTest;for(var S=0;S<d._q.length;S++)d._q[S]();a.Modernizr=d}(window,document);function r(e){e.nodeId=p.nodeId,parent.postMessage(e,window.origin)}function f(){if(p.pageBuilderPresent)i=!0,t="KnimePageBuilderAPI",u={interactivityCallbacks:{},subscribe:function(e,t,n){u.interactivityCallbacks[e]=t,r({type:"interactivitySubscribe",id:e,elementFilter:n})},unsubscribe:function(e){delete u.interactivityCallbacks[e],r({type:"interactivityUnsubscribe",id:e})},publish:function(e,t){r({type:"interactivityPublish",id:e,payload:t})},registerSelectionTranslator:function(e,t){r({type:"interactivityRegisterSelectionTranslator",id:t,translator:e})},getPublishedData:function(e){if(parent[t]&&parent[t].interactivityGetPublishedData)return parent[t].interactivityGetPublishedData(e);throw Error("PageBuilder API not available.")},messageFromPageBuilder:function(e){if(e.origin===window.origin&&"interactivityEvent"===e.data.type&&void 0!==e.data.id){var t=u.interactivityCallbacks[e.data.id];t&&t(e.data.payload)}}},window.addEventListener("message",u.messageFromPageBuilder);else if(parent&&parent.KnimePageLoader){try{n=parent.KnimePageLoader.isRunningInWebportal()}catch(e){n=!1}parent.KnimePageLoader.publish&&(i=!0,u=parent.KnimePageLoader),l=parent.KnimePageLoader.isRunningInSeleniumBrowser()}else l=void 0!==parent.seleniumKnimeBridge;var t,e=document.getElementsByTagName("body")[0];(c=document.createElement("nav")).setAttribute("id","knime-service-header"),c.setAttribute("class","knime-service-header"),e.insertBefore(c,e.firstChild),h=!0}var c,m,p={version:"1.0.0",CLOSE:1,OK:2,CANCEL:4,LINK:8,SMALL_ICON:16},a="selection",s="filter",d="-",h=!1,i=!1,n=!1,l=!1,o={},u=null,v="http://www.w3.org/2000/svg";p.getGlobalService=function(){return h||f(),u},p.floatingHeader=function(e){h||f(),c.style.position=e?"absolute":"static"},p.headerHeight=function(){return h||f(),c.offsetHeight},p.isInteractivityAvailable=function(){return h||f(),i},p.isRunningInWebportal=function(){return h||f(),n},p.isRunningInSeleniumBrowser=function(){return h||f(),l};function g(e,t,n,r,i){if(document.getElementById(e))return!1;var a=document.createElement("div");a.setAttribute("id",e),a.className="service-button",a.setAttribute("title",n),a.setAttribute("aria-label",n);var s=document.createElement("i");if(s.setAttribute("aria-hidden",!0),a.appendChild(s),"number"==typeof t?(s.setAttribute("class","uicon"),s.appendChild(document.createTextNode(String.fromCharCode(t)))):"string"==typeof t&&(s.className="ficon fa fa-fw fa-"+t,s.setAttribute("aria-hidden","true")),!0===i)c.insertBefore(a,c.firstChild);else if("string"==typeof i){for(var l=!1,o=c.children,u=0;u<o.length;u++)if(o[u].getAttribute("id")===i){u+1===o.length?c.appendChild(a):c.insertBefore(a,o[u+1]),l=!0;break}l||c.insertBefore(a,c.firstChild)}else c.appendChild(a);return a.onclick=r,c.style.display="block",a}function b(){var e,t="";for(e in o)o[e]&&(t+=o[e]+"\n");e="knime-service-warn-button";var n=document.getElementById(e);""===t?n&&n.parentNode.removeChild(n):(t=t.substring(0,t.length-1),n?(n.setAttribute("title",t),n.setAttribute("aria-label",t)):(h||f(),(n=g(e,"exclamation",t,function(){alert(this.getAttribute("title"))},"knime-service-menu-button")).setAttribute("class",n.getAttribute("class")+" warn-button")))}p.setWarningMessage=function(e,t){null==t&&(t="knimeGenericWarning"),o[t]=e,b()},p.clearWarningMessage=function(e){null==e&&(e="knimeGenericWarning"),o[e]&&delete o[e],b()},p.clearAllWarningMessages=function(){o={},b()};function y(){var e=document.getElementById("knime-service-menu"),t="open"===e.className,n=t?"":"open";e.className=n,document.getElementById("knime-service-overlay").className=n,document.getElementById("knime-service-menu-button").className=t?"service-button":"service-button active"}function C(){g("knime-service-menu-button","bars","Settings",y,!0);var e=document.createElement("div");e.setAttribute("id","knime-service-overlay"),e.onclick=y,c.appendChild(e);var t=document.createElement("nav");t.setAttribute("id","knime-service-menu"),c.appendChild(t),m=document.createElement("ul"),t.appendChild(m)}function w(e,t,n){return h||f(),i&&u&&u.publish(e,t,n)}function E(e,t,n){return h||f(),i&&u&&u.subscribe(e,t,n)}function S(e,t){return h||f(),i&&u&&u.unsubscribe(e,t)}function x(e){if(h||f(),!i||!u)return null;var t=u.getPublishedData(e);return void 0===(t=t||{}).elements&&(t.elements=[]),t}p.publishSelection=function(e,t,n){return w(a+d+e,t,n)},p.registerSelectionTranslator=function(e,t,n){i&&u&&u.registerSelectionTranslator&&u.registerSelectionTranslator(e,t)},p.subscribeToSelection=function(e,t){return E(a+d+e,t)},p.unsubscribeSelection=function(e,t){return S(a+d+e,t)},p.publishFilter=function(e,t,n){return w(s+d+e,t,n)},p.subscribeToFilter=function(e,t,n){return E(s+d+e,t,n)},p.unsubscribeFilter=function(e,t){return S(s+d+e,t)},p.addToFilter=function(e,t,n){if(!t||!t.id)return!1;var r=x(s+d+e);if(!r)return!1;for(var i=!1,a=0;a<r.elements.length;a++)if(r.elements[a].id===t.id){r.elements[a]=t,i=!0;break}return i||r.elements.push(t),w(s+d+e,r,n)},p.removeFromFilter=function(e,t,n){var r=x(s+d+e);if(!r)return!1;for(var i=r.elements.length;i--;)if(r.elements[i].id===t)return r.elements.splice(i,1),w(s+d+e,r,n);return!1};function toRowLookup(e){for(var t=Object.create(null),n=0;n<e.length;n++)t[e[n]]=!0;return t}function A(e,t,n,r,i,a){var s,l=x(e+d+t);a||(s=l),(s=s||{selectionMethod:e,elements:[]}).selectionMethod||(s.selectionMethod=e),n=n||[];var o={selectionMethod:e,changeSet:{}};if(a&&l&&l.elements){for(var u=[],c=0;c<l.elements.length;c++)l.elements[c].rows&&(u=u.concat(l.elements[c].rows));var h=toRowLookup(u),f=toRowLookup(n);o.changeSet.added=n.filter(function(e){return!0!==h[e]}),o.changeSet.removed=u.filter(function(e){return!0!==f[e]}),o.changeSet.partialRemoved=l.partial}else o.changeSet.added=n;return w(e+d+t,o,r)}p.setSelectedRows=function(e,t,n,r){return A(a,e,t,n,0,!0)},p.setFilteredRows=function(e,t,n,r){return A(s,e,t,n,0,!0)},p.addRowsToSelection=function(e,t,n,r){return A(a,e,t,n,0,!1)},p.addRowsToFilter=function(e,t,n,r){return A(s,e,t,n,0,!1)};function k(e,t,n,r,i){var a=x(e+d+t);if(!a||!a.elements&&!a.partial)return!1;for(var s=[],l=[],u=toRowLookup(a.partial||[]),o=0;o<n.length;o++)!0===u[n[o]]?l.push(n[o]):s.push(n[o]);return w(e+d+t,{selectionMethod:e,changeSet:{removed:s,partialRemoved:l}},r)}p.removeRowsFromSelection=function(e,t,n,r){return k(a,e,t,n)},p.removeRowsFromFilter=function(e,t,n,r){return k(s,e,t,n)},p.getAllRowsForSelection=function(e,t){var n=[],r=t;if((r=r||x(a+d+e))&&r.elements)for(var i=0;i<r.elements.length;i++)r.elements[i].rows&&(n=n.concat(r.elements[i].rows));return n},p.getAllPartiallySelectedRows=function(e){return x(a+d+e).partial||[]},p.isRowSelected=function(e,t){return-1<p.getAllRowsForSelection(e).indexOf(t)},p.isRowPartiallySelected=function(e,t){return-1<p.getAllPartiallySelectedRows(e).indexOf(t)},p.addMenuItem=function(e,t,n,r,i){h||f(),m||C();var a=document.createElement("li"),s=document.createElement("a"),l=(p.LINK|p.CLOSE|p.OK|p.CANCEL)&i;s.setAttribute("href","#");var o=document.createElement("span");if(o.style.float="left",l?(s.appendChild(o),a.appendChild(s)):a.appendChild(o),t){var u=t;"string"==typeof t&&((u=document.createElement("i")).className="fa fa-fw fa-"+t,u.setAttribute("aria-hidden","true"),p.SMALL_ICON&i&&(u.className+=" small")),o.appendChild(u)}else s.style.marginLeft="24px";if("string"==typeof e&&""!==e){var c=document.createTextNode(e);if(l||void 0===n.id)o.appendChild(c);else{var d=document.createElement("label");d.setAttribute("for",n.id),d.appendChild(c),o.appendChild(d)}}return n&&(l?a.className="menuItem":(n.style.marginLeft="6px",n.style.float="right",a.appendChild(n)),p.LINK&i&&(s.onclick=function(e){e.preventDefault(),y(),window.open(n,"_blank")})),m.appendChild(a),a},p.createStackedIcon=function(e,t,n,r){var i=document.createElement("span");i.className="fa-fw fa-stack";var a=document.createElement("i");a.className="fa fa-"+e+" fa-stack-1x "+n,i.appendChild(a);var s=document.createElement("i");return s.className="fa fa-"+t+" fa-stack-1x "+r,i.appendChild(s),i};function N(e,t,n){return e.setAttribute("id",t),e.setAttribute("name",t),e.style.fontSize="12px",n&&(e.style.width=n),e.style.margin="0",e.style.outlineOffset="-3px",e}p.createMenuTextField=function(e,t,n,r){var i=document.createElement("input");return i.setAttribute("type","text"),N(i,e,"150px"),n&&(r?void 0===i.oninput?i.addEventListener("keyup",n):i.addEventListener("input",n):(i.addEventListener("keypress",function(e){13===e.keyCode&&n.apply(this)}),i.addEventListener("blur",n))),t&&(i.value=t),i},p.createMenuNumberField=function(e,t,n,r,i,a,s){var l=document.createElement("input");return l.setAttribute("type","number"),N(l,e,"75px"),"number"==typeof n&&l.setAttribute("min",n),"number"==typeof r&&l.setAttribute("max",r),"number"==typeof i&&l.setAttribute("step",i),a&&(s?void 0===l.oninput?l.addEventListener("change",a):l.addEventListener("input",a):(l.addEventListener("keypress",function(e){13===e.keyCode&&a.apply(this)}),l.addEventListener("blur",a))),"number"==typeof t&&l.setAttribute("value",t),l},p.createMenuCheckbox=function(e,t,n,r){var i=document.createElement("input");return i.setAttribute("id",e),i.setAttribute("type","checkbox"),i.setAttribute("name",e),void 0!==r&&i.setAttribute("value",r),i.checked=t,i.style.margin="4px 0 0",i.style.padding="0",n&&i.addEventListener("change",n),i},p.createMenuSelect=function(e,t,n,r){var i=document.createElement("select");N(i,e,"150px");for(var a=0;a<n.length;a++){var s=document.createElement("option");s.setAttribute("value",n[a]),s.appendChild(document.createTextNode(n[a])),i.appendChild(s)}return r&&i.addEventListener("change",r),t&&(i.value=t),i},p.createMenuRadioButton=function(e,t,n,r){var i=document.createElement("input");return i.setAttribute("type","radio"),i.setAttribute("name",t),i.setAttribute("id",e),i.setAttribute("value",n),r&&i.addEventListener("change",r),i},p.createInlineMenuRadioButtons=function(e,t,n,r,i){var a=document.createElement("span");a.setAttribute("id",e),a.className="radioGroup";for(var s=0;s<r.length;s++){var l=r[s],o=t+"_"+l,u=p.createMenuRadioButton(o,t,l,i);u.checked=l===n,a.appendChild(u);var c=document.createElement("label");c.setAttribute("for",o),c.appendChild(document.createTextNode(l)),a.appendChild(c)}return a},p.addMenuDivider=function(){h||f(),m||C();var e=document.createElement("li");return e.className="divider",m.appendChild(e),e},p.addButton=function(e,t,n,r){return h||f(),g(e,t,n,r,!1)},p.allowFullscreen=function(e){h||f();var t=l||n||p.pageBuilderPresent;return i&&screenfull.enabled&&t&&g("knime-service-fullscreen-button","arrows-alt","Toggle Fullscreen",function(){screenfull.enabled&&screenfull.toggle(e)})},p.addNavSpacer=function(){h||f();var e=document.createElement("div");e.className="service-nav-spacer",c.appendChild(e)},p.isViewRequestsSupported=function(){return Modernizr.promises&&Modernizr.es6object},p.cssEscapeId=function(e){var t=e.toString();return/^[a-z]+/i.test(t)||(t="knid_"+t),t.replace(/^[^a-z]+|[^\w:-]+/gi,"___")};function F(e){var t=e.cssText;if(e.cssText.includes("rgba")){for(var n=[],r=[],i=[],a=/(.*?)rgba\(\s*(\d+)\s*,\s*(\d+)\s*,\s*(\d+)\s*,\s*([0-9]+\.[0-9]+|\d\s*)\)/g;null!==(n=a.exec(e.cssText));)i.push(n[0].match(/\w+(?=:\s*rgba):\s*rgba(.*?)\)/g)),r.push([[n[0].match(/\w+(?=:\s*rgba)/g)],[n[n.length-4]],[n[n.length-3]],[n[n.length-2]],[n[n.length-1]]]);for(var s=0;s<r.length;s++){var l=r[s][0]+": rgb("+r[s][1]+","+r[s][2]+","+r[s][3]+");",o=r[s][0]+"-opacity: "+r[s][4]+"; ";t=t.replace(i[s],l+o)}}else e.cssText.includes("transparent")&&(t=e.cssText.replace(new RegExp("transparent","g"),"none"));return t}p.inlineSvgStyles=function(e){for(var t=e.firstChild,n=document.styleSheets,r=[],i=0;i<n.length;i++)if(!n[i].cssRules&&n[i].rules&&(n[i].cssRules=n[i].rules),n[i].cssRules){for(var a=[],s=0;s<n[i].cssRules.length;s++)try{var l=n[i].cssRules[s];e.querySelector(l.selectorText)&&a.push(F(l))}catch(e){continue}if(0<a.length){var o=document.createElementNS(v,"style");o.type="text/css",o.appendChild(document.createTextNode(a.join("\n"))),r.push(o)}}for(var u=0;u<r.length;u++)e.insertBefore(r[u],t)};return p.measureAndTruncate=function(e,s){var t,l,o,u=[],c=[],d=s.minimalChars?s.minimalChars:1;t=void 0===s.tempContainer||null===s.tempContainer?"g":s.tempContainer;var f=0,m=0;if(""!==t){if(l=document.createElementNS(v,t),s.tempContainerClasses&&l.setAttribute("class",s.tempContainerClasses),s.tempContainerAttributes)for(o in s.tempContainerAttributes)l.setAttribute(o,s.tempContainerAttributes[o]);s.container.appendChild(l)}return e.forEach(function(e){var t=document.createElementNS(v,"text");if(t.textContent=e,s.classes&&t.setAttribute("class",s.classes),s.attributes)for(o in s.attributes)t.setAttribute(o,s.attributes[o]);l?l.appendChild(t):(s.container.appendChild(t),u.push(t));var n=function(e,t,n,r){var i=e.getBoundingClientRect(),a=e.textContent;if(i.width>t||i.height>n){var s=1;for(a+="…";(i.width>t||i.height>n)&&a.length>r;){var l=0,o=0;i.width>t&&(o=i.width-t),i.height>n&&(l=i.height-n),s=l<o?o/i.width:l/i.height,(a=a.slice(0,Math.min(Math.floor(-a.length*s),-1))).length>=r||(a=e.textContent.substring(0,r)),e.textContent=a+"…",i=e.getBoundingClientRect()}}return{text:a=e.textContent,rect:i}}(t,s.maxWidth,s.maxHeight,d),r=n.text,i=n.rect.width,a=n.rect.height;m=m<i?i:m,f=f<a?a:f,c.push({originalData:e,truncated:r,width:i,height:a})}),l?l.parentNode.removeChild(l):u.forEach(function(e){e.parentNode.removeChild(e)}),{values:c,max:{maxWidth:m,maxHeight:f}}},p.log=function(e){console&&console.log&&console.log(e)},p.logError=function(e){console&&console.error&&console.error(e)},document.addEventListener("DOMContentLoaded",f,!1),p}();
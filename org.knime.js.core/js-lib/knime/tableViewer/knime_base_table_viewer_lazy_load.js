@@ -15,7 +15,9 @@ window.KnimeBaseTableViewer.prototype._lazyLoadData = function (data, callback,
                 length: data.length,
                 search: data.search,
                 order: data.order,
-                columns: data.columns
+                columns: data.columns,
+                // lets the server omit the row independent spec content if it is unchanged
+                knownSpecVersion: data.requireFullSpec ? null : this._knimeTable.getSpecVersion()
             };
             const self = this;
             let processingPanel = this._getJQueryTableContainer().find('.dataTables_processing');
@@ -23,7 +25,8 @@ window.KnimeBaseTableViewer.prototype._lazyLoadData = function (data, callback,
             if (this._runningRequest) {
                 this._runningRequest.cancel();
             }
-            let promise = knimeService.requestViewUpdate(request);
+            // a newer page request makes older running ones obsolete
+            let promise = knimeService.requestViewUpdate(request, false, false, true);
             this._runningRequest = promise;
             promise.progress(monitor => {
                 processingPanel.prop('title', monitor.progressMessage ? monitor.progressMessage : '');
@@ -34,9 +37,12 @@ window.KnimeBaseTableViewer.prototype._lazyLoadData = function (data, callback,
             }).then(response => {
                 if (response.error) {
                     self._lazyLoadResponse(data, callback, response.error);
-                } else {
-                    self._knimeTable.mergeTables(response.table);
+                } else if (self._knimeTable.mergeTables(response.table)) {
                     self._lazyLoadResponse(data, callback);
+                } else {
+                    // spec was omitted for a version no longer held here, request the page again with its full spec
+                    self._runningRequest = null;
+                    self._lazyLoadData(Object.assign({}, data, { requireFullSpec: true }), callback, settings);
                 }
             }).catch(error => {
                 knimeService.logError(error);
@@ -51,6 +51,7 @@
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 
 import javax.naming.OperationNotSupportedException;
 
@@ -101,6 +102,56 @@ protected T getNodeModel() {
 
     public abstract void cleanup();
 
+    /**
+     * @return true if this generator can render multiple images in one browser session with
+     *         {@link #generateImages(List, Long, String, ImageConsumer, ExecutionContext)}, false otherwise
+     * @since 4.2
+     */
+    public boolean supportsBatchGeneration() {
+        return false;
+    }
+
+    /**
+     * Renders an image for each of the given view representation and value pairs. All items need to be displayable
+     * with the view template of the node model. Implementations reuse the browser and the created view page for all
+     * items, but initialize every item in a fresh document, so no state of a view leaks into the next one. The images
+     * are passed to the consumer in the order of the items as soon as they are retrieved. A failure to render a single item is passed to the consumer as error text and does not abort the
+     * remaining items.<br>
+     * The generator is cleaned up once all items have been rendered.
+     *
+     * @param items the view representation and value pairs to render
+     * @param optionalWait an optional additional wait time in milliseconds after each view initialization, may be null
+     * @param methodCall the JavaScript call retrieving the image from the view
+     * @param consumer the consumer receiving the images
+     * @param exec the execution context for progress and cancellation, may be null
+     * @throws Exception if the view page can not be loaded, execution is canceled or the consumer fails
+     * @throws UnsupportedOperationException if {@link #supportsBatchGeneration()} returns false
+     * @since 4.2
+     */
+    public void generateImages(final List<? extends Entry<REP, VAL>> items, final Long optionalWait,
+        final String methodCall, final ImageConsumer consumer, final ExecutionContext exec) throws Exception {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support rendering multiple images in one browser session.");
+    }
+
+    /**
+     * Receives the images rendered by
+     * {@link AbstractImageGenerator#generateImages(List, Long, String, ImageConsumer, ExecutionContext)}.
+     *
+     * @since 4.2
+     */
+    @FunctionalInterface
+    public interface ImageConsumer {
+
+        /**
+         * @param index the index of the rendered item
+         * @param image the retrieved image, null if rendering failed
+         * @param errorText the reason why rendering failed, null otherwise
+         * @throws Exception to abort rendering the remaining items
+         */
+        void accept(int index, Object image, String errorText) throws Exception;
+    }
+
     /**
      * @return
      */
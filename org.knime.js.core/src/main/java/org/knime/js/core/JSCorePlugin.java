@@ -13,6 +13,8 @@
 import org.knime.core.node.wizard.util.DefaultLayoutCreator;
 import org.knime.js.core.layout.DefaultLayoutCreatorImpl;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
 import org.osgi.framework.ServiceRegistration;
 
 /*
@@ -99,6 +101,7 @@ public final class JSCorePlugin extends AbstractUIPlugin {
 
     private String m_pluginRootPath;
     private ServiceRegistration<?> m_defaultLayoutCreatorService;
+    private BundleListener m_templateCacheInvalidator;
 
     /** Plugin constructor */
     public JSCorePlugin() {
@@ -119,6 +122,21 @@ public void start(final BundleContext context) throws Exception {
         m_defaultLayoutCreatorService = context.registerService(DefaultLayoutCreator.class.getName(),
             new DefaultLayoutCreatorImpl(), new Hashtable<String, String>());
 
+        // templates are resolved from extension points, which might change when bundles come and go
+        m_templateCacheInvalidator = event -> {
+            switch (event.getType()) {
+                case BundleEvent.INSTALLED:
+                case BundleEvent.UPDATED:
+                case BundleEvent.UNINSTALLED:
+                case BundleEvent.RESOLVED:
+                case BundleEvent.UNRESOLVED:
+                    WebTemplateCache.getInstance().invalidate();
+                    break;
+                default:
+                    break;
+            }
+        };
+        context.addBundleListener(m_templateCacheInvalidator);
     }
 
     /**
@@ -127,6 +145,9 @@ public void start(final BundleContext context) throws Exception {
     @Override
     public void stop(final BundleContext context) throws Exception {
         PLUGIN = null;
+        context.removeBundleListener(m_templateCacheInvalidator);
+        WebTemplateCache.getInstance().invalidate();
+        ViewContentServer.shutdownInstance();
         context.ungetService(m_defaultLayoutCreatorService.getReference());
         super.stop(context);
     }
@@ -116,6 +116,8 @@
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -151,6 +153,8 @@ public class JSONDataTable {
     private long m_totalRows;
     private JSONDataTableRow[] m_rows;
     private Object[][] m_extensions;
+    private String m_specVersion;
+    private boolean m_specOmitted;
     // This hash takes into account only columns names and types and cells data.
     // Used to check whether the input table has changed
     private Optional<String> m_dataHash = Optional.empty();
@@ -494,27 +498,32 @@ private synchronized void removeMissingValueColumns() {
         List<String> colsToRemove = new ArrayList<String>();
         boolean[] missingValues = m_spec.getContainsMissingValues();
         String[] filters = m_spec.getFilterIds();
-        String[] colNames = m_spec.getColNames();
+        String[] colNames = m_spec.colNames();
+        boolean[] remove = new boolean[missingValues.length];
         for (int i = 0; i < missingValues.length; i++) {
             if (missingValues[i]) {
                 if (m_keepFilterColumns && filters[i] != null) {
                     continue;
                 }
+                remove[i] = true;
                 colsToRemove.add(colNames[i]);
             }
         }
         if (colsToRemove.size() > 0) {
             m_columnsRemoved = ArrayUtils.addAll(m_columnsRemoved, colsToRemove.toArray(new String[0]));
-            for (String colToRemove : colsToRemove) {
-                int index = m_spec.getColumnIndex(colToRemove);
-                if (index < 0) {
-                    continue;
-                }
-                for (JSONDataTableRow row : m_rows) {
-                    row.m_data = ArrayUtils.remove(row.m_data, index);
+            // compact every row once instead of copying the data array for each removed column
+            int numKeep = missingValues.length - colsToRemove.size();
+            for (JSONDataTableRow row : m_rows) {
+                Object[] data = new Object[numKeep];
+                int c = 0;
+                for (int i = 0; i < remove.length; i++) {
+                    if (!remove[i]) {
+                        data[c++] = row.m_data[i];
+                    }
                 }
-                m_spec.removeColumn(colToRemove);
+                row.m_data = data;
             }
+            m_spec.removeColumns(remove);
         }
     }
 
@@ -842,9 +851,85 @@ public JSONDataTableSpec getSpec() {
      * @param spec the spec to set
      */
     public void setSpec(final JSONDataTableSpec spec) {
+        if (m_spec != null) {
+            // a replaced spec invalidates a version stamped for the previous one, the first spec set (e.g. while
+            // deserializing) keeps a version that was set along with it
+            m_specVersion = null;
+            m_specOmitted = false;
+        }
         m_spec = spec;
     }
 
+    /**
+     * Returns the version of the row independent content of this table's spec, see
+     * {@link JSONDataTableSpec#computeVersion()}. Fragments of the same table share the same spec version. The
+     * version is only computed once {@link #omitSpecIfKnown(String)} was called, tables which never take part in spec
+     * omission are not stamped and serialize without it.
+     *
+     * @return the spec version, or null if this table has not been stamped with one
+     * @since 4.2
+     */
+    @JsonInclude(Include.NON_NULL)
+    public String getSpecVersion() {
+        return m_specVersion;
+    }
+
+    /**
+     * @param specVersion the spec version to set
+     * @since 4.2
+     */
+    public void setSpecVersion(final String specVersion) {
+        m_specVersion = specVersion;
+    }
+
+    /**
+     * @return true if this table only carries the row dependent part of its spec, because the receiver already
+     * holds the full spec with the same {@link #getSpecVersion() version}
+     * @since 4.2
+     */
+    public boolean isSpecOmitted() {
+        return m_specOmitted;
+    }
+
+    /**
+     * @param specOmitted true if this table only carries the row dependent part of its spec
+     * @since 4.2
+     */
+    public void setSpecOmitted(final boolean specOmitted) {
+        m_specOmitted = specOmitted;
+    }
+
+    /**
+     * Reduces the spec of this table to its row dependent content (number of rows, row colors and sizes), if the
+     * given version, usually sent along with a lazy loading request, matches the version of this table's spec. The
+     * receiver is then expected to reuse the full spec it already holds, which avoids re-sending min/max, possible
+     * values, color models and filter ids with every page of a table.<br>
+     * In any case the table is stamped with its {@link #getSpecVersion() spec version}. Handlers call this for every
+     * response of a lazily loaded table, passing null if the client holds no version yet, so that complete responses
+     * tell the client which version to send back.
+     *
+     * @param knownSpecVersion the spec version already known to the receiver, may be null
+     * @return true if the spec was reduced, false if the full spec is kept
+     * @since 4.2
+     */
+    public boolean omitSpecIfKnown(final String knownSpecVersion) {
+        if (m_specOmitted) {
+            return true;
+        }
+        if (m_spec == null) {
+            return false;
+        }
+        if (m_specVersion == null) {
+            m_specVersion = m_spec.computeVersion();
+        }
+        if (!m_specVersion.equals(knownSpecVersion)) {
+            return false;
+        }
+        m_spec = m_spec.createRowSpec();
+        m_specOmitted = true;
+        return true;
+    }
+
     /**
      * @return true if the rows of this table are a fragment of a larger table, false if it represents a
      * complete table
@@ -1421,6 +1506,7 @@ public int hashCode() {
                 .append(m_totalRows)
                 .append(m_rows)
                 .append(m_extensions)
+                .append(m_specOmitted)
                 .toHashCode();
     }
 
@@ -1449,6 +1535,8 @@ public boolean equals(final Object obj) {
                 .append(m_totalRows, other.m_totalRows)
                 .append(m_rows, other.m_rows)
                 .append(m_extensions, other.m_extensions)
+                .append(m_specVersion, other.m_specVersion)
+                .append(m_specOmitted, other.m_specOmitted)
                 .isEquals();
     }
 }
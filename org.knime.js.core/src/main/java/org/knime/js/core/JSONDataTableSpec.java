@@ -48,14 +48,21 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -87,6 +94,7 @@
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -202,15 +210,23 @@ static JSTypes getJSONType(final DataType colType) {
         return type;
     }
 
+    /**
+     * Column layouts shared between all specs created from the same {@link DataTableSpec} and set of excluded
+     * columns, e.g. the fragments of a lazily loaded table. The layout arrays are never handed out by the public
+     * getters, they return copies. Only the most recently used layouts per spec are kept.
+     */
+    private static final Map<DataTableSpec, Map<Set<String>, ColumnLayout>> SHARED_LAYOUTS =
+        Collections.synchronizedMap(new WeakHashMap<DataTableSpec, Map<Set<String>, ColumnLayout>>());
+
+    private static final int MAX_SHARED_LAYOUTS_PER_SPEC = 16;
+
     private int m_numColumns;
     private int m_numRows;
-    private List<JSTypes> m_colTypes = new ArrayList<JSTypes>();
-    private List<String> m_knimeTypes = new ArrayList<String>();
-    private List<String> m_colNames = new ArrayList<String>();
+    private ColumnLayout m_columns = ColumnLayout.EMPTY;
 
     private int m_numExtensions;
-    private List<String> m_extensionTypes = new ArrayList<String>();
-    private List<String> m_extensionNames = new ArrayList<String>();
+    private String[] m_extensionTypes = new String[0];
+    private String[] m_extensionNames = new String[0];
 
     private Vector<LinkedHashSet<Object>> m_possibleValues;
     private Object[] m_minValues;
@@ -248,34 +264,36 @@ public JSONDataTableSpec(final DataTableSpec spec, final int numRows) {
      */
     public JSONDataTableSpec(final DataTableSpec spec, final String[] excludeColumns, final int numRows) {
 
-        int numColumns = 0;
-        List<String> colNames = new ArrayList<String>();
-        List<JSTypes> colTypes = new ArrayList<JSTypes>();
-        List<String> orgTypes = new ArrayList<String>();
+        Set<String> excluded = new HashSet<String>(Arrays.asList(excludeColumns));
         List<JSONColorModel> colorModels = new ArrayList<JSONColorModel>();
         for (int i = 0; i < spec.getNumColumns(); i++) {
-            String colName = spec.getColumnNames()[i];
-            if (!Arrays.asList(excludeColumns).contains(colName)) {
-                colNames.add(colName);
-                orgTypes.add(spec.getColumnSpec(i).getType().getName());
-                DataType colType = spec.getColumnSpec(i).getType();
-                colTypes.add(getJSONType(colType));
-                ColorHandler cHandler = spec.getColumnSpec(i).getColorHandler();
+            DataColumnSpec colSpec = spec.getColumnSpec(i);
+            if (!excluded.contains(colSpec.getName())) {
+                ColorHandler cHandler = colSpec.getColorHandler();
                 if (cHandler != null) {
-                    colorModels.add(JSONColorModel.createFromColorModel(cHandler.getColorModel(), colName));
+                    colorModels.add(JSONColorModel.createFromColorModel(cHandler.getColorModel(), colSpec.getName()));
                 }
-                numColumns++;
             }
         }
 
-        setNumColumns(numColumns);
+        m_columns = SHARED_LAYOUTS.computeIfAbsent(spec, s -> createLayoutCache())
+            .computeIfAbsent(excluded, e -> ColumnLayout.create(spec, e));
+        setNumColumns(m_columns.m_names.length);
         setNumRows(numRows);
-        setColNames(colNames.toArray(new String[0]));
-        setColTypes(colTypes.toArray(new JSTypes[0]));
-        setKnimeTypes(orgTypes.toArray(new String[0]));
         setColorModels(colorModels.toArray(new JSONColorModel[0]));
     }
 
+    private static Map<Set<String>, ColumnLayout> createLayoutCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<Set<String>, ColumnLayout>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Set<String>, ColumnLayout> eldest) {
+                return size() > MAX_SHARED_LAYOUTS_PER_SPEC;
+            }
+        });
+    }
+
     /**
      * Finds the column with the specified name in the TableSpec and returns its index
      * @param columnName the name to search for
@@ -283,31 +301,117 @@ public JSONDataTableSpec(final DataTableSpec spec, final String[] excludeColumns
      */
     @JsonIgnore
     public int getColumnIndex(final String columnName) {
-        return m_colNames.indexOf(columnName);
+        return m_columns.indexOf(columnName);
     }
 
-    boolean removeColumn(final String colToRemove) {
-        int index = getColumnIndex(colToRemove);
-        if (index < 0) {
-            return false;
+    /**
+     * Computes a version string for the row independent content of this spec, i.e. everything except the number
+     * of rows and the per-row color and size values. Two specs with the same version can be used interchangeably
+     * for all fragments of a table.
+     *
+     * @return a hex encoded digest of the row independent spec content
+     * @since 4.2
+     */
+    @JsonIgnore
+    public String computeVersion() {
+        StringBuilder content = new StringBuilder();
+        content.append(m_numColumns).append('|')
+            .append(Arrays.toString(m_columns.m_names)).append('|')
+            .append(Arrays.toString(m_columns.m_types)).append('|')
+            .append(Arrays.toString(m_columns.m_knimeTypes)).append('|')
+            .append(m_numExtensions).append('|')
+            .append(Arrays.toString(m_extensionNames)).append('|')
+            .append(Arrays.toString(m_extensionTypes)).append('|')
+            .append(m_possibleValues).append('|')
+            .append(Arrays.deepToString(m_minValues)).append('|')
+            .append(Arrays.deepToString(m_maxValues)).append('|')
+            .append(Arrays.toString(m_filterIds)).append('|')
+            .append(Arrays.toString(m_hiddenColumns)).append('|')
+            .append(Arrays.hashCode(m_colorModels));
+        return DigestUtils.md5Hex(content.toString());
+    }
+
+    /**
+     * Creates a spec which only carries the row dependent content of this spec (number of columns and rows, row
+     * colors and sizes). Used for table fragments whose row independent spec content is already known to the
+     * receiver.
+     *
+     * @return a new, reduced spec
+     */
+    JSONDataTableSpec createRowSpec() {
+        JSONDataTableSpec rowSpec = new JSONDataTableSpec();
+        rowSpec.m_numColumns = m_numColumns;
+        rowSpec.m_numRows = m_numRows;
+        rowSpec.m_rowColorValues = m_rowColorValues;
+        rowSpec.m_rowSizeValues = m_rowSizeValues;
+        return rowSpec;
+    }
+
+    /**
+     * Removes all columns flagged in the given array in a single pass. Every per-column list and array is
+     * compacted exactly once, independent of how many columns are removed.
+     *
+     * @param remove flags for every column of this spec, true if the column at that index is to be removed
+     * @return the number of removed columns
+     */
+    int removeColumns(final boolean[] remove) {
+        int[] keep = new int[m_numColumns];
+        int numKeep = 0;
+        Set<String> removedNames = new HashSet<String>();
+        for (int i = 0; i < m_numColumns; i++) {
+            if (i < remove.length && remove[i]) {
+                removedNames.add(m_columns.m_names[i]);
+            } else {
+                keep[numKeep++] = i;
+            }
+        }
+        if (numKeep == m_numColumns) {
+            return 0;
+        }
+        keep = Arrays.copyOf(keep, numKeep);
+        m_columns = m_columns.retain(keep);
+        if (m_possibleValues != null) {
+            Vector<LinkedHashSet<Object>> possibleValues = new Vector<LinkedHashSet<Object>>(numKeep);
+            for (int index : keep) {
+                possibleValues.add(m_possibleValues.get(index));
+            }
+            m_possibleValues = possibleValues;
         }
-        m_colNames.remove(index);
-        m_colTypes.remove(index);
-        m_knimeTypes.remove(index);
-        m_possibleValues.remove(index);
-        m_minValues = ArrayUtils.remove(m_minValues, index);
-        m_maxValues = ArrayUtils.remove(m_maxValues, index);
-        m_filterIds = ArrayUtils.remove(m_filterIds, index);
-        m_containsMissingValues = ArrayUtils.remove(m_containsMissingValues, index);
-        //this assumes there is at most one color model per column
-        for (int i = 0; i < m_colorModels.length; i++) {
-            if (m_colorModels[i].getTitle().equals(colToRemove)) {
-                m_colorModels = ArrayUtils.remove(m_colorModels, i);
-                break;
+        m_minValues = retain(m_minValues, keep);
+        m_maxValues = retain(m_maxValues, keep);
+        m_filterIds = retain(m_filterIds, keep);
+        if (m_containsMissingValues != null) {
+            boolean[] containsMissingValues = new boolean[numKeep];
+            for (int i = 0; i < numKeep; i++) {
+                containsMissingValues[i] = m_containsMissingValues[keep[i]];
             }
+            m_containsMissingValues = containsMissingValues;
+        }
+        if (m_colorModels != null) {
+            //this assumes there is at most one color model per column, only the first one matching a removed
+            //column is dropped (names are taken out of the set once matched)
+            List<JSONColorModel> colorModels = new ArrayList<JSONColorModel>(m_colorModels.length);
+            for (JSONColorModel model : m_colorModels) {
+                if (!removedNames.remove(model.getTitle())) {
+                    colorModels.add(model);
+                }
+            }
+            m_colorModels = colorModels.toArray(new JSONColorModel[colorModels.size()]);
+        }
+        int removed = m_numColumns - numKeep;
+        m_numColumns = numKeep;
+        return removed;
+    }
+
+    private static <T> T[] retain(final T[] array, final int[] keep) {
+        if (array == null) {
+            return null;
+        }
+        T[] retained = Arrays.copyOf(array, keep.length);
+        for (int i = 0; i < keep.length; i++) {
+            retained[i] = array[keep[i]];
         }
-        m_numColumns--;
-        return true;
+        return retained;
     }
 
     /**
@@ -321,10 +425,10 @@ public DataTableSpec createDataTableSpec() {
                 .collect(Collectors.toMap(DataType::getName, Function.identity(), (type1, type2) -> { return type1; }));
 
         for (int i = 0; i < m_numColumns; i++) {
-            DataType dataType = nameToType.get(m_knimeTypes.get(i));
+            DataType dataType = nameToType.get(m_columns.m_knimeTypes[i]);
 
             if (dataType == null) {
-                JSTypes jsType = m_colTypes.get(i);
+                JSTypes jsType = m_columns.m_types[i];
                 switch (jsType) {
                     case BOOLEAN:
                         dataType = DataType.getType(BooleanCell.class);
@@ -349,7 +453,7 @@ public DataTableSpec createDataTableSpec() {
                         break;
                 }
             }
-            columns[i] = new DataColumnSpecCreator(m_colNames.get(i), dataType).createSpec();
+            columns[i] = new DataColumnSpecCreator(m_columns.m_names[i], dataType).createSpec();
         }
         return new DataTableSpec(columns);
     }
@@ -385,46 +489,76 @@ public void setNumRows(final int num) {
     /**
      * @return the colNames
      */
+    @JsonIgnore
     public String[] getColNames() {
-        return m_colNames.toArray(new String[0]);
+        return m_columns.m_names.clone();
+    }
+
+    /**
+     * Non-copying variant of {@link #getColNames()}, also used for serialization.
+     *
+     * @return the column names, the array may be shared with other specs and must not be modified
+     */
+    @JsonProperty("colNames")
+    String[] colNames() {
+        return m_columns.m_names;
     }
 
     /**
      * @param names the colNames to set
      */
     public void setColNames(final String[] names) {
-        m_colNames = new ArrayList<String>();
-        m_colNames.addAll(Arrays.asList(names));
+        m_columns = new ColumnLayout(names.clone(), m_columns.m_types, m_columns.m_knimeTypes);
     }
 
     /**
      * @return the column types
      */
+    @JsonIgnore
     public JSTypes[] getColTypes() {
-        return m_colTypes.toArray(new JSTypes[0]);
+        return m_columns.m_types.clone();
+    }
+
+    /**
+     * Non-copying variant of {@link #getColTypes()}, also used for serialization.
+     *
+     * @return the column types, the array may be shared with other specs and must not be modified
+     */
+    @JsonProperty("colTypes")
+    JSTypes[] colTypes() {
+        return m_columns.m_types;
     }
 
     /**
      * @param types
      */
     public void setColTypes(final JSTypes[] types) {
-        m_colTypes = new ArrayList<JSTypes>();
-        m_colTypes.addAll(Arrays.asList(types));
+        m_columns = new ColumnLayout(m_columns.m_names, types.clone(), m_columns.m_knimeTypes);
     }
 
     /**
      * @return the knimeTypes
      */
+    @JsonIgnore
     public String[] getKnimeTypes() {
-        return m_knimeTypes.toArray(new String[0]);
+        return m_columns.m_knimeTypes.clone();
+    }
+
+    /**
+     * Non-copying variant of {@link #getKnimeTypes()}, also used for serialization.
+     *
+     * @return the KNIME type names, the array may be shared with other specs and must not be modified
+     */
+    @JsonProperty("knimeTypes")
+    String[] knimeTypes() {
+        return m_columns.m_knimeTypes;
     }
 
     /**
      * @param knimeTypes the knimeTypes to set
      */
     public void setKnimeTypes(final String[] knimeTypes) {
-        m_knimeTypes = new ArrayList<String>();
-        m_knimeTypes.addAll(Arrays.asList(knimeTypes));
+        m_columns = new ColumnLayout(m_columns.m_names, m_columns.m_types, knimeTypes.clone());
     }
 
     /**
@@ -444,31 +578,51 @@ public void setNumExtensions(final int num) {
     /**
      * @return
      */
+    @JsonIgnore
     public String[] getExtensionTypes() {
-        return m_extensionTypes.toArray(new String[0]);
+        return m_extensionTypes.clone();
+    }
+
+    /**
+     * Non-copying variant of {@link #getExtensionTypes()}, also used for serialization.
+     *
+     * @return the extension types, the array may be shared with other specs and must not be modified
+     */
+    @JsonProperty("extensionTypes")
+    String[] extensionTypes() {
+        return m_extensionTypes;
     }
 
     /**
      * @param types
      */
     public void setExtensionTypes(final String[] types) {
-        m_extensionTypes = new ArrayList<String>();
-        m_extensionTypes.addAll(Arrays.asList(types));
+        m_extensionTypes = types.clone();
     }
 
     /**
      * @return
      */
+    @JsonIgnore
     public String[] getExtensionNames() {
-        return m_extensionNames.toArray(new String[0]);
+        return m_extensionNames.clone();
+    }
+
+    /**
+     * Non-copying variant of {@link #getExtensionNames()}, also used for serialization.
+     *
+     * @return the extension names, the array may be shared with other specs and must not be modified
+     */
+    @JsonProperty("extensionNames")
+    String[] extensionNames() {
+        return m_extensionNames;
     }
 
     /**
      * @param names
      */
     public void setExtensionNames(final String[] names) {
-        m_extensionNames = new ArrayList<String>();
-        m_extensionNames.addAll(Arrays.asList(names));
+        m_extensionNames = names.clone();
     }
 
     /**
@@ -477,8 +631,8 @@ public void setExtensionNames(final String[] names) {
      */
     public void addExtension(final String extensionName, final JSTypes dataType) {
         m_numExtensions++;
-        m_extensionNames.add(extensionName);
-        m_extensionTypes.add(dataType.getJSName());
+        m_extensionNames = ArrayUtils.add(m_extensionNames, extensionName);
+        m_extensionTypes = ArrayUtils.add(m_extensionTypes, dataType.getJSName());
     }
 
     /**
@@ -622,9 +776,9 @@ public void setHiddenColumns(final String[] hiddenColumns) {
     @Override
     public int hashCode() {
         return new HashCodeBuilder()
-                .append(m_colNames)
-                .append(m_knimeTypes)
-                .append(m_colTypes)
+                .append(m_columns.m_names)
+                .append(m_columns.m_knimeTypes)
+                .append(m_columns.m_types)
                 .append(m_extensionNames)
                 .append(m_extensionTypes)
                 .append(m_maxValues)
@@ -657,9 +811,9 @@ public boolean equals(final Object obj) {
         }
         JSONDataTableSpec other = (JSONDataTableSpec)obj;
         return new EqualsBuilder()
-                .append(m_colNames, other.m_colNames)
-                .append(m_knimeTypes, other.m_knimeTypes)
-                .append(m_colTypes, other.m_colTypes)
+                .append(m_columns.m_names, other.m_columns.m_names)
+                .append(m_columns.m_knimeTypes, other.m_columns.m_knimeTypes)
+                .append(m_columns.m_types, other.m_columns.m_types)
                 .append(m_extensionNames, other.m_extensionNames)
                 .append(m_extensionTypes, other.m_extensionTypes)
                 .append(m_maxValues, other.m_maxValues)
@@ -675,4 +829,59 @@ public boolean equals(final Object obj) {
                 .append(m_hiddenColumns, other.m_hiddenColumns)
                 .isEquals();
     }
+
+    /**
+     * Immutable column structure of a spec, consisting of names, JavaScript types and KNIME type names together with
+     * a name to index lookup. Instances are never modified once created and can therefore be shared between specs.
+     */
+    private static final class ColumnLayout {
+
+        private static final ColumnLayout EMPTY = new ColumnLayout(new String[0], new JSTypes[0], new String[0]);
+
+        private final String[] m_names;
+        private final JSTypes[] m_types;
+        private final String[] m_knimeTypes;
+        private volatile Map<String, Integer> m_indexMap;
+
+        private ColumnLayout(final String[] names, final JSTypes[] types, final String[] knimeTypes) {
+            m_names = names;
+            m_types = types;
+            m_knimeTypes = knimeTypes;
+        }
+
+        private static ColumnLayout create(final DataTableSpec spec, final Set<String> excluded) {
+            List<String> names = new ArrayList<String>();
+            List<JSTypes> types = new ArrayList<JSTypes>();
+            List<String> knimeTypes = new ArrayList<String>();
+            for (int i = 0; i < spec.getNumColumns(); i++) {
+                DataColumnSpec colSpec = spec.getColumnSpec(i);
+                if (!excluded.contains(colSpec.getName())) {
+                    names.add(colSpec.getName());
+                    types.add(getJSONType(colSpec.getType()));
+                    knimeTypes.add(colSpec.getType().getName());
+                }
+            }
+            return new ColumnLayout(names.toArray(new String[0]), types.toArray(new JSTypes[0]),
+                knimeTypes.toArray(new String[0]));
+        }
+
+        private int indexOf(final String name) {
+            Map<String, Integer> indexMap = m_indexMap;
+            if (indexMap == null) {
+                indexMap = new HashMap<String, Integer>(m_names.length * 2);
+                for (int i = 0; i < m_names.length; i++) {
+                    // first occurrence wins, as with a linear search
+                    indexMap.putIfAbsent(m_names[i], i);
+                }
+                m_indexMap = indexMap;
+            }
+            Integer index = indexMap.get(name);
+            return index == null ? -1 : index;
+        }
+
+        private ColumnLayout retain(final int[] keep) {
+            return new ColumnLayout(JSONDataTableSpec.retain(m_names, keep), JSONDataTableSpec.retain(m_types, keep),
+                JSONDataTableSpec.retain(m_knimeTypes, keep));
+        }
+    }
 }
@@ -48,10 +48,11 @@
  */
 package org.knime.js.core;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.net.URISyntaxException;
@@ -60,12 +61,16 @@
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -77,10 +82,10 @@
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.web.WebResourceLocator;
+import org.knime.core.node.web.WebResourceLocator.WebResourceType;
 import org.knime.core.node.web.WebTemplate;
 import org.knime.core.node.web.WebViewContent;
 import org.knime.core.node.wizard.WizardViewCreator;
-import org.knime.core.node.workflow.WebResourceController;
 import org.knime.core.util.FileUtil;
 import org.osgi.framework.Bundle;
 
@@ -103,8 +108,33 @@
 
     private String m_title;
 
+    /* view data of the current page served by the ViewContentServer, see createStreamedInitCall(...) */
+    private final List<String> m_contentURLs = new ArrayList<String>();
+
     private static final Object LOCK = new Object();
 
+    private static final byte[] HTML_HEAD_START = ("<!doctype html><html lang=\"en-US\"><head>"
+        + "<meta http-equiv=Content-Type content=\"text/html; charset=utf-8\"><meta charset=\"UTF-8\"><title>")
+            .getBytes(StandardCharsets.UTF_8);
+
+    /* prebuilt page heads per template and hash of the custom CSS, templates are weakly referenced */
+    private static final Map<WebTemplate, Map<String, byte[]>> HTML_HEADS =
+        new WeakHashMap<WebTemplate, Map<String, byte[]>>();
+
+    private static final int MAX_HEADS_PER_TEMPLATE = 64;
+
+    /* representation and value larger than this (in characters) are loaded separately instead of being inlined */
+    private static final long INLINE_INIT_THRESHOLD = Long.getLong("knime.js.inlineInitThreshold", 256 * 1024);
+
+    /**
+     * Name of the global JavaScript variable which is <code>true</code> while an init call created by
+     * {@link #createStreamedInitJSViewMethodCall(WebViewContent, WebViewContent)} has not completed yet. It is set to
+     * <code>false</code> once the view has been initialized or loading the data failed.
+     *
+     * @since 4.2
+     */
+    public static final String INIT_PENDING_VARIABLE = "knimeViewInitPending";
+
     /**
      * @return true if is running in debug mode, false otherwise
      */
@@ -141,7 +171,7 @@ protected JavaScriptViewCreator() {
      */
     public JavaScriptViewCreator(final String javascriptObjectID) {
         if (javascriptObjectID != null) {
-            m_template = WebResourceController.getWebTemplateFromJSObjectID(javascriptObjectID);
+            m_template = WebTemplateCache.getInstance().getWebTemplate(javascriptObjectID);
         }
     }
 
@@ -182,21 +212,36 @@ public String createWebResources(final String viewTitle, final REP viewRepresent
                 if (tempPath != null) {
                     tempDir = new File(tempPath);
                 }
-                tempFolder = FileUtil.createTempDir("knimeViewContainer", tempDir, true);
+                // deleted by a shutdown hook instead of FileUtil, as the folder may contain links into the
+                // persistent web resource cache, which must not be followed on deletion
+                File container = FileUtil.createTempDir("knimeViewContainer", tempDir, false);
                 try {
-                    copyWebResources();
+                    provideWebResources(container);
                 } catch (IOException e) {
-                    deleteTempFile(tempFolder);
-                    tempFolder = null;
+                    FileUtils.deleteQuietly(container);
                     throw e;
                 }
+                registerForDeletion(container);
+                tempFolder = container;
+                // bundles and the page heads referencing them belong to the previous container
+                WebResourceBundler.getInstance().setRoot(isDebug() ? null : container.toPath());
+                synchronized (HTML_HEADS) {
+                    HTML_HEADS.clear();
+                }
             }
         }
-        m_tempIndexFile = FileUtil.createTempFile("index_" + System.currentTimeMillis(), ".html", tempFolder, true);
-        try (BufferedWriter writer = Files.newBufferedWriter(m_tempIndexFile.toPath(), StandardCharsets.UTF_8)) {
-            writer.write(buildHTMLResource(viewRepresentation, viewValue, customCSS));
-            writer.flush();
+        // view data of the previous page is not needed anymore
+        releaseContents();
+        // view pages are owned by this creator and may be removed by the store once it has been collected
+        ViewTempStore tempStore = ViewTempStore.getInstance();
+        tempStore.release(m_tempIndexFile);
+        m_tempIndexFile =
+            tempStore.createTempFile(this, "index_" + System.currentTimeMillis(), ".html", tempFolder);
+        // the cached parts of the page are written as they are, without building the page as a string first
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(m_tempIndexFile.toPath()))) {
+            writeHTMLResource(out, viewRepresentation, viewValue, customCSS);
         }
+        tempStore.touch(m_tempIndexFile);
         return m_tempIndexFile.getAbsolutePath();
     }
 
@@ -233,20 +278,36 @@ public String getViewValueJSONString(final VAL val) {
         }
     }
 
-    private void copyWebResources() throws IOException {
-        for (Entry<File, String> copyEntry : getAllWebResources().entrySet()) {
-            File src = copyEntry.getKey();
-            File dest = new File(tempFolder, FilenameUtils.separatorsToSystem(copyEntry.getValue()));
-            if (src.isDirectory()) {
-                FileUtils.copyDirectory(src, dest);
-            } else {
-                FileUtils.copyFile(src, dest);
+    private void provideWebResources(final File container) throws IOException {
+        Collection<String> contributors = new TreeSet<String>();
+        Map<File, String> resources = getAllWebResources(contributors);
+        if (!isDebug()) {
+            // in debug mode resources are copied freshly, so changes to them are picked up with every view
+            try {
+                File cacheEntry = WebResourceCache.getOrCreateEntry(resources, contributors);
+                WebResourceCache.linkInto(cacheEntry, container);
+                return;
+            } catch (IOException e) {
+                LOGGER.warn("Web resource cache not available, copying resources instead: " + e.getMessage(), e);
+                FileUtils.cleanDirectory(container);
             }
         }
+        WebResourceCache.copyResources(resources, container);
+    }
+
+    private static void registerForDeletion(final File container) {
+        Thread deleteHook = new Thread(() -> FileUtils.deleteQuietly(container), "KNIME view container cleanup");
+        try {
+            Runtime.getRuntime().addShutdownHook(deleteHook);
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down
+            FileUtils.deleteQuietly(container);
+        }
     }
 
     /**
-     * Creates the HTML string representing the view page
+     * Creates the HTML string representing the view page. The page files are written by
+     * {@link #writeHTMLResource(OutputStream, WebViewContent, WebViewContent, String)}, which this method delegates to.
      *
      * @param viewRepresentation the view representation
      * @param viewValue the view value
@@ -256,72 +317,130 @@ private void copyWebResources() throws IOException {
      */
     protected String buildHTMLResource(final REP viewRepresentation, final VAL viewValue, final String customCSS)
             throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeHTMLResource(out, viewRepresentation, viewValue, customCSS);
+        return out.toString(StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Writes the HTML page of the view to the given stream. Only the title and body are created per call, the head is
+     * taken from a cache of prebuilt heads per {@link WebTemplate} and custom CSS.
+     *
+     * @param out the stream to write the UTF-8 encoded page to
+     * @param viewRepresentation the view representation
+     * @param viewValue the view value
+     * @param customCSS optional custom css
+     * @throws IOException if the page or the debug file cannot be written
+     * @since 4.2
+     */
+    protected void writeHTMLResource(final OutputStream out, final REP viewRepresentation, final VAL viewValue,
+        final String customCSS) throws IOException {
+        String bodyText = "";
+        if (m_template == null || m_template.getWebResources() == null || m_template.getWebResources().length < 1) {
+            bodyText = "<p>ERROR: No view implementation available!</p>";
+            LOGGER.error("No JavaScript view implementation available for view: " + m_title);
+        }
+        byte[] title = m_title.getBytes(StandardCharsets.UTF_8);
+        byte[] head = getHTMLHead(customCSS);
+        if (isDebug()) {
+            String loadScript = "function loadWizardNodeView(){%s};";
+            // the debug page may be reopened at any time, the view data therefore always needs to be inlined
+            loadScript = String.format(loadScript,
+                wrapInTryCatch(createInitJSViewMethodCall(true, viewRepresentation, viewValue, false)));
+            ViewTempStore tempStore = ViewTempStore.getInstance();
+            File debugFile =
+                tempStore.createTempFile(this, "debug_" + System.currentTimeMillis(), ".html", tempFolder);
+            try (OutputStream debugOut = new BufferedOutputStream(Files.newOutputStream(debugFile.toPath()))) {
+                debugOut.write(HTML_HEAD_START);
+                debugOut.write(title);
+                debugOut.write(head);
+                debugOut.write(("<script type=\"text/javascript\" charset=\"UTF-8\">" + loadScript + "</script>"
+                    + "</head><body onload=\"loadWizardNodeView();\">" + bodyText + "</body></html>")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            // debug output is not used by the view itself, it is kept until it idles out or exceeds the quota
+            tempStore.release(debugFile);
+            LOGGER.info("JavaScript view - " + m_title + " - created. Debug output at: " + debugFile.getAbsolutePath());
+        }
+        out.write(HTML_HEAD_START);
+        out.write(title);
+        out.write(head);
+        out.write(("</head><body>" + bodyText + "</body></html>").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the part of the page head following the title, which only depends on the web template and the custom
+     * CSS and is therefore cached.
+     */
+    private byte[] getHTMLHead(final String customCSS) {
+        if (m_template == null) {
+            return buildHTMLHead(customCSS);
+        }
+        String cssKey = StringUtils.isEmpty(customCSS) ? "" : DigestUtils.sha1Hex(customCSS);
+        Map<String, byte[]> heads;
+        synchronized (HTML_HEADS) {
+            heads = HTML_HEADS.computeIfAbsent(m_template, t -> new ConcurrentHashMap<String, byte[]>());
+        }
+        byte[] head = heads.get(cssKey);
+        if (head == null) {
+            head = buildHTMLHead(customCSS);
+            if (heads.size() >= MAX_HEADS_PER_TEMPLATE) {
+                heads.clear();
+            }
+            heads.put(cssKey, head);
+        }
+        return head;
+    }
 
+    private byte[] buildHTMLHead(final String customCSS) {
         String setIEVersion = "<meta http-equiv=\"X-UA-Compatible\" content=\"IE=edge\">";
-        String inlineScript = "<script type=\"text/javascript\" charset=\"UTF-8\">%s</script>";
-        /* String debugScript = "<script type=\"text/javascript\" "
-                + "src=\"https://getfirebug.com/firebug-lite.js#startOpened=true\"></script>"; */
         String scriptString = "<script type=\"text/javascript\" src=\"%s\" charset=\"UTF-8\"></script>";
         String inlineCSS = "<style type=\"text/css\">%s</style>";
         String cssString = "<link rel=\"stylesheet\" type=\"text/css\" href=\"%s\">";
 
         StringBuilder pageBuilder = new StringBuilder();
-        pageBuilder.append("<!doctype html><html lang=\"en-US\"><head>");
-        pageBuilder.append("<meta http-equiv=Content-Type content=\"text/html; charset=utf-8\">");
-        pageBuilder.append("<meta charset=\"UTF-8\">");
-        pageBuilder.append("<title>" + m_title + "</title>");
+        pageBuilder.append("</title>");
         pageBuilder.append(setIEVersion);
-        //pageBuilder.append(String.format(inlineScript, "BASE_DIR = " + m_tempFolder));
-        //pageBuilder.append(debugScript);
-
-        String bodyText = "";
-        if (m_template == null || m_template.getWebResources() == null || m_template.getWebResources().length < 1) {
-            bodyText = "<p>ERROR: No view implementation available!</p>";
-            LOGGER.error("No JavaScript view implementation available for view: " + m_title);
-        }
-
-        for (WebResourceLocator resFile : getResourceFileList()) {
-            String path = resFile.getRelativePathTarget();
-            if (path.startsWith("/")) {
-                path = path.substring(1);
+        WebResourceBundler bundler = WebResourceBundler.getInstance();
+        if (bundler.isActive()) {
+            List<String> cssPaths = new ArrayList<String>();
+            List<String> jsPaths = new ArrayList<String>();
+            for (WebResourceLocator resFile : getResourceFileList()) {
+                if (resFile.getType() == WebResourceType.CSS) {
+                    cssPaths.add(StringUtils.removeStart(resFile.getRelativePathTarget(), "/"));
+                } else if (resFile.getType() == WebResourceType.JAVASCRIPT) {
+                    jsPaths.add(StringUtils.removeStart(resFile.getRelativePathTarget(), "/"));
+                }
             }
-            switch (resFile.getType()) {
-                case CSS:
-                    pageBuilder.append(String.format(cssString, path));
-                    break;
-                case JAVASCRIPT:
-                    pageBuilder.append(String.format(scriptString, path));
-                    break;
-                case FILE:
-                    break;
-                default:
-                    LOGGER.error("Unrecognized resource type " + resFile.getType());
+            bundler.getBundle(cssPaths, WebResourceType.CSS)
+                .forEach(path -> pageBuilder.append(String.format(cssString, path)));
+            bundler.getBundle(jsPaths, WebResourceType.JAVASCRIPT)
+                .forEach(path -> pageBuilder.append(String.format(scriptString, path)));
+        } else {
+            for (WebResourceLocator resFile : getResourceFileList()) {
+                String path = resFile.getRelativePathTarget();
+                if (path.startsWith("/")) {
+                    path = path.substring(1);
+                }
+                switch (resFile.getType()) {
+                    case CSS:
+                        pageBuilder.append(String.format(cssString, path));
+                        break;
+                    case JAVASCRIPT:
+                        pageBuilder.append(String.format(scriptString, path));
+                        break;
+                    case FILE:
+                        break;
+                    default:
+                        LOGGER.error("Unrecognized resource type " + resFile.getType());
+                }
             }
         }
         if (StringUtils.isNotEmpty(customCSS)) {
             String cleanedCSS = customCSS.replaceAll("(?i)</style>", "");
             pageBuilder.append(String.format(inlineCSS, cleanedCSS));
         }
-        if (isDebug()) {
-            String loadScript = "function loadWizardNodeView(){%s};";
-            loadScript =
-                String.format(loadScript, wrapInTryCatch(createInitJSViewMethodCall(viewRepresentation, viewValue)));
-            StringBuilder debugBuilder = new StringBuilder(pageBuilder.toString());
-            debugBuilder.append(String.format(inlineScript, loadScript));
-            debugBuilder.append("</head><body" + " onload=\"loadWizardNodeView();\"" + ">");
-            debugBuilder.append(bodyText);
-            debugBuilder.append("</body></html>");
-            File debugFile = FileUtil.createTempFile("debug_" + System.currentTimeMillis(), ".html", tempFolder, true);
-            try (BufferedWriter writer = Files.newBufferedWriter(debugFile.toPath(), StandardCharsets.UTF_8)) {
-                writer.write(debugBuilder.toString());
-                writer.flush();
-            }
-            LOGGER.info("JavaScript view - " + m_title + " - created. Debug output at: " + debugFile.getAbsolutePath());
-        }
-        pageBuilder.append("</head><body>");
-        pageBuilder.append(bodyText);
-        pageBuilder.append("</body></html>");
-        return pageBuilder.toString();
+        return pageBuilder.toString().getBytes(StandardCharsets.UTF_8);
     }
 
     /**
@@ -344,10 +463,49 @@ public String wrapInTryCatch(final String jsCode) {
      */
     @Override
     public String createInitJSViewMethodCall(final boolean parseArguments, final REP viewRepresentation, final VAL viewValue) {
+        return createInitJSViewMethodCall(parseArguments, viewRepresentation, viewValue, false);
+    }
+
+    /**
+     * Creates the init call for the given representation and value, loading them separately if they are large, see
+     * {@link #createStreamedInitCall(String, String, String)}. The view is then initialized asynchronously, so only
+     * callers which wait until the global variable {@link #INIT_PENDING_VARIABLE} is not <code>true</code> anymore
+     * before accessing the view may use this method. The variable is maintained for small, inlined representations
+     * and values as well. All other callers use {@link #createInitJSViewMethodCall(WebViewContent, WebViewContent)},
+     * which always inlines the data and initializes the view synchronously.
+     *
+     * @param viewRepresentation the view representation
+     * @param viewValue the view value
+     * @return the init call, wrapped in a try/catch block
+     * @since 4.2
+     */
+    public String createStreamedInitJSViewMethodCall(final REP viewRepresentation, final VAL viewValue) {
+        return createInitJSViewMethodCall(true, viewRepresentation, viewValue, true);
+    }
+
+    /**
+     * Creates the init call of the view. Subclasses customizing the init call override this method, it is used for
+     * the view page as well as for the debug page.
+     *
+     * @param parseArguments true if representation and value are supposed to be parsed and passed to the init call
+     * @param viewRepresentation the view representation
+     * @param viewValue the view value
+     * @param streamed false to create the synchronous init call with representation and value inlined, true to
+     *            create the call for {@link #createStreamedInitJSViewMethodCall(WebViewContent, WebViewContent)}
+     * @return the init call
+     * @since 4.2
+     */
+    protected String createInitJSViewMethodCall(final boolean parseArguments, final REP viewRepresentation,
+        final VAL viewValue, final boolean streamed) {
         StringBuilder builder = new StringBuilder();
         if (parseArguments) {
             String jsonViewRepresentation = getViewRepresentationJSONString(viewRepresentation);
             String jsonViewValue = getViewValueJSONString(viewValue);
+            String streamedCall = streamed ? createStreamedInitCall(jsonViewRepresentation, jsonViewValue,
+                createInitJSViewMethodCall(false, viewRepresentation, viewValue, false)) : null;
+            if (streamedCall != null) {
+                return streamedCall;
+            }
             String escapedRepresentation = jsonViewRepresentation.replace("\\", "\\\\").replace("'", "\\'");
             String escapedValue = jsonViewValue.replace("\\", "\\\\").replace("'", "\\'");
             String repParseCall = "var parsedRepresentation = JSON.parse('" + escapedRepresentation + "');";
@@ -358,9 +516,103 @@ public String createInitJSViewMethodCall(final boolean parseArguments, final REP
         String initMethod = m_template.getInitMethodName();
         String initCall = getNamespacePrefix() + initMethod + "(parsedRepresentation, parsedValue);";
         builder.append(initCall);
+        return streamed ? createPendingInitCall(builder.toString()) : builder.toString();
+    }
+
+    /**
+     * Wraps an inlined init call for {@link #createStreamedInitJSViewMethodCall(WebViewContent, WebViewContent)},
+     * so that it maintains {@link #INIT_PENDING_VARIABLE} like a streamed one.
+     *
+     * @param initCall the init call
+     * @return the wrapped init call
+     * @since 4.2
+     */
+    protected String createPendingInitCall(final String initCall) {
+        String pending = "window." + INIT_PENDING_VARIABLE;
+        return pending + "=true;" + wrapInTryCatch(initCall) + pending + "=false;";
+    }
+
+    /**
+     * Creates a script which loads representation and value as separate resources from the
+     * {@link ViewContentServer}, parses them natively and then calls the given init call with the variables
+     * <code>parsedRepresentation</code> and <code>parsedValue</code> set. This avoids inlining large payloads as
+     * escaped string literals. The data is served until this creator creates the next page or is garbage collected,
+     * so the script can be executed again, e.g. after a reload of the page.
+     * <p>
+     * The init call is executed asynchronously and wrapped in a try/catch block. Callers which access the view after
+     * executing the script, e.g. to retrieve its value or an image, need to wait until the global variable
+     * {@link #INIT_PENDING_VARIABLE} is not <code>true</code> anymore. Failures to load or parse the data are reported
+     * like errors of the init call.
+     *
+     * @param jsonRepresentation the representation as JSON string
+     * @param jsonValue the value as JSON string, may be null if the view has no value
+     * @param initCall the init call to execute once both are available
+     * @return the script, or null if the payload is small enough to be inlined or the content server is not
+     *         available
+     * @since 4.2
+     */
+    protected String createStreamedInitCall(final String jsonRepresentation, final String jsonValue,
+        final String initCall) {
+        long payloadSize = jsonRepresentation.length() + (jsonValue == null ? 0 : jsonValue.length());
+        if (payloadSize <= INLINE_INIT_THRESHOLD || !ViewContentServer.isEnabled()) {
+            return null;
+        }
+        ViewContentServer server;
+        try {
+            server = ViewContentServer.getInstance();
+        } catch (IOException e) {
+            LOGGER.debug("View content server not available, inlining view data: " + e.getMessage(), e);
+            return null;
+        }
+        String mimeType = "application/json; charset=utf-8";
+        String repURL = server.registerContent(this, jsonRepresentation, mimeType);
+        String valURL = jsonValue == null ? null : server.registerContent(this, jsonValue, mimeType);
+        synchronized (m_contentURLs) {
+            m_contentURLs.add(repURL);
+            if (valURL != null) {
+                m_contentURLs.add(valURL);
+            }
+        }
+        String pending = "window." + INIT_PENDING_VARIABLE;
+        StringBuilder builder = new StringBuilder();
+        builder.append("(function(){var parsed={},pending=").append(valURL == null ? 1 : 2).append(",failed=false;");
+        builder.append(pending).append("=true;");
+        builder.append("var init=function(){var parsedRepresentation=parsed.rep,parsedValue=parsed.val;");
+        builder.append(wrapInTryCatch(initCall)).append(pending).append("=false;};");
+        builder.append("var fail=function(msg){if(!failed){failed=true;").append(pending).append("=false;");
+        builder.append("alert(msg);}};");
+        builder.append("var load=function(key,url){var r=new XMLHttpRequest();r.onreadystatechange=function(){");
+        builder.append("if(r.readyState!==4||failed){return;}");
+        builder.append("if(r.status!==200){fail('Could not load view data from '+url+' (status '+r.status+')');");
+        builder.append("return;}");
+        builder.append("try{parsed[key]=JSON.parse(r.responseText);}");
+        builder.append("catch(err){fail('Could not parse view data: '+err);return;}");
+        builder.append("if(--pending===0){init();}};");
+        builder.append("r.onerror=function(){fail('Could not load view data from '+url);};");
+        builder.append("r.open('GET',url);r.send();};");
+        builder.append("load('rep','").append(repURL).append("');");
+        if (valURL != null) {
+            builder.append("load('val','").append(valURL).append("');");
+        }
+        builder.append("})();");
         return builder.toString();
     }
 
+    private void releaseContents() {
+        synchronized (m_contentURLs) {
+            if (m_contentURLs.isEmpty()) {
+                return;
+            }
+            try {
+                ViewContentServer server = ViewContentServer.getInstance();
+                m_contentURLs.forEach(server::unregisterContent);
+            } catch (IOException | IllegalStateException e) {
+                // server not running anymore, nothing to release
+            }
+            m_contentURLs.clear();
+        }
+    }
+
     /**
      * @return The namespace prefix for all method calls of the respective view implementation.
      */
@@ -399,26 +651,13 @@ public String createMessageHTML(final String message) {
     private ArrayList<WebResourceLocator> getResourceFileList() {
         ArrayList<WebResourceLocator> resourceFiles = new ArrayList<WebResourceLocator>();
 
-        if (m_template.getWebResources() != null) {
+        if (m_template != null && m_template.getWebResources() != null) {
             resourceFiles.addAll(Arrays.asList(m_template.getWebResources()));
         }
 
         return resourceFiles;
     }
 
-    private void deleteTempFile(final File tempFile) {
-        if (tempFile.isDirectory()) {
-            for (File file : tempFile.listFiles()) {
-                if (file.isDirectory()) {
-                    deleteTempFile(file);
-                } else {
-                    file.delete();
-                }
-            }
-        }
-        tempFile.delete();
-    }
-
     private static final String ID_WEB_RES = "org.knime.js.core.webResources";
 
     private static final String ELEM_BUNDLE = "webResourceBundle";
@@ -431,7 +670,7 @@ private void deleteTempFile(final File tempFile) {
 
     private static final String ATTR_TARGET = "relativePathTarget";
 
-    private Map<File, String> getAllWebResources() throws IOException {
+    private Map<File, String> getAllWebResources(final Collection<String> contributors) throws IOException {
         Map<File, String> copyLocations = new HashMap<File, String>();
         IExtensionRegistry registry = Platform.getExtensionRegistry();
         IExtensionPoint point = registry.getExtensionPoint(ID_WEB_RES);
@@ -443,6 +682,7 @@ private Map<File, String> getAllWebResources() throws IOException {
             // get plugin path
             String pluginName = ext.getContributor().getName();
             Bundle bundle = Platform.getBundle(pluginName);
+            contributors.add(pluginName + "_" + bundle.getVersion());
 
             // get relative paths and collect in map
             IConfigurationElement[] bundleElements = ext.getConfigurationElements();
@@ -0,0 +1,683 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.js.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Minimal HTTP server bound to the loopback interface, which serves view HTML, web resources and view data to the
+ * browsers used for displaying views and generating images. Serving over HTTP instead of <code>file://</code> URLs
+ * allows the browser to cache resources and lets view data be streamed from memory instead of being written to
+ * temporary files first.
+ * <p>
+ * Two kinds of content are served:
+ * <ul>
+ * <li>files below a registered root directory, usually the view container created by {@link JavaScriptViewCreator},
+ * see {@link #getResourceURL(Path, Path)}</li>
+ * <li>in-memory content, e.g. view representation, value or responses, see {@link #registerContent(String, String)}
+ * </li>
+ * </ul>
+ * Responses carry ETags and cache headers, conditional requests are answered with <code>304</code> and text content is
+ * gzip-compressed if the client accepts it. All URLs contain a random secret, so other local processes cannot guess
+ * them.
+ * <p>
+ * The server can be disabled with the system property <code>knime.js.disableViewServer</code>, in which case callers
+ * are expected to fall back to temporary files.
+ *
+ * @author agent
+ * @since 4.2
+ */
+public final class ViewContentServer {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ViewContentServer.class);
+
+    /** System property to disable the server, views are then loaded from temporary files. */
+    public static final String PROPERTY_DISABLE = "knime.js.disableViewServer";
+
+    private static final int MAX_CONNECTION_THREADS = 32;
+
+    private static final int KEEP_ALIVE_TIMEOUT = 10000;
+
+    private static final int MAX_HEADER_LINE_LENGTH = 8192;
+
+    /* contents smaller than this are not worth compressing */
+    private static final int MIN_COMPRESS_SIZE = 1024;
+
+    /* resource files larger than this are streamed uncompressed instead of being held compressed in memory */
+    private static final long MAX_COMPRESS_FILE_SIZE = 4 * 1024 * 1024;
+
+    private static final int MAX_COMPRESSED_FILES = 256;
+
+    private static final String RESOURCE_PATH = "r";
+
+    private static final String CONTENT_PATH = "c";
+
+    private static final Object LOCK = new Object();
+
+    private static volatile ViewContentServer instance;
+
+    private final ServerSocket m_serverSocket;
+
+    private final String m_secret;
+
+    private final ThreadPoolExecutor m_connectionExecutor;
+
+    private final List<Path> m_roots = new CopyOnWriteArrayList<Path>();
+
+    private final Map<String, Content> m_contents = new ConcurrentHashMap<String, Content>();
+
+    private final Map<String, byte[]> m_compressedFiles = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, byte[]> eldest) {
+            return size() > MAX_COMPRESSED_FILES;
+        }
+    };
+
+    private final AtomicLong m_contentCounter = new AtomicLong();
+
+    private volatile boolean m_closed;
+
+    private ViewContentServer() throws IOException {
+        m_serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        byte[] secret = new byte[16];
+        new SecureRandom().nextBytes(secret);
+        m_secret = Hex.encodeHexString(secret);
+        AtomicInteger threadCounter = new AtomicInteger();
+        m_connectionExecutor = new ThreadPoolExecutor(0, MAX_CONNECTION_THREADS, 60, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(), r -> {
+                Thread t = new Thread(r, "KNIME view content server " + threadCounter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        Thread acceptThread = new Thread(this::acceptConnections, "KNIME view content server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        LOGGER.debug("View content server listening on port " + m_serverSocket.getLocalPort());
+    }
+
+    /**
+     * @return true if views are supposed to be served by this server, false if it has been disabled
+     */
+    public static boolean isEnabled() {
+        return !Boolean.getBoolean(PROPERTY_DISABLE);
+    }
+
+    /**
+     * Returns the running server instance, starting it on first access.
+     *
+     * @return the server instance
+     * @throws IOException if the server cannot be started
+     * @throws IllegalStateException if the server has been disabled, see {@link #isEnabled()}
+     */
+    public static ViewContentServer getInstance() throws IOException {
+        CheckUtils.checkState(isEnabled(), "View content server has been disabled.");
+        if (instance == null) {
+            synchronized (LOCK) {
+                if (instance == null) {
+                    instance = new ViewContentServer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the server, if it is running. A subsequent call to {@link #getInstance()} starts a new server.
+     */
+    public static void shutdownInstance() {
+        synchronized (LOCK) {
+            if (instance != null) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * @return the port the server is listening on
+     */
+    public int getPort() {
+        return m_serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the URL under which a file is served. The root directory is registered with the server, all files below
+     * it are served from then on.
+     *
+     * @param root the root directory, e.g. the current location of a {@link JavaScriptViewCreator}
+     * @param file a file below the root directory
+     * @return the URL of the file
+     */
+    public String getResourceURL(final Path root, final Path file) {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        Path normalizedFile = file.toAbsolutePath().normalize();
+        CheckUtils.checkArgument(normalizedFile.startsWith(normalizedRoot), "File %s is not located below %s", file,
+            root);
+        int rootIndex;
+        synchronized (m_roots) {
+            rootIndex = m_roots.indexOf(normalizedRoot);
+            if (rootIndex < 0) {
+                m_roots.add(normalizedRoot);
+                rootIndex = m_roots.size() - 1;
+            }
+        }
+        StringBuilder path = new StringBuilder(getBasePath()).append(RESOURCE_PATH).append('/').append(rootIndex);
+        for (Path segment : normalizedRoot.relativize(normalizedFile)) {
+            path.append('/').append(segment.toString());
+        }
+        return toURL(path.toString());
+    }
+
+    /**
+     * Registers content to be served from memory, until it is unregistered again.
+     *
+     * @param content the content to serve
+     * @param mimeType the MIME type of the content, e.g. <code>application/json</code>
+     * @return the URL under which the content is served
+     */
+    public String registerContent(final String content, final String mimeType) {
+        return registerContent(null, content, mimeType);
+    }
+
+    /**
+     * Registers content to be served from memory, until it is unregistered again or its owner has been garbage
+     * collected, e.g. the view data of a page, which can be requested again as long as the page may be reloaded.
+     *
+     * @param owner the owner of the content, which is only weakly referenced, or null if the content is kept until
+     *            it is unregistered
+     * @param content the content to serve
+     * @param mimeType the MIME type of the content, e.g. <code>application/json</code>
+     * @return the URL under which the content is served
+     */
+    public String registerContent(final Object owner, final String content, final String mimeType) {
+        CheckUtils.checkArgumentNotNull(content, "Content must not be null");
+        m_contents.values().removeIf(Content::isOrphaned);
+        String id = Long.toString(m_contentCounter.incrementAndGet());
+        m_contents.put(id, new Content(content.getBytes(StandardCharsets.UTF_8), mimeType, owner));
+        return toURL(getBasePath() + CONTENT_PATH + "/" + id);
+    }
+
+    /**
+     * Removes in-memory content from the server. Unknown URLs are ignored.
+     *
+     * @param url the URL previously returned by {@link #registerContent(String, String)}
+     */
+    public void unregisterContent(final String url) {
+        if (url != null) {
+            String prefix = toURL(getBasePath() + CONTENT_PATH + "/");
+            if (url.startsWith(prefix)) {
+                m_contents.remove(url.substring(prefix.length()));
+            }
+        }
+    }
+
+    /**
+     * @return the number of in-memory contents currently registered
+     */
+    public int getNumberOfContents() {
+        return m_contents.size();
+    }
+
+    private String getBasePath() {
+        return "/" + m_secret + "/";
+    }
+
+    private String toURL(final String path) {
+        try {
+            return new URI("http", null, InetAddress.getLoopbackAddress().getHostAddress(), getPort(), path, null,
+                null).toASCIIString();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid path for view content: " + path, e);
+        }
+    }
+
+    private void close() {
+        m_closed = true;
+        try {
+            m_serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.debug("Error closing view content server: " + e.getMessage(), e);
+        }
+        m_connectionExecutor.shutdownNow();
+        m_contents.clear();
+        synchronized (m_compressedFiles) {
+            m_compressedFiles.clear();
+        }
+    }
+
+    private void acceptConnections() {
+        while (!m_closed) {
+            Socket socket;
+            try {
+                socket = m_serverSocket.accept();
+            } catch (IOException e) {
+                if (!m_closed) {
+                    LOGGER.error("View content server stopped accepting connections: " + e.getMessage(), e);
+                }
+                return;
+            }
+            try {
+                m_connectionExecutor.execute(() -> handleConnection(socket));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Too many connections to view content server, closing connection.");
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void handleConnection(final Socket socket) {
+        try {
+            socket.setSoTimeout(KEEP_ALIVE_TIMEOUT);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            boolean keepAlive = true;
+            while (keepAlive && !m_closed) {
+                String requestLine = readLine(in);
+                if (requestLine == null) {
+                    return;
+                }
+                if (requestLine.isEmpty()) {
+                    continue;
+                }
+                Map<String, String> headers = new HashMap<String, String>();
+                String line;
+                while ((line = readLine(in)) != null && !line.isEmpty()) {
+                    int colon = line.indexOf(':');
+                    if (colon > 0) {
+                        headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT),
+                            line.substring(colon + 1).trim());
+                    }
+                }
+                if (line == null) {
+                    return;
+                }
+                keepAlive = handleRequest(requestLine, headers, out);
+                out.flush();
+            }
+        } catch (SocketTimeoutException | SocketException e) {
+            // idle keep-alive connection or closed by client
+        } catch (IOException e) {
+            LOGGER.debug("Error serving view content: " + e.getMessage(), e);
+        } finally {
+            closeQuietly(socket);
+        }
+    }
+
+    private boolean handleRequest(final String requestLine, final Map<String, String> headers,
+        final OutputStream out) throws IOException {
+        String[] parts = requestLine.split(" ");
+        if (parts.length != 3) {
+            sendError(out, 400, "Bad Request", false);
+            return false;
+        }
+        String method = parts[0];
+        boolean http11 = "HTTP/1.1".equals(parts[2]);
+        String connection = headers.get("connection");
+        boolean keepAlive = http11 ? !"close".equalsIgnoreCase(connection) : "keep-alive".equalsIgnoreCase(connection);
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            // request bodies are not read, so the connection cannot be reused
+            sendError(out, 405, "Method Not Allowed", false);
+            return false;
+        }
+
+        String path;
+        try {
+            String target = parts[1];
+            int query = target.indexOf('?');
+            path = new URI(query < 0 ? target : target.substring(0, query)).getPath();
+        } catch (URISyntaxException e) {
+            sendError(out, 400, "Bad Request", keepAlive);
+            return keepAlive;
+        }
+        if (path == null || !path.startsWith(getBasePath())) {
+            sendError(out, 404, "Not Found", keepAlive);
+            return keepAlive;
+        }
+        String[] segments = path.substring(getBasePath().length()).split("/", 3);
+        if (segments.length == 2 && CONTENT_PATH.equals(segments[0])) {
+            Content content = m_contents.get(segments[1]);
+            if (content == null || content.isOrphaned()) {
+                sendError(out, 404, "Not Found", keepAlive);
+            } else {
+                sendContent(out, content, headers, head, keepAlive);
+            }
+        } else if (segments.length == 3 && RESOURCE_PATH.equals(segments[0])) {
+            Path file = resolveResource(segments[1], segments[2]);
+            if (file == null) {
+                sendError(out, 404, "Not Found", keepAlive);
+            } else {
+                sendFile(out, file, headers, head, keepAlive);
+            }
+        } else {
+            sendError(out, 404, "Not Found", keepAlive);
+        }
+        return keepAlive;
+    }
+
+    private Path resolveResource(final String rootIndex, final String relativePath) {
+        Path root;
+        try {
+            root = m_roots.get(Integer.parseInt(rootIndex));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return null;
+        }
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    private static void sendContent(final OutputStream out, final Content content,
+        final Map<String, String> requestHeaders, final boolean head, final boolean keepAlive) throws IOException {
+        if (content.m_eTag.equals(requestHeaders.get("if-none-match"))) {
+            sendNotModified(out, content.m_eTag, keepAlive);
+            return;
+        }
+        Map<String, String> headers = createHeaders(content.m_mimeType, content.m_eTag, "no-cache", keepAlive);
+        byte[] body = content.m_data;
+        if (acceptsGzip(requestHeaders) && body.length >= MIN_COMPRESS_SIZE) {
+            body = content.getCompressed();
+            headers.put("Content-Encoding", "gzip");
+        }
+        headers.put("Content-Length", Integer.toString(body.length));
+        writeHead(out, 200, "OK", headers);
+        if (!head) {
+            out.write(body);
+        }
+    }
+
+    private void sendFile(final OutputStream out, final Path file, final Map<String, String> requestHeaders,
+        final boolean head, final boolean keepAlive) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String eTag = "\"" + Long.toHexString(attrs.size()) + "-"
+            + Long.toHexString(attrs.lastModifiedTime().toMillis()) + "\"";
+        if (eTag.equals(requestHeaders.get("if-none-match"))) {
+            sendNotModified(out, eTag, keepAlive);
+            return;
+        }
+        String mimeType = getMimeType(file);
+        // view pages are generated per view, resources only change with the installation
+        String cacheControl = mimeType.startsWith("text/html") ? "no-cache" : "max-age=86400";
+        Map<String, String> headers = createHeaders(mimeType, eTag, cacheControl, keepAlive);
+        if (isCompressible(mimeType) && acceptsGzip(requestHeaders) && attrs.size() >= MIN_COMPRESS_SIZE
+            && attrs.size() <= MAX_COMPRESS_FILE_SIZE) {
+            byte[] body = getCompressedFile(file, eTag);
+            headers.put("Content-Encoding", "gzip");
+            headers.put("Content-Length", Integer.toString(body.length));
+            writeHead(out, 200, "OK", headers);
+            if (!head) {
+                out.write(body);
+            }
+        } else {
+            headers.put("Content-Length", Long.toString(attrs.size()));
+            writeHead(out, 200, "OK", headers);
+            if (!head) {
+                Files.copy(file, out);
+            }
+        }
+    }
+
+    private byte[] getCompressedFile(final Path file, final String eTag) throws IOException {
+        String key = file.toString() + eTag;
+        synchronized (m_compressedFiles) {
+            byte[] compressed = m_compressedFiles.get(key);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] compressed = compress(Files.readAllBytes(file));
+        synchronized (m_compressedFiles) {
+            m_compressedFiles.put(key, compressed);
+        }
+        return compressed;
+    }
+
+    private static void sendNotModified(final OutputStream out, final String eTag, final boolean keepAlive)
+        throws IOException {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("ETag", eTag);
+        headers.put("Connection", keepAlive ? "keep-alive" : "close");
+        writeHead(out, 304, "Not Modified", headers);
+    }
+
+    private static void sendError(final OutputStream out, final int status, final String reason,
+        final boolean keepAlive) throws IOException {
+        byte[] body = reason.getBytes(StandardCharsets.UTF_8);
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", "text/plain; charset=utf-8");
+        headers.put("Content-Length", Integer.toString(body.length));
+        headers.put("Connection", keepAlive ? "keep-alive" : "close");
+        writeHead(out, status, reason, headers);
+        out.write(body);
+    }
+
+    private static Map<String, String> createHeaders(final String mimeType, final String eTag,
+        final String cacheControl, final boolean keepAlive) {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", mimeType);
+        headers.put("ETag", eTag);
+        headers.put("Cache-Control", cacheControl);
+        headers.put("Vary", "Accept-Encoding");
+        headers.put("Access-Control-Allow-Origin", "*");
+        headers.put("Connection", keepAlive ? "keep-alive" : "close");
+        return headers;
+    }
+
+    private static void writeHead(final OutputStream out, final int status, final String reason,
+        final Map<String, String> headers) throws IOException {
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(' ').append(reason).append("\r\n");
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append("\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static boolean acceptsGzip(final Map<String, String> requestHeaders) {
+        String acceptEncoding = requestHeaders.get("accept-encoding");
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private static boolean isCompressible(final String mimeType) {
+        return mimeType.startsWith("text/") || mimeType.startsWith("application/javascript")
+            || mimeType.startsWith("application/json") || mimeType.startsWith("image/svg+xml");
+    }
+
+    private static byte[] compress(final byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String getMimeType(final Path file) {
+        switch (FilenameUtils.getExtension(file.getFileName().toString()).toLowerCase(Locale.ROOT)) {
+            case "html":
+            case "htm":
+                return "text/html; charset=utf-8";
+            case "js":
+                return "application/javascript; charset=utf-8";
+            case "css":
+                return "text/css; charset=utf-8";
+            case "json":
+            case "map":
+                return "application/json; charset=utf-8";
+            case "svg":
+                return "image/svg+xml";
+            case "png":
+                return "image/png";
+            case "jpg":
+            case "jpeg":
+                return "image/jpeg";
+            case "gif":
+                return "image/gif";
+            case "ico":
+                return "image/x-icon";
+            case "woff":
+                return "font/woff";
+            case "woff2":
+                return "font/woff2";
+            case "ttf":
+                return "font/ttf";
+            case "eot":
+                return "application/vnd.ms-fontobject";
+            case "txt":
+                return "text/plain; charset=utf-8";
+            default:
+                return "application/octet-stream";
+        }
+    }
+
+    /** Reads a CRLF or LF terminated line in ISO-8859-1, returns null at the end of the stream. */
+    private static String readLine(final InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (b == '\n') {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == '\r') {
+                    line.setLength(length - 1);
+                }
+                return line.toString();
+            }
+            if (line.length() >= MAX_HEADER_LINE_LENGTH) {
+                throw new IOException("Request header line too long");
+            }
+            line.append((char)b);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /** In-memory content with its lazily computed compressed form. */
+    private static final class Content {
+
+        private final byte[] m_data;
+
+        private final String m_mimeType;
+
+        private final String m_eTag;
+
+        /* owner of the content, null for contents which are kept until unregistered */
+        private final WeakReference<Object> m_owner;
+
+        private volatile byte[] m_compressed;
+
+        Content(final byte[] data, final String mimeType, final Object owner) {
+            m_data = data;
+            m_owner = owner == null ? null : new WeakReference<Object>(owner);
+            m_mimeType = mimeType == null ? "application/octet-stream" : mimeType;
+            m_eTag = "\"" + DigestUtils.md5Hex(data) + "\"";
+        }
+
+        boolean isOrphaned() {
+            return m_owner != null && m_owner.get() == null;
+        }
+
+        byte[] getCompressed() throws IOException {
+            byte[] compressed = m_compressed;
+            if (compressed == null) {
+                compressed = compress(m_data);
+                m_compressed = compressed;
+            }
+            return compressed;
+        }
+    }
+
+}
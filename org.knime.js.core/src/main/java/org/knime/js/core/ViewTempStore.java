@@ -0,0 +1,424 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.js.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Keeps track of temporary files and directories created for views, e.g. view pages, debug output, image generation
+ * data and browser profiles, which would otherwise only be removed when the JVM exits.
+ * <p>
+ * Every entry has an owner, which is only weakly referenced, and a reference count. Entries are created referenced;
+ * once they are released, or their owner has been garbage collected, they become candidates for removal:
+ * <ul>
+ * <li>unreferenced entries which have not been accessed for <code>knime.js.viewTempMaxIdle</code> seconds (default
+ * one hour) are deleted by a periodic sweep</li>
+ * <li>if the disk usage of all entries exceeds <code>knime.js.viewTempQuota</code> MB (default 1024), unreferenced
+ * entries are deleted in least recently used order until the usage is below the quota again</li>
+ * </ul>
+ * Referenced entries are never deleted implicitly. Entries can be removed immediately with {@link #delete(File)} or
+ * {@link #deleteAll(Object)}.
+ *
+ * @author agent
+ * @since 4.2
+ */
+public final class ViewTempStore {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ViewTempStore.class);
+
+    private static final long DEFAULT_QUOTA = Long.getLong("knime.js.viewTempQuota", 1024) * 1024 * 1024;
+
+    private static final long MAX_IDLE = TimeUnit.SECONDS.toMillis(Long.getLong("knime.js.viewTempMaxIdle", 3600));
+
+    private static final long SWEEP_INTERVAL = 60;
+
+    private static final ViewTempStore INSTANCE = new ViewTempStore();
+
+    private final Map<File, Entry> m_entries = new ConcurrentHashMap<File, Entry>();
+
+    private final ScheduledExecutorService m_sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "KNIME view temp store sweeper");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private final AtomicBoolean m_sweepScheduled = new AtomicBoolean();
+
+    private final LongAdder m_evictions = new LongAdder();
+
+    private volatile long m_quota = DEFAULT_QUOTA;
+
+    private ViewTempStore() {
+        m_sweeper.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the singleton instance
+     */
+    public static ViewTempStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a new, referenced temporary file.
+     *
+     * @param owner the owner of the file, e.g. a node model or view creator
+     * @param prefix the file name prefix
+     * @param suffix the file name suffix
+     * @param dir the directory to create the file in
+     * @return the new file
+     * @throws IOException if the file cannot be created
+     */
+    public File createTempFile(final Object owner, final String prefix, final String suffix, final File dir)
+        throws IOException {
+        File file = FileUtil.createTempFile(prefix, suffix, dir, true);
+        register(owner, file, false, null);
+        return file;
+    }
+
+    /**
+     * Creates a new, referenced temporary directory.
+     *
+     * @param owner the owner of the directory
+     * @param prefix the directory name prefix
+     * @param evictionListener optional callback invoked after the directory has been deleted by the store, may be
+     *            null
+     * @return the new directory
+     * @throws IOException if the directory cannot be created
+     */
+    public File createTempDir(final Object owner, final String prefix, final Consumer<File> evictionListener)
+        throws IOException {
+        File dir = FileUtil.createTempDir(prefix);
+        register(owner, dir, true, evictionListener);
+        return dir;
+    }
+
+    private void register(final Object owner, final File file, final boolean directory,
+        final Consumer<File> evictionListener) {
+        CheckUtils.checkArgumentNotNull(owner, "Owner must not be null");
+        m_entries.put(file, new Entry(file, directory, owner, evictionListener));
+        if (getDiskUsage() > m_quota) {
+            scheduleSweep();
+        }
+    }
+
+    /**
+     * Adds a reference to an entry, which prevents it from being deleted implicitly.
+     *
+     * @param file the file or directory of the entry
+     * @return true if the entry exists and has been referenced, false if it is unknown or has already been deleted
+     */
+    public boolean retain(final File file) {
+        Entry entry = m_entries.get(file);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            if (entry.m_removed) {
+                return false;
+            }
+            entry.m_references++;
+            entry.m_lastAccess = System.currentTimeMillis();
+            return true;
+        }
+    }
+
+    /**
+     * Removes a reference from an entry. Unreferenced entries stay on disk until they are deleted because of their
+     * idle time or the quota. Unknown files are ignored.
+     *
+     * @param file the file or directory of the entry
+     */
+    public void release(final File file) {
+        Entry entry = file == null ? null : m_entries.get(file);
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.m_references > 0) {
+                    entry.m_references--;
+                }
+                entry.m_lastAccess = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Updates the last access time and size of an entry, e.g. after content has been written to a file.
+     *
+     * @param file the file or directory of the entry
+     */
+    public void touch(final File file) {
+        Entry entry = file == null ? null : m_entries.get(file);
+        if (entry != null) {
+            entry.m_lastAccess = System.currentTimeMillis();
+            if (!entry.m_directory) {
+                entry.m_size = file.length();
+            }
+            if (getDiskUsage() > m_quota) {
+                scheduleSweep();
+            }
+        }
+    }
+
+    /**
+     * Deletes an entry immediately, regardless of its references. Files not managed by the store are deleted as
+     * well.
+     *
+     * @param file the file or directory to delete
+     */
+    public void delete(final File file) {
+        if (file == null) {
+            return;
+        }
+        Entry entry = m_entries.remove(file);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.m_removed = true;
+            }
+        }
+        FileUtils.deleteQuietly(file);
+    }
+
+    /**
+     * Deletes all entries of an owner immediately, regardless of their references.
+     *
+     * @param owner the owner
+     */
+    public void deleteAll(final Object owner) {
+        for (Entry entry : m_entries.values()) {
+            if (entry.m_owner.get() == owner) {
+                delete(entry.m_file);
+            }
+        }
+    }
+
+    /**
+     * @return the disk usage of all entries in bytes, as of the last update of their sizes
+     */
+    public long getDiskUsage() {
+        long usage = 0;
+        for (Entry entry : m_entries.values()) {
+            usage += entry.m_size;
+        }
+        return usage;
+    }
+
+    /**
+     * @return the number of files and directories currently managed
+     */
+    public int getNumberOfEntries() {
+        return m_entries.size();
+    }
+
+    /**
+     * @return the number of entries deleted because of their idle time or the quota
+     */
+    public long getEvictionCount() {
+        return m_evictions.sum();
+    }
+
+    /**
+     * @return the quota in bytes
+     */
+    public long getQuota() {
+        return m_quota;
+    }
+
+    /**
+     * Sets the quota, overriding the one configured by <code>knime.js.viewTempQuota</code>. If the current disk usage
+     * exceeds the new quota, unreferenced entries are deleted asynchronously.
+     *
+     * @param quota the quota in bytes, not negative
+     */
+    public void setQuota(final long quota) {
+        CheckUtils.checkArgument(quota >= 0, "Quota must not be negative: %d", quota);
+        m_quota = quota;
+        if (getDiskUsage() > quota) {
+            scheduleSweep();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ViewTempStore [entries=" + getNumberOfEntries() + ", diskUsage=" + getDiskUsage() + ", quota="
+            + getQuota() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private void scheduleSweep() {
+        if (m_sweepScheduled.compareAndSet(false, true)) {
+            m_sweeper.execute(this::sweep);
+        }
+    }
+
+    private void sweep() {
+        m_sweepScheduled.set(false);
+        try {
+            long now = System.currentTimeMillis();
+            List<Entry> unreferenced = new ArrayList<Entry>();
+            for (Entry entry : m_entries.values()) {
+                if (!entry.m_file.exists()) {
+                    // deleted by someone else
+                    m_entries.remove(entry.m_file, entry);
+                    continue;
+                }
+                entry.updateSize();
+                synchronized (entry) {
+                    if (entry.m_owner.get() == null) {
+                        entry.m_references = 0;
+                    }
+                    if (entry.m_references > 0) {
+                        continue;
+                    }
+                }
+                if (now - entry.m_lastAccess > MAX_IDLE) {
+                    evict(entry);
+                } else {
+                    unreferenced.add(entry);
+                }
+            }
+            long quota = m_quota;
+            long usage = getDiskUsage();
+            if (usage > quota) {
+                unreferenced.sort(Comparator.comparingLong(e -> e.m_lastAccess));
+                for (Entry entry : unreferenced) {
+                    if (usage <= quota) {
+                        break;
+                    }
+                    long size = entry.m_size;
+                    if (evict(entry)) {
+                        usage -= size;
+                    }
+                }
+                if (usage > quota) {
+                    LOGGER.warn("Temporary view files use " + FileUtils.byteCountToDisplaySize(usage)
+                        + ", which exceeds the quota of " + FileUtils.byteCountToDisplaySize(quota)
+                        + ". The remaining files are still in use.");
+                }
+            }
+        } catch (Throwable t) {
+            LOGGER.error("Error while cleaning up temporary view files: " + t.getMessage(), t);
+        }
+    }
+
+    private boolean evict(final Entry entry) {
+        synchronized (entry) {
+            if (entry.m_removed || (entry.m_references > 0 && entry.m_owner.get() != null)) {
+                return false;
+            }
+            entry.m_removed = true;
+        }
+        m_entries.remove(entry.m_file, entry);
+        FileUtils.deleteQuietly(entry.m_file);
+        m_evictions.increment();
+        LOGGER.debug("Removed temporary view file " + entry.m_file.getAbsolutePath());
+        if (entry.m_evictionListener != null) {
+            entry.m_evictionListener.accept(entry.m_file);
+        }
+        return true;
+    }
+
+    /** A managed file or directory. Reference count and removal flag are guarded by the entry's monitor. */
+    private static final class Entry {
+
+        private final File m_file;
+
+        private final boolean m_directory;
+
+        private final WeakReference<Object> m_owner;
+
+        private final Consumer<File> m_evictionListener;
+
+        private int m_references = 1;
+
+        private boolean m_removed;
+
+        private volatile long m_lastAccess = System.currentTimeMillis();
+
+        private volatile long m_size;
+
+        Entry(final File file, final boolean directory, final Object owner, final Consumer<File> evictionListener) {
+            m_file = file;
+            m_directory = directory;
+            m_owner = new WeakReference<Object>(owner);
+            m_evictionListener = evictionListener;
+            updateSize();
+        }
+
+        void updateSize() {
+            try {
+                m_size = m_directory ? FileUtils.sizeOfDirectory(m_file) : m_file.length();
+            } catch (IllegalArgumentException | UncheckedIOException e) {
+                // directory vanished or changed while being measured, keep the last known size
+            }
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.js.core;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.web.WebResourceLocator.WebResourceType;
+
+/**
+ * Concatenates the JavaScript and CSS resources of a web template into one bundle file each, so a view page loads two
+ * files instead of dozens. Bundles are created on first use in the current view container and reused for every view
+ * and page referencing the same list of resources.
+ * <p>
+ * Bundling is opt-in via the system property <code>knime.js.bundleWebResources</code>, as libraries which locate
+ * their own files by inspecting their script URL do not work from a bundle. It is not active in debug mode.
+ * <p>
+ * JavaScript files are joined with statement separators, the bundle starts with an empty statement so a
+ * <code>'use strict'</code> directive of the first file does not apply to all others. Relative <code>url(...)</code>
+ * references in stylesheets are rewritten to stay valid from the bundle location; lists containing stylesheets with
+ * <code>@import</code> rules, or any file which cannot be read, are not bundled. Source map references are removed.
+ *
+ * @author agent
+ * @since 4.2
+ */
+public final class WebResourceBundler {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WebResourceBundler.class);
+
+    /** System property to enable bundling of web resources. */
+    public static final String PROPERTY_BUNDLE = "knime.js.bundleWebResources";
+
+    /** Folder in the view container holding the bundles. */
+    static final String BUNDLE_FOLDER = "knime-bundles";
+
+    private static final boolean BUNDLE = Boolean.getBoolean(PROPERTY_BUNDLE);
+
+    private static final Pattern SOURCE_MAP =
+        Pattern.compile("(?m)^\\s*(//[#@] sourceMappingURL=.*|/\\*[#@] sourceMappingURL=.*\\*/)\\s*$");
+
+    private static final Pattern CSS_URL = Pattern.compile("url\\(\\s*(['\"]?)([^'\")]+)\\1\\s*\\)");
+
+    private static final Pattern CSS_IMPORT = Pattern.compile("@import\\s");
+
+    private static final Pattern CSS_CHARSET = Pattern.compile("@charset\\s+['\"][^'\"]*['\"]\\s*;");
+
+    private static final WebResourceBundler INSTANCE = new WebResourceBundler();
+
+    /* bundle path per list of resources, empty if the list cannot be bundled */
+    private final Map<String, Optional<String>> m_bundles = new ConcurrentHashMap<String, Optional<String>>();
+
+    private volatile Path m_root;
+
+    private WebResourceBundler() {
+        // singleton
+    }
+
+    /**
+     * @return the singleton instance
+     */
+    public static WebResourceBundler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return true if bundling is enabled and a view container to create bundles in is available
+     */
+    public boolean isActive() {
+        return BUNDLE && m_root != null;
+    }
+
+    /**
+     * Sets the view container bundles are created in and served from, discarding all previously created bundles.
+     *
+     * @param root the view container, or null to deactivate bundling
+     */
+    void setRoot(final Path root) {
+        m_root = BUNDLE ? root : null;
+        m_bundles.clear();
+    }
+
+    /**
+     * Returns the resources to reference instead of the given list of resources. This is a list with the path of one
+     * bundle if bundling is active and succeeded, the given list otherwise.
+     *
+     * @param paths the relative target paths of the resources, in load order
+     * @param type the type of the resources, either {@link WebResourceType#JAVASCRIPT} or
+     *            {@link WebResourceType#CSS}
+     * @return the paths to reference, never null
+     */
+    public List<String> getBundle(final List<String> paths, final WebResourceType type) {
+        Path root = m_root;
+        if (root == null || paths == null || paths.size() < 2
+            || (type != WebResourceType.JAVASCRIPT && type != WebResourceType.CSS)) {
+            return paths;
+        }
+        String extension = type == WebResourceType.JAVASCRIPT ? ".js" : ".css";
+        String key = DigestUtils.sha1Hex(String.join("\n", paths)) + extension;
+        Optional<String> bundle = m_bundles.computeIfAbsent(key, k -> createBundle(root, k, paths, type));
+        return bundle.isPresent() ? Collections.singletonList(bundle.get()) : paths;
+    }
+
+    private static Optional<String> createBundle(final Path root, final String key, final List<String> paths,
+        final WebResourceType type) {
+        String bundlePath = BUNDLE_FOLDER + "/" + key;
+        try {
+            StringBuilder content = new StringBuilder(type == WebResourceType.JAVASCRIPT ? ";\n" : "");
+            for (String path : paths) {
+                String relativePath = stripLeadingSlash(path);
+                String fileContent =
+                    new String(Files.readAllBytes(root.resolve(relativePath)), StandardCharsets.UTF_8);
+                if (!fileContent.isEmpty() && fileContent.charAt(0) == '\uFEFF') {
+                    fileContent = fileContent.substring(1);
+                }
+                fileContent = SOURCE_MAP.matcher(fileContent).replaceAll("");
+                if (type == WebResourceType.JAVASCRIPT) {
+                    content.append("/* ").append(relativePath).append(" */\n").append(fileContent).append("\n;\n");
+                } else {
+                    if (CSS_IMPORT.matcher(fileContent).find()) {
+                        LOGGER.debug("Not bundling stylesheets, " + relativePath + " contains @import rules.");
+                        return Optional.empty();
+                    }
+                    fileContent = CSS_CHARSET.matcher(fileContent).replaceAll("");
+                    content.append("/* ").append(relativePath).append(" */\n")
+                        .append(rewriteURLs(fileContent, relativePath)).append('\n');
+                }
+            }
+            Path bundleFile = root.resolve(BUNDLE_FOLDER).resolve(key);
+            Files.createDirectories(bundleFile.getParent());
+            Path tempFile = Files.createTempFile(bundleFile.getParent(), key, ".tmp");
+            Files.write(tempFile, content.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, bundleFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Created web resource bundle " + bundlePath + " from " + paths.size() + " files.");
+            return Optional.of(bundlePath);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.debug("Web resources could not be bundled, referencing them individually: " + e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /** Rewrites relative URLs in a stylesheet, so they resolve to the same files from the bundle folder. */
+    private static String rewriteURLs(final String css, final String cssPath) {
+        URI cssURI = URI.create(cssPath);
+        Matcher matcher = CSS_URL.matcher(css);
+        StringBuffer result = new StringBuffer(css.length());
+        while (matcher.find()) {
+            String url = matcher.group(2).trim();
+            String replacement = matcher.group();
+            if (!isAbsoluteURL(url)) {
+                String resolved = cssURI.resolve(url).toString();
+                replacement = "url(" + matcher.group(1) + "../" + resolved + matcher.group(1) + ")";
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static boolean isAbsoluteURL(final String url) {
+        return url.startsWith("/") || url.startsWith("#") || url.startsWith("data:") || url.contains("://");
+    }
+
+    private static String stripLeadingSlash(final String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+}
@@ -0,0 +1,495 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.js.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Persistent, content-addressed store of the web resources contributed to the extension point
+ * <code>org.knime.js.core.webResources</code>. The resources are copied once into a directory whose name is a hash over
+ * the contributing bundles, their versions and the size and modification time of every source file. Subsequent JVMs
+ * (and concurrently running ones) with the same installation reuse that directory instead of copying several thousand
+ * files on every start.
+ * <p>
+ * A cache entry is populated in a private staging directory and then atomically renamed to its final name, so other
+ * processes either see a complete entry or none at all. Each entry carries a manifest with the number of files and
+ * bytes it holds, a hash over their sizes and modification times and a hash over their contents. Before an entry is
+ * used for the first time in this JVM only the sizes and modification times are compared; the contents are hashed only
+ * if those differ. Broken entries are discarded and repopulated.
+ * <p>
+ * Entries of other installations (i.e. with a different key) are removed once they have not been used for
+ * {@value #UNUSED_ENTRY_DAYS} days, so the cache does not grow with every update.
+ * <p>
+ * The cache lives in the KNIME home directory of the workspace by default. On POSIX file systems the cache root is
+ * created accessible to its owner only and refused if it is owned by another user or writable by group or others.
+ * <p>
+ * View containers link to an entry via symbolic links, falling back to hard links and finally to copies if the
+ * file system does not support links.
+ *
+ * @author agent
+ */
+final class WebResourceCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WebResourceCache.class);
+
+    /** System property to set the root directory of the cache, defaults to a folder in the KNIME home directory. */
+    static final String PROPERTY_CACHE_DIR = "knime.js.webResourceCache";
+
+    private static final String DEFAULT_CACHE_DIR_NAME = "knime_web_resources";
+
+    private static final String MANIFEST_FILE = ".knime-web-resources";
+
+    private static final String STAGING_SUFFIX = ".staging";
+
+    private static final String STALE_SUFFIX = ".stale";
+
+    private static final long ABANDONED_STAGING_AGE = TimeUnit.DAYS.toMillis(1);
+
+    private static final int UNUSED_ENTRY_DAYS = 14;
+
+    /* names of cache entries, as returned by computeKey */
+    private static final Pattern ENTRY_NAME = Pattern.compile("[0-9a-f]{32}");
+
+    private static final String MANIFEST_FILES = "files";
+
+    private static final String MANIFEST_BYTES = "bytes";
+
+    private static final String MANIFEST_STAT = "stat";
+
+    private static final String MANIFEST_SHA256 = "sha256";
+
+    /* entries whose contents were verified against their manifest by this JVM */
+    private static final Set<File> VERIFIED_ENTRIES = Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+
+    /* cache roots that were already cleaned up by this JVM */
+    private static final Set<File> PRUNED_ROOTS = Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+
+    private WebResourceCache() {
+        // utility class
+    }
+
+    /**
+     * Returns a complete cache entry holding the given web resources, populating it if necessary.
+     *
+     * @param resources the source files or directories mapped to their relative target paths
+     * @param contributors identifiers (symbolic name and version) of all bundles contributing resources
+     * @return the directory of the cache entry
+     * @throws IOException if the entry can neither be found nor created
+     */
+    static File getOrCreateEntry(final Map<File, String> resources, final Collection<String> contributors)
+        throws IOException {
+        File root = getCacheRoot();
+        ensureSecureRoot(root.toPath());
+        String key = computeKey(resources, contributors);
+        File entry = new File(root, key);
+        if (PRUNED_ROOTS.add(root)) {
+            removeUnusedEntries(root, key);
+        }
+        if (entry.isDirectory()) {
+            if (isComplete(entry)) {
+                LOGGER.debug("Reusing cached web resources at " + entry.getAbsolutePath());
+                markUsed(entry);
+                return entry;
+            }
+            LOGGER.warn("Cached web resources at " + entry.getAbsolutePath() + " are incomplete, recreating them.");
+            discard(entry);
+        }
+
+        File staging = Files.createTempDirectory(root.toPath(), key + STAGING_SUFFIX).toFile();
+        try {
+            long start = System.currentTimeMillis();
+            copyResources(resources, staging);
+            writeManifest(staging);
+            try {
+                Files.move(staging.toPath(), entry.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                VERIFIED_ENTRIES.add(entry);
+            } catch (IOException e) {
+                // another process might have won the race, use its entry if it is complete
+                if (!isComplete(entry)) {
+                    throw e;
+                }
+                FileUtils.deleteQuietly(staging);
+            }
+            LOGGER.debug("Populated web resource cache at " + entry.getAbsolutePath() + " in "
+                + (System.currentTimeMillis() - start) + "ms");
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(staging);
+            throw e;
+        }
+        return entry;
+    }
+
+    /**
+     * Makes the contents of a cache entry available in the given container directory. Top-level entries are symbolic
+     * links where possible, otherwise the tree is recreated with hard links or, as last resort, copies.
+     *
+     * @param entry the cache entry
+     * @param container the directory to make the resources available in
+     * @throws IOException if the resources cannot be linked or copied
+     */
+    static void linkInto(final File entry, final File container) throws IOException {
+        File[] children = entry.listFiles();
+        if (children == null) {
+            throw new IOException("Cannot list cached web resources at " + entry.getAbsolutePath());
+        }
+        for (File child : children) {
+            if (child.getName().startsWith(MANIFEST_FILE)) {
+                continue;
+            }
+            Path link = new File(container, child.getName()).toPath();
+            try {
+                Files.createSymbolicLink(link, child.toPath());
+            } catch (UnsupportedOperationException | IOException | SecurityException e) {
+                LOGGER.debug("Cannot create symbolic link to " + child + ", linking files instead: " + e.getMessage());
+                linkOrCopyTree(child.toPath(), link);
+            }
+        }
+    }
+
+    /**
+     * Copies the given web resources into a directory, as done for uncached view containers.
+     *
+     * @param resources the source files or directories mapped to their relative target paths
+     * @param dest the destination directory
+     * @throws IOException on copy errors
+     */
+    static void copyResources(final Map<File, String> resources, final File dest) throws IOException {
+        for (Entry<File, String> copyEntry : resources.entrySet()) {
+            File src = copyEntry.getKey();
+            File target = new File(dest, FilenameUtils.separatorsToSystem(copyEntry.getValue()));
+            if (src.isDirectory()) {
+                FileUtils.copyDirectory(src, target);
+            } else {
+                FileUtils.copyFile(src, target);
+            }
+        }
+    }
+
+    private static File getCacheRoot() {
+        String configured = System.getProperty(PROPERTY_CACHE_DIR);
+        if (configured != null && !configured.trim().isEmpty()) {
+            return new File(configured.trim());
+        }
+        return new File(KNIMEConstants.getKNIMEHomeDir(), DEFAULT_CACHE_DIR_NAME);
+    }
+
+    /**
+     * Creates the cache root if necessary and makes sure no other user can place or alter resources in it, which
+     * would otherwise end up in the views of this user.
+     */
+    private static void ensureSecureRoot(final Path root) throws IOException {
+        if (!root.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            // no POSIX permissions, the file system is expected to be protected by its ACLs
+            Files.createDirectories(root);
+            return;
+        }
+        if (!Files.exists(root, LinkOption.NOFOLLOW_LINKS)) {
+            if (root.getParent() != null) {
+                Files.createDirectories(root.getParent());
+            }
+            try {
+                Files.createDirectory(root,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } catch (FileAlreadyExistsException e) {
+                // created concurrently, verified below
+            }
+        }
+        PosixFileAttributes attrs =
+            Files.readAttributes(root, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (!attrs.isDirectory()) {
+            throw new IOException("Web resource cache root " + root + " is not a directory.");
+        }
+        UserPrincipal user = root.getFileSystem().getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!attrs.owner().equals(user)) {
+            throw new IOException("Web resource cache root " + root + " is owned by " + attrs.owner().getName()
+                + ", refusing to use it.");
+        }
+        Set<PosixFilePermission> permissions = attrs.permissions();
+        if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+            || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+            throw new IOException("Web resource cache root " + root
+                + " is writable by other users, refusing to use it.");
+        }
+    }
+
+    private static String computeKey(final Map<File, String> resources, final Collection<String> contributors)
+        throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (String contributor : new TreeSet<String>(contributors)) {
+            DigestUtils.updateDigest(digest, contributor + "\n");
+        }
+        TreeMap<String, File> sortedResources = new TreeMap<String, File>();
+        for (Entry<File, String> resource : resources.entrySet()) {
+            sortedResources.put(resource.getValue(), resource.getKey());
+        }
+        for (Entry<String, File> resource : sortedResources.entrySet()) {
+            DigestUtils.updateDigest(digest, resource.getKey() + "\n");
+            Path source = resource.getValue().toPath();
+            Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    DigestUtils.updateDigest(digest, source.relativize(file) + ":" + attrs.size() + ":"
+                        + attrs.lastModifiedTime().toMillis() + "\n");
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        return Hex.encodeHexString(digest.digest()).substring(0, 32);
+    }
+
+    private static void writeManifest(final File dir) throws IOException {
+        DirectoryListing listing = new DirectoryListing(dir.toPath());
+        writeManifest(dir, listing.describe() + MANIFEST_SHA256 + "=" + listing.hashContents() + "\n");
+    }
+
+    private static void writeManifest(final File dir, final String manifest) throws IOException {
+        Path tmp = Files.createTempFile(dir.toPath(), MANIFEST_FILE, STAGING_SUFFIX);
+        try {
+            Files.write(tmp, manifest.getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, new File(dir, MANIFEST_FILE).toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static boolean isComplete(final File entry) {
+        if (VERIFIED_ENTRIES.contains(entry)) {
+            return true;
+        }
+        File manifestFile = new File(entry, MANIFEST_FILE);
+        if (!manifestFile.isFile()) {
+            return false;
+        }
+        try {
+            Properties manifest = new Properties();
+            manifest.load(new StringReader(
+                new String(Files.readAllBytes(manifestFile.toPath()), StandardCharsets.UTF_8)));
+            DirectoryListing listing = new DirectoryListing(entry.toPath());
+            if (!String.valueOf(listing.m_files.size()).equals(manifest.getProperty(MANIFEST_FILES))
+                || !String.valueOf(listing.m_bytes).equals(manifest.getProperty(MANIFEST_BYTES))) {
+                return false;
+            }
+            if (!listing.hashStats().equals(manifest.getProperty(MANIFEST_STAT))) {
+                // e.g. touched by a backup or restored from one, only the contents tell whether the entry is intact
+                String contents = listing.hashContents();
+                if (!contents.equals(manifest.getProperty(MANIFEST_SHA256))) {
+                    return false;
+                }
+                writeManifest(entry, listing.describe() + MANIFEST_SHA256 + "=" + contents + "\n");
+            }
+            VERIFIED_ENTRIES.add(entry);
+            return true;
+        } catch (IOException e) {
+            LOGGER.debug("Cannot verify cached web resources at " + entry + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * The files of a directory with their sizes and modification times, excluding the manifest and manifests being
+     * written.
+     */
+    private static final class DirectoryListing {
+
+        private final TreeMap<String, Path> m_files = new TreeMap<String, Path>();
+
+        private final TreeMap<String, String> m_stats = new TreeMap<String, String>();
+
+        private long m_bytes;
+
+        DirectoryListing(final Path root) throws IOException {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (!file.getFileName().toString().startsWith(MANIFEST_FILE)) {
+                        String name = FilenameUtils.separatorsToUnix(root.relativize(file).toString());
+                        m_files.put(name, file);
+                        m_stats.put(name, attrs.size() + ":" + attrs.lastModifiedTime().toMillis());
+                        m_bytes += attrs.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+
+        /** @return the manifest lines that can be computed without reading any file */
+        String describe() {
+            return MANIFEST_FILES + "=" + m_files.size() + "\n" + MANIFEST_BYTES + "=" + m_bytes + "\n" + MANIFEST_STAT
+                + "=" + hashStats() + "\n";
+        }
+
+        String hashStats() {
+            MessageDigest digest = DigestUtils.getSha256Digest();
+            for (Entry<String, String> stat : m_stats.entrySet()) {
+                DigestUtils.updateDigest(digest, stat.getKey() + ":" + stat.getValue() + "\n");
+            }
+            return Hex.encodeHexString(digest.digest());
+        }
+
+        String hashContents() throws IOException {
+            MessageDigest digest = DigestUtils.getSha256Digest();
+            for (Entry<String, Path> file : m_files.entrySet()) {
+                DigestUtils.updateDigest(digest, file.getKey() + "\n");
+                try (InputStream in = Files.newInputStream(file.getValue())) {
+                    digest.update(DigestUtils.sha256(in));
+                }
+            }
+            return Hex.encodeHexString(digest.digest());
+        }
+    }
+
+    private static void discard(final File entry) {
+        // move out of the way first, so concurrent readers never see a half-deleted entry
+        VERIFIED_ENTRIES.remove(entry);
+        File stale = new File(entry.getParentFile(), entry.getName() + STALE_SUFFIX + System.nanoTime());
+        if (entry.renameTo(stale)) {
+            FileUtils.deleteQuietly(stale);
+        } else {
+            FileUtils.deleteQuietly(entry);
+        }
+    }
+
+    /**
+     * Records that an entry is in use, its modification time is what {@link #removeUnusedEntries(File, String)}
+     * decides on.
+     */
+    private static void markUsed(final File entry) {
+        if (!entry.setLastModified(System.currentTimeMillis())) {
+            LOGGER.debug("Cannot update the last use of cached web resources at " + entry.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Removes abandoned staging directories and entries of other installations that have not been used for a while.
+     * Entries still in use by a concurrently running installation are kept, as it marks them on every use.
+     */
+    private static void removeUnusedEntries(final File root, final String currentKey) {
+        File[] children = root.listFiles();
+        if (children == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long abandonedThreshold = now - ABANDONED_STAGING_AGE;
+        long unusedThreshold = now - TimeUnit.DAYS.toMillis(UNUSED_ENTRY_DAYS);
+        for (File child : children) {
+            String name = child.getName();
+            if (name.contains(STAGING_SUFFIX) || name.contains(STALE_SUFFIX)) {
+                if (child.lastModified() < abandonedThreshold) {
+                    FileUtils.deleteQuietly(child);
+                }
+            } else if (!currentKey.equals(name) && ENTRY_NAME.matcher(name).matches()
+                && child.lastModified() < unusedThreshold) {
+                LOGGER.debug("Removing unused cached web resources at " + child.getAbsolutePath());
+                discard(child);
+            }
+        }
+    }
+
+    private static void linkOrCopyTree(final Path source, final Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                Path dest = target.resolve(source.relativize(file).toString());
+                try {
+                    Files.createLink(dest, file);
+                } catch (FileAlreadyExistsException e) {
+                    throw e;
+                } catch (UnsupportedOperationException | IOException | SecurityException e) {
+                    Files.copy(file, dest, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.js.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.web.WebResourceLocator;
+import org.knime.core.node.web.WebResourceLocator.WebResourceType;
+import org.knime.core.node.web.WebTemplate;
+import org.knime.core.node.workflow.WebResourceController;
+
+/**
+ * Process-wide cache of resolved {@link WebTemplate}s, keyed by JavaScript object ID. Resolving a template reads the
+ * extension registry, so resolving it once per object ID instead of once per node and page build saves repeated
+ * registry lookups. Along with the template the cache holds the JavaScript and CSS lists which are derived from its
+ * web resources.
+ * <p>
+ * The cache is invalidated by the activator of this plugin whenever bundles are installed, updated or uninstalled.
+ *
+ * @author agent
+ * @since 4.2
+ */
+public final class WebTemplateCache {
+
+    private static final WebTemplateCache INSTANCE = new WebTemplateCache();
+
+    private final Map<String, CachedWebTemplate> m_templates = new ConcurrentHashMap<String, CachedWebTemplate>();
+
+    private final LongAdder m_hits = new LongAdder();
+    private final LongAdder m_misses = new LongAdder();
+    private final LongAdder m_invalidations = new LongAdder();
+
+    private WebTemplateCache() {
+        // singleton
+    }
+
+    /**
+     * @return the process-wide cache instance
+     */
+    public static WebTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached template for the given JavaScript object ID, resolving and caching it if necessary.
+     *
+     * @param javascriptObjectID the id of the JavaScriptComponent defined in the extension point, not null
+     * @return the cached template with its precomputed resource lists, or null if the template can not be resolved
+     */
+    public CachedWebTemplate get(final String javascriptObjectID) {
+        CheckUtils.checkArgumentNotNull(javascriptObjectID, "JavaScript object ID must not be null");
+        CachedWebTemplate cached = m_templates.get(javascriptObjectID);
+        if (cached != null) {
+            m_hits.increment();
+            return cached;
+        }
+        m_misses.increment();
+        WebTemplate template = WebResourceController.getWebTemplateFromJSObjectID(javascriptObjectID);
+        if (template == null) {
+            return null;
+        }
+        cached = new CachedWebTemplate(template);
+        CachedWebTemplate previous = m_templates.putIfAbsent(javascriptObjectID, cached);
+        return previous == null ? cached : previous;
+    }
+
+    /**
+     * Convenience method returning only the template for the given JavaScript object ID, see {@link #get(String)}.
+     *
+     * @param javascriptObjectID the id of the JavaScriptComponent defined in the extension point, not null
+     * @return the template, or null if it can not be resolved
+     */
+    public WebTemplate getWebTemplate(final String javascriptObjectID) {
+        CachedWebTemplate cached = get(javascriptObjectID);
+        return cached == null ? null : cached.getTemplate();
+    }
+
+    /**
+     * Removes all cached templates, e.g. after bundles have changed.
+     */
+    public void invalidate() {
+        m_templates.clear();
+        m_invalidations.increment();
+    }
+
+    /**
+     * Removes the cached template for a single JavaScript object ID.
+     *
+     * @param javascriptObjectID the id to remove the template for
+     */
+    public void invalidate(final String javascriptObjectID) {
+        if (m_templates.remove(javascriptObjectID) != null) {
+            m_invalidations.increment();
+        }
+    }
+
+    /**
+     * @return the number of currently cached templates
+     */
+    public int size() {
+        return m_templates.size();
+    }
+
+    /**
+     * @return the number of lookups served from the cache
+     */
+    public long getHitCount() {
+        return m_hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which had to resolve the template
+     */
+    public long getMissCount() {
+        return m_misses.sum();
+    }
+
+    /**
+     * @return the number of times the cache or single entries were invalidated
+     */
+    public long getInvalidationCount() {
+        return m_invalidations.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "WebTemplateCache [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+            + ", invalidations=" + getInvalidationCount() + "]";
+    }
+
+    /**
+     * A resolved {@link WebTemplate} together with the immutable lists of its JavaScript and CSS resource paths.
+     *
+     * @author agent
+     */
+    public static final class CachedWebTemplate {
+
+        private final WebTemplate m_template;
+        private final List<String> m_javascriptLibraries;
+        private final List<String> m_stylesheets;
+
+        private CachedWebTemplate(final WebTemplate template) {
+            m_template = template;
+            List<String> jsList = new ArrayList<String>();
+            List<String> cssList = new ArrayList<String>();
+            for (WebResourceLocator locator : template.getWebResources()) {
+                if (locator.getType() == WebResourceType.JAVASCRIPT) {
+                    jsList.add(locator.getRelativePathTarget());
+                } else if (locator.getType() == WebResourceType.CSS) {
+                    cssList.add(locator.getRelativePathTarget());
+                }
+            }
+            m_javascriptLibraries = Collections.unmodifiableList(jsList);
+            m_stylesheets = Collections.unmodifiableList(cssList);
+        }
+
+        /**
+         * @return the resolved template
+         */
+        public WebTemplate getTemplate() {
+            return m_template;
+        }
+
+        /**
+         * @return the relative target paths of all JavaScript resources of the template, unmodifiable
+         */
+        public List<String> getJavascriptLibraries() {
+            return m_javascriptLibraries;
+        }
+
+        /**
+         * @return the relative target paths of all CSS resources of the template, unmodifiable
+         */
+        public List<String> getStylesheets() {
+            return m_stylesheets;
+        }
+
+        /**
+         * @return the namespace of the template
+         */
+        public String getNamespace() {
+            return m_template.getNamespace();
+        }
+
+        /**
+         * @return the name of the init method of the template
+         */
+        public String getInitMethodName() {
+            return m_template.getInitMethodName();
+        }
+
+        /**
+         * @return the name of the validate method of the template
+         */
+        public String getValidateMethodName() {
+            return m_template.getValidateMethodName();
+        }
+
+        /**
+         * @return the name of the set validation error method of the template
+         */
+        public String getSetValidationErrorMethodName() {
+            return m_template.getSetValidationErrorMethodName();
+        }
+
+        /**
+         * @return the name of the method pulling the view content of the template
+         */
+        public String getPullViewContentMethodName() {
+            return m_template.getPullViewContentMethodName();
+        }
+    }
+}
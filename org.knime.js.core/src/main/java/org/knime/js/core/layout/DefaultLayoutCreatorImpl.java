@@ -49,12 +49,16 @@
 package org.knime.js.core.layout;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -89,6 +93,11 @@ public final class DefaultLayoutCreatorImpl implements DefaultLayoutCreator {
 
     private final static NodeLogger LOGGER = NodeLogger.getLogger(DefaultLayoutCreatorImpl.class);
 
+    /* last expanded layout per component workflow, reused as long as the nodes and nested layouts it was built from
+     * are unchanged */
+    private static final Map<WorkflowManager, ExpandedLayout> EXPANDED_LAYOUTS =
+        Collections.synchronizedMap(new WeakHashMap<WorkflowManager, ExpandedLayout>());
+
     /**
      * {@inheritDoc}
      */
@@ -174,10 +183,22 @@ public String expandNestedLayout(final String originalLayout, final WorkflowMana
         if (originalLayout == null || originalLayout.isEmpty()) {
             return originalLayout;
         }
+        ExpandedLayout cached = EXPANDED_LAYOUTS.get(wfm);
+        if (cached != null && cached.isValid(originalLayout, wfm)) {
+            return cached.m_expandedLayout;
+        }
         try {
+            List<LayoutDependency> dependencies = new ArrayList<LayoutDependency>();
             JSONLayoutPage parentPage = deserializeLayout(originalLayout);
-            parentPage = expandNestedLayout(parentPage, wfm);
-            return serializeLayout(parentPage);
+            parentPage = expandNestedLayout(parentPage, wfm, dependencies);
+            String expandedLayout = serializeLayout(parentPage);
+            if (dependencies.contains(null)) {
+                // default layouts of nested components depend on more than the referenced nodes, don't cache
+                EXPANDED_LAYOUTS.remove(wfm);
+            } else {
+                EXPANDED_LAYOUTS.put(wfm, new ExpandedLayout(originalLayout, expandedLayout, dependencies));
+            }
+            return expandedLayout;
         } catch (IOException ex) {
             LOGGER.error("Could not expand a potentially nested layout: " + ex.getMessage(), ex);
             return originalLayout;
@@ -197,17 +218,19 @@ private static String serializeLayout(final JSONLayoutPage layout) throws JsonPr
         return mapper.writeValueAsString(layout);
     }
 
-    private JSONLayoutPage expandNestedLayout(final JSONLayoutPage originalLayout, final WorkflowManager wfm) throws JsonProcessingException, IOException {
+    private JSONLayoutPage expandNestedLayout(final JSONLayoutPage originalLayout, final WorkflowManager wfm,
+        final List<LayoutDependency> dependencies) throws JsonProcessingException, IOException {
         List<JSONLayoutRow> rows = originalLayout.getRows();
         if (rows != null) {
             for (JSONLayoutRow row : originalLayout.getRows()) {
-                expandNestedRow(row, wfm);
+                expandNestedRow(row, wfm, dependencies);
             }
         }
         return originalLayout;
     }
 
-    private JSONLayoutRow expandNestedRow(final JSONLayoutRow originalRow, final WorkflowManager wfm) throws JsonProcessingException, IOException {
+    private JSONLayoutRow expandNestedRow(final JSONLayoutRow originalRow, final WorkflowManager wfm,
+        final List<LayoutDependency> dependencies) throws JsonProcessingException, IOException {
         for (JSONLayoutColumn col : originalRow.getColumns()) {
             List<JSONLayoutContent> replacedContent = new ArrayList<JSONLayoutContent>(col.getContent().size());
             for (JSONLayoutContent content : col.getContent()) {
@@ -220,10 +243,12 @@ private JSONLayoutRow expandNestedRow(final JSONLayoutRow originalRow, final Wor
                         nodeContainer = wfm.getNodeContainer(nodeID);
                     } catch (IllegalArgumentException e) {
                         //node probably deleted from workflow
+                        dependencies.add(new LayoutDependency(nodeID, null));
                         continue;
                     }
+                    dependencies.add(new LayoutDependency(nodeID, nodeContainer));
                     if (nodeContainer != null && nodeContainer instanceof SubNodeContainer) {
-                        expandSubnode(nestedLayout, (SubNodeContainer)nodeContainer);
+                        expandSubnode(nestedLayout, (SubNodeContainer)nodeContainer, dependencies);
                     }
                     replacedContent.add(nestedLayout);
                 } else if (content instanceof JSONLayoutViewContent) {
@@ -235,21 +260,23 @@ private JSONLayoutRow expandNestedRow(final JSONLayoutRow originalRow, final Wor
                         nodeContainer = wfm.getNodeContainer(nodeID);
                     } catch (IllegalArgumentException e) {
                         //node probably deleted from workflow
+                        dependencies.add(new LayoutDependency(nodeID, null));
                         continue;
                     }
+                    dependencies.add(new LayoutDependency(nodeID, nodeContainer));
                     if (nodeContainer != null && nodeContainer instanceof SubNodeContainer) {
                         LOGGER.info("Node " + nodeID + " was defined as a view but will be treated as nested layout. "
                             + "Consider updating your layout for node " + wfm.getID());
                         JSONNestedLayout nestedLayout = new JSONNestedLayout();
                         nestedLayout.setNodeID(viewContent.getNodeID());
-                        expandSubnode(nestedLayout, (SubNodeContainer)nodeContainer);
+                        expandSubnode(nestedLayout, (SubNodeContainer)nodeContainer, dependencies);
                         replacedContent.add(nestedLayout);
                     } else {
                         replacedContent.add(viewContent);
                     }
                 } else if (content instanceof JSONLayoutRow) {
                     JSONLayoutRow rowContent = (JSONLayoutRow)content;
-                    rowContent = expandNestedRow(rowContent, wfm);
+                    rowContent = expandNestedRow(rowContent, wfm, dependencies);
                     replacedContent.add(rowContent);
                 } else {
                     // html content
@@ -261,14 +288,17 @@ private JSONLayoutRow expandNestedRow(final JSONLayoutRow originalRow, final Wor
         return originalRow;
     }
 
-    private void expandSubnode(final JSONNestedLayout nestedLayout, final SubNodeContainer sub) throws JsonProcessingException, IOException {
+    private void expandSubnode(final JSONNestedLayout nestedLayout, final SubNodeContainer sub,
+        final List<LayoutDependency> dependencies) throws JsonProcessingException, IOException {
         WorkflowManager wfm = sub.getWorkflowManager();
         String nestedLayoutString = sub.getLayoutJSONString();
         if (StringUtils.isNotEmpty(nestedLayoutString)) {
             JSONLayoutPage nestedPage = deserializeLayout(nestedLayoutString);
-            expandNestedLayout(nestedPage, wfm);
+            expandNestedLayout(nestedPage, wfm, dependencies);
             nestedLayout.setLayout(nestedPage);
         } else {
+            // null marks a dependency which can not be tracked, i.e. the layout can't be cached
+            dependencies.add(null);
             // create default layout also for nested subnodes, if there is no layout defined
             @SuppressWarnings("rawtypes")
             Map<NodeID, WizardNode> nestedNodes =
@@ -285,7 +315,7 @@ private void expandSubnode(final JSONNestedLayout nestedLayout, final SubNodeCon
                     }
                 }
                 JSONLayoutPage nestedPage = createDefaultLayoutStructure(nestedViews);
-                expandNestedLayout(nestedPage, wfm);
+                expandNestedLayout(nestedPage, wfm, dependencies);
                 nestedLayout.setLayout(nestedPage);
             }
         }
@@ -340,7 +370,7 @@ private JSONLayoutPage addUnreferencedViews(final NodeID containerID, final JSON
             if (e.getValue() instanceof SubNodeContainer) {
                 try {
                     expandSubnode((JSONNestedLayout)newRow.getColumns().get(0).getContent().get(0),
-                        (SubNodeContainer)e.getValue());
+                        (SubNodeContainer)e.getValue(), new ArrayList<LayoutDependency>());
                 } catch (IOException ex) {
                     LOGGER.error("Could not expand nested layout: " + ex.getMessage(), ex);
                 }
@@ -407,4 +437,61 @@ private static boolean isInCurrentSNC(final NodeID containerID, final NodeIDSuff
         return shortenedViewSuffix.getSuffixArray().length == 1;
     }
 
+    /**
+     * A node a layout was expanded with. Containers are only weakly referenced, as the cache must not keep closed
+     * workflows alive.
+     */
+    private static final class LayoutDependency {
+
+        private final NodeID m_nodeID;
+
+        private final boolean m_existed;
+
+        private final WeakReference<NodeContainer> m_container;
+
+        private final String m_layout;
+
+        private LayoutDependency(final NodeID nodeID, final NodeContainer container) {
+            m_nodeID = nodeID;
+            m_existed = container != null;
+            m_container = new WeakReference<NodeContainer>(container);
+            m_layout = container instanceof SubNodeContainer ? ((SubNodeContainer)container).getLayoutJSONString()
+                : null;
+        }
+
+        private boolean isValid(final WorkflowManager wfm) {
+            NodeContainer current;
+            try {
+                current = wfm.findNodeContainer(m_nodeID);
+            } catch (IllegalArgumentException e) {
+                current = null;
+            }
+            if (m_existed != (current != null) || current != m_container.get()) {
+                return false;
+            }
+            return !(current instanceof SubNodeContainer)
+                || Objects.equals(((SubNodeContainer)current).getLayoutJSONString(), m_layout);
+        }
+    }
+
+    private static final class ExpandedLayout {
+
+        private final String m_originalLayout;
+
+        private final String m_expandedLayout;
+
+        private final List<LayoutDependency> m_dependencies;
+
+        private ExpandedLayout(final String originalLayout, final String expandedLayout,
+            final List<LayoutDependency> dependencies) {
+            m_originalLayout = originalLayout;
+            m_expandedLayout = expandedLayout;
+            m_dependencies = dependencies;
+        }
+
+        private boolean isValid(final String originalLayout, final WorkflowManager wfm) {
+            return m_originalLayout.equals(originalLayout) && m_dependencies.stream().allMatch(d -> d.isValid(wfm));
+        }
+    }
+
 }
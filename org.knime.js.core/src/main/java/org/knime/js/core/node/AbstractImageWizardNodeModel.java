@@ -49,6 +49,10 @@
 package org.knime.js.core.node;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map.Entry;
+
+import javax.naming.OperationNotSupportedException;
 
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
@@ -58,11 +62,12 @@
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.port.image.ImagePortObject;
 import org.knime.core.node.port.inactive.InactiveBranchPortObject;
-import org.knime.core.node.web.WebTemplate;
 import org.knime.core.node.wizard.WizardNode;
-import org.knime.core.node.workflow.WebResourceController;
 import org.knime.js.core.AbstractImageGenerator;
+import org.knime.js.core.AbstractImageGenerator.ImageConsumer;
 import org.knime.js.core.JSONViewContent;
+import org.knime.js.core.WebTemplateCache;
+import org.knime.js.core.WebTemplateCache.CachedWebTemplate;
 import org.openqa.selenium.TimeoutException;
 
 /**
@@ -125,20 +130,101 @@ protected final PortObject[] performExecute(final PortObject[] inObjects, final
     protected abstract void performExecuteCreateView(final PortObject[] inObjects, final ExecutionContext exec)
         throws Exception;
 
-    @SuppressWarnings({"rawtypes"})
     private PortObject renderViewAndCreateImage(final ExecutionContext exec) throws IOException {
         if (!generateImage()) {
             return InactiveBranchPortObject.INSTANCE;
         }
+        String[] imageAndError = renderImage(exec);
+        ImagePortObject imagePort = null;
+        try {
+            imagePort = createImagePortObjectFromView(imageAndError[0], imageAndError[1]);
+            exec.setProgress(1);
+        } catch (IOException e) {
+            LOGGER.error("Creating image port object failed: " + e.getMessage(), e);
+        }
+        return imagePort;
+    }
 
+    /**
+     * Renders an image for each of the given view representation and value pairs, e.g. one per group or loop
+     * iteration. If the image generator supports it, all images are rendered in one browser session. Otherwise every
+     * image is rendered separately, setting the representation and value of this node model to the respective item
+     * for the time of rendering.
+     *
+     * @param items the view representation and value pairs to render
+     * @param consumer receives the retrieved image or an error text for every item, in the order of the items
+     * @param exec the execution context for progress and cancellation, may be null
+     * @throws Exception if no headless browser is available, execution is canceled or the consumer fails
+     * @since 4.2
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public final void renderImages(final List<? extends Entry<REP, VAL>> items, final ImageConsumer consumer,
+        final ExecutionContext exec) throws Exception {
+        if (items.isEmpty()) {
+            return;
+        }
+        AbstractImageGenerator generator = createImageGenerator();
+        if (generator.supportsBatchGeneration()) {
+            generator.generateImages(items, getOptionalViewWaitTime(), createExtractImageMethodCall(), consumer, exec);
+            return;
+        }
+        generator.cleanup();
+        REP representation = getViewRepresentation();
+        VAL value = getViewValue();
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                ExecutionContext itemExec = null;
+                if (exec != null) {
+                    exec.checkCanceled();
+                    exec.setProgress(i / (double)items.size(), "Rendering image " + (i + 1) + " of " + items.size());
+                    itemExec = exec.createSubExecutionContext(1.0 / items.size());
+                }
+                setViewRepresentation(items.get(i).getKey());
+                setViewValue(items.get(i).getValue());
+                String[] imageAndError = renderImage(itemExec);
+                consumer.accept(i, imageAndError[0], imageAndError[1]);
+            }
+        } finally {
+            setViewRepresentation(representation);
+            setViewValue(value);
+        }
+        if (exec != null) {
+            exec.setProgress(1.0);
+        }
+    }
+
+    /**
+     * Creates the generator rendering the images of this node's view. The default implementation returns the headless
+     * browser configured in the preferences.
+     *
+     * @return a new image generator for this node model
+     * @throws InstantiationException if the image generator can not be initialized
+     * @throws OperationNotSupportedException if no headless browser is available
+     * @since 4.2
+     */
+    @SuppressWarnings("rawtypes")
+    protected AbstractImageGenerator createImageGenerator()
+        throws InstantiationException, OperationNotSupportedException {
+        return AbstractImageGenerator.getConfiguredHeadlessBrowser(this);
+    }
+
+    /**
+     * Renders the current view representation and value.
+     *
+     * @param exec the execution context for progress, may be null
+     * @return the retrieved image and the error text if rendering failed, both may be null
+     */
+    @SuppressWarnings({"rawtypes"})
+    private String[] renderImage(final ExecutionContext exec) throws IOException {
         String image = null;
         String errorText = null;
 
         AbstractImageGenerator generator = null;
         try {
             try {
-                generator = AbstractImageGenerator.getConfiguredHeadlessBrowser(this);
-                generator.generateView(getOptionalViewWaitTime(), exec.createSubExecutionContext(0.75));
+                generator = createImageGenerator();
+                generator.generateView(getOptionalViewWaitTime(),
+                    exec == null ? null : exec.createSubExecutionContext(0.75));
             } catch (IOException ex) {
                 throw ex;
             } catch (Exception e) {
@@ -150,13 +236,10 @@ private PortObject renderViewAndCreateImage(final ExecutionContext exec) throws
                 LOGGER.error("Initializing view failed: " + e.getMessage(), e);
             }
 
-            exec.setProgress(0.75, "Retrieving generated image...");
-            String namespace = getViewNamespace();
-            String methodCall = "";
-            if (namespace != null && !namespace.isEmpty()) {
-                methodCall += namespace + ".";
+            if (exec != null) {
+                exec.setProgress(0.75, "Retrieving generated image...");
             }
-            methodCall += getExtractImageMethodName() + "();";
+            String methodCall = createExtractImageMethodCall();
             // Retrieve the SVG string from the view.
             Object imageData;
             try {
@@ -166,7 +249,9 @@ private PortObject renderViewAndCreateImage(final ExecutionContext exec) throws
                         image = (String)imageData;
                     }
                 }
-                exec.setProgress(0.9, "Creating image output...");
+                if (exec != null) {
+                    exec.setProgress(0.9, "Creating image output...");
+                }
             } catch (Exception e) {
                 errorText = e.getMessage();
                 LOGGER.error("Retrieving image from view failed: " + e.getMessage(), e);
@@ -179,14 +264,16 @@ private PortObject renderViewAndCreateImage(final ExecutionContext exec) throws
                 generator.cleanup();
             }
         }
-        ImagePortObject imagePort = null;
-        try {
-            imagePort = createImagePortObjectFromView(image, errorText);
-            exec.setProgress(1);
-        } catch (IOException e) {
-            LOGGER.error("Creating image port object failed: " + e.getMessage(), e);
+        return new String[]{image, errorText};
+    }
+
+    private String createExtractImageMethodCall() {
+        String namespace = getViewNamespace();
+        String methodCall = "";
+        if (namespace != null && !namespace.isEmpty()) {
+            methodCall += namespace + ".";
         }
-        return imagePort;
+        return methodCall + getExtractImageMethodName() + "();";
     }
 
     /**
@@ -243,10 +330,10 @@ protected final void setOptionalViewWaitTime(final Long optionalViewTimeout) {
     }
 
     /**
-     * @return the view implementation namespace
+     * @return the view implementation namespace, null if the template of the view can not be resolved
      */
     protected final String getViewNamespace() {
-        WebTemplate template = WebResourceController.getWebTemplateFromJSObjectID(getJavascriptObjectID());
-        return template.getNamespace();
+        CachedWebTemplate template = WebTemplateCache.getInstance().get(getJavascriptObjectID());
+        return template == null ? null : template.getNamespace();
     }
 }
@@ -0,0 +1,363 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19 Oct 2026 (agent): created
+ */
+package org.knime.js.core.selections.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.knime.core.data.RowKey;
+import org.knime.core.node.property.hilite.HiLiteMapper;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Compact, integer-interned representation of a row key mapping as provided by a {@link HiLiteMapper}.
+ * <br>
+ * Source keys are mapped to ordinals, every distinct target key is stored only once and the targets of the source
+ * key at position <tt>i</tt> are the entries <tt>indices[offsets[i]]</tt> to <tt>indices[offsets[i + 1] - 1]</tt>
+ * (compressed sparse row layout). Translations are resolved on demand.
+ *
+ * @author agent
+ * @since 4.2
+ */
+@JsonAutoDetect
+public final class JSONSelectionMapping {
+
+    private String[] m_keys;
+    private String[] m_targets;
+    private int[] m_offsets;
+    private int[] m_indices;
+
+    /* lazily created lookup structures, not serialized */
+    private Map<String, Integer> m_keyIndex;
+    private Map<String, List<String>> m_expandedMapping;
+
+    /**
+     * Empty serialization constructor. Don't use.
+     */
+    public JSONSelectionMapping() {
+        this(new String[0], new String[0], new int[]{0}, new int[0]);
+    }
+
+    private JSONSelectionMapping(final String[] keys, final String[] targets, final int[] offsets,
+        final int[] indices) {
+        m_keys = keys;
+        m_targets = targets;
+        m_offsets = offsets;
+        m_indices = indices;
+    }
+
+    /**
+     * Creates a compact mapping from a given {@link HiLiteMapper}.
+     *
+     * @param mapper the mapper to create the compact mapping from, not null
+     * @return a new compact mapping instance
+     */
+    public static JSONSelectionMapping fromHiLiteMapper(final HiLiteMapper mapper) {
+        Set<RowKey> keySet = mapper.keySet();
+        Builder builder = new Builder(keySet.size());
+        for (RowKey key : keySet) {
+            Set<RowKey> mappedSet = mapper.getKeys(key);
+            if (mappedSet != null) {
+                builder.startKey(key.getString());
+                for (RowKey mappedKey : mappedSet) {
+                    builder.addTarget(mappedKey.getString());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a compact mapping from an expanded string mapping.
+     *
+     * @param mapping the mapping from source key to list of target keys, may be null
+     * @return a new compact mapping instance, or null if the given mapping was null
+     */
+    public static JSONSelectionMapping fromMap(final Map<String, List<String>> mapping) {
+        if (mapping == null) {
+            return null;
+        }
+        Builder builder = new Builder(mapping.size());
+        for (Entry<String, List<String>> entry : mapping.entrySet()) {
+            if (entry.getValue() != null) {
+                builder.startKey(entry.getKey());
+                entry.getValue().forEach(builder::addTarget);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the source keys, the position of a key is its ordinal
+     */
+    public String[] getKeys() {
+        return m_keys;
+    }
+
+    /**
+     * @param keys the source keys to set
+     */
+    public void setKeys(final String[] keys) {
+        m_keys = keys;
+        clearLookups();
+    }
+
+    /**
+     * @return all distinct target keys, referenced by {@link #getIndices()}
+     */
+    public String[] getTargets() {
+        return m_targets;
+    }
+
+    /**
+     * @param targets the distinct target keys to set
+     */
+    public void setTargets(final String[] targets) {
+        m_targets = targets;
+        clearLookups();
+    }
+
+    /**
+     * @return the row offsets into {@link #getIndices()}, one more entry than there are source keys
+     */
+    public int[] getOffsets() {
+        return m_offsets;
+    }
+
+    /**
+     * @param offsets the row offsets to set
+     */
+    public void setOffsets(final int[] offsets) {
+        m_offsets = offsets;
+        clearLookups();
+    }
+
+    /**
+     * @return the target indices for all source keys, concatenated
+     */
+    public int[] getIndices() {
+        return m_indices;
+    }
+
+    /**
+     * @param indices the target indices to set
+     */
+    public void setIndices(final int[] indices) {
+        m_indices = indices;
+        clearLookups();
+    }
+
+    /**
+     * @return the number of source keys contained in this mapping
+     */
+    @JsonIgnore
+    public int size() {
+        return m_keys.length;
+    }
+
+    /**
+     * Returns the target keys for a single source key.
+     *
+     * @param key the source key
+     * @return the mapped target keys, an empty list if the key is not contained in the mapping
+     */
+    @JsonIgnore
+    public List<String> getTargetsForKey(final String key) {
+        Integer ordinal = getKeyIndex().get(key);
+        if (ordinal == null) {
+            return Collections.emptyList();
+        }
+        return resolve(ordinal, m_offsets, m_indices, m_targets);
+    }
+
+    /**
+     * Expands this mapping into a map of source key to list of target keys. Use sparingly, as this creates the full
+     * object graph this class is supposed to avoid. The map is created on first use and kept until the mapping is
+     * changed.
+     *
+     * @return an unmodifiable map containing the expanded mapping
+     */
+    @JsonIgnore
+    public synchronized Map<String, List<String>> toMap() {
+        if (m_expandedMapping == null) {
+            Map<String, List<String>> map = new LinkedHashMap<String, List<String>>(m_keys.length);
+            for (int i = 0; i < m_keys.length; i++) {
+                map.put(m_keys[i], Collections.unmodifiableList(resolve(i, m_offsets, m_indices, m_targets)));
+            }
+            m_expandedMapping = Collections.unmodifiableMap(map);
+        }
+        return m_expandedMapping;
+    }
+
+    private static List<String> resolve(final int ordinal, final int[] offsets, final int[] indices,
+        final String[] values) {
+        int start = offsets[ordinal];
+        int end = offsets[ordinal + 1];
+        List<String> result = new ArrayList<String>(end - start);
+        for (int i = start; i < end; i++) {
+            result.add(values[indices[i]]);
+        }
+        return result;
+    }
+
+    private synchronized Map<String, Integer> getKeyIndex() {
+        if (m_keyIndex == null) {
+            m_keyIndex = createIndex(m_keys);
+        }
+        return m_keyIndex;
+    }
+
+    private static Map<String, Integer> createIndex(final String[] values) {
+        Map<String, Integer> index = new HashMap<String, Integer>(Math.max(16, (int)(values.length / 0.75f) + 1));
+        for (int i = 0; i < values.length; i++) {
+            index.put(values[i], i);
+        }
+        return index;
+    }
+
+    private synchronized void clearLookups() {
+        m_keyIndex = null;
+        m_expandedMapping = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        // compare the compact arrays directly, target ordinals may differ between otherwise equal mappings
+        JSONSelectionMapping other = (JSONSelectionMapping)obj;
+        if (!Arrays.equals(m_keys, other.m_keys) || !Arrays.equals(m_offsets, other.m_offsets)
+            || m_indices.length != other.m_indices.length) {
+            return false;
+        }
+        for (int i = 0; i < m_indices.length; i++) {
+            if (!m_targets[m_indices[i]].equals(other.m_targets[other.m_indices[i]])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int hash = 31 * Arrays.hashCode(m_keys) + Arrays.hashCode(m_offsets);
+        for (int index : m_indices) {
+            hash = 31 * hash + m_targets[index].hashCode();
+        }
+        return hash;
+    }
+
+    /** Incrementally builds the interned arrays, keys have to be added one after another. */
+    private static final class Builder {
+
+        private final List<String> m_keyList;
+        private final List<String> m_targetList = new ArrayList<String>();
+        private final Map<String, Integer> m_targetOrdinals = new HashMap<String, Integer>();
+        private final List<Integer> m_offsetList;
+        private int[] m_indexArray = new int[16];
+        private int m_numIndices = 0;
+
+        Builder(final int expectedKeys) {
+            m_keyList = new ArrayList<String>(expectedKeys);
+            m_offsetList = new ArrayList<Integer>(expectedKeys + 1);
+            m_offsetList.add(0);
+        }
+
+        void startKey(final String key) {
+            if (m_keyList.size() > 0) {
+                m_offsetList.add(m_numIndices);
+            }
+            m_keyList.add(key);
+        }
+
+        void addTarget(final String target) {
+            Integer ordinal = m_targetOrdinals.get(target);
+            if (ordinal == null) {
+                ordinal = m_targetList.size();
+                m_targetOrdinals.put(target, ordinal);
+                m_targetList.add(target);
+            }
+            if (m_numIndices == m_indexArray.length) {
+                m_indexArray = Arrays.copyOf(m_indexArray, m_indexArray.length * 2);
+            }
+            m_indexArray[m_numIndices++] = ordinal;
+        }
+
+        JSONSelectionMapping build() {
+            if (m_keyList.size() > 0) {
+                m_offsetList.add(m_numIndices);
+            }
+            int[] offsets = m_offsetList.stream().mapToInt(Integer::intValue).toArray();
+            return new JSONSelectionMapping(m_keyList.toArray(new String[0]), m_targetList.toArray(new String[0]),
+                offsets, Arrays.copyOf(m_indexArray, m_numIndices));
+        }
+    }
+}
@@ -49,21 +49,22 @@
 package org.knime.js.core.selections.json;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.knime.core.data.RowKey;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.HiLiteManager;
 import org.knime.core.node.property.hilite.HiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  *
@@ -75,7 +76,8 @@ public class JSONSelectionTranslator {
     private String m_sourceID;
     private List<String> m_targetIDs;
     private boolean m_forward;
-    private Map<String, List<String>> m_mapping;
+    private JSONSelectionMapping m_compactMapping;
+    private boolean m_serializeCompactMapping;
 
     /**
      * Creates a new {@link JSONSelectionTranslator} instance from a given {@link HiLiteManager}.
@@ -100,7 +102,7 @@ public JSONSelectionTranslator() {
 
     /**
      * Creates a new {@link JSONSelectionTranslator} instance from a given {@link HiLiteTranslator}.
-     * Source and target IDs are retrieved and, if present, a mapping is provided.
+     * Source and target IDs are retrieved and, if present, a compact mapping is provided.
      * @param hiliteTranslator the {@link HiLiteTranslator} to create the selection translator from
      */
     public JSONSelectionTranslator(final HiLiteTranslator hiliteTranslator) {
@@ -113,14 +115,7 @@ public JSONSelectionTranslator(final HiLiteTranslator hiliteTranslator) {
             return;
         }
         m_forward = false;
-        m_mapping = new HashMap<String, List<String>>();
-        for (RowKey key : mapper.keySet()) {
-            Set<RowKey> mappedSet = mapper.getKeys(key);
-            if (mappedSet != null) {
-                List<String> values = Arrays.asList(RowKey.toStrings(mappedSet.toArray(new RowKey[0])));
-                m_mapping.put(key.toString(), values);
-            }
-        }
+        m_compactMapping = JSONSelectionMapping.fromHiLiteMapper(mapper);
     }
 
     private void setHiliteHandlers(final HiLiteHandler fromHiLiteHandler, final Set<HiLiteHandler> toHiLiteHandlers) {
@@ -172,18 +167,73 @@ public boolean isForward() {
     }
 
     /**
-     * @return the mapping
+     * Expands the compact mapping into a map of row keys. The expanded mapping is created on first use and cached.
+     * @return the unmodifiable expanded mapping, or null if no mapping is present
      */
+    @JsonIgnore
     public Map<String, List<String>> getMapping() {
-        return m_mapping;
+        return m_compactMapping == null ? null : m_compactMapping.toMap();
+    }
+
+    /**
+     * @return the expanded mapping as serialized in the field <tt>mapping</tt>, null if the compact form is
+     *         serialized instead, see {@link #setSerializeCompactMapping(boolean)}
+     */
+    @JsonProperty("mapping")
+    @JsonInclude(Include.NON_NULL)
+    Map<String, List<String>> getSerializedMapping() {
+        return m_serializeCompactMapping ? null : getMapping();
     }
 
     /**
      * @param mapping of translator
      * @since 3.7
      */
+    @JsonProperty("mapping")
     public void setMapping(final Map<String, List<String>> mapping) {
-        m_mapping = mapping;
+        m_compactMapping = JSONSelectionMapping.fromMap(mapping);
+    }
+
+    /**
+     * @return the integer-interned mapping, or null if no mapping is present
+     * @since 4.2
+     */
+    @JsonIgnore
+    public JSONSelectionMapping getCompactMapping() {
+        return m_compactMapping;
+    }
+
+    /**
+     * @return the mapping as serialized in the field <tt>compactMapping</tt>, null unless the compact form is
+     *         serialized, see {@link #setSerializeCompactMapping(boolean)}
+     */
+    @JsonProperty("compactMapping")
+    @JsonInclude(Include.NON_NULL)
+    JSONSelectionMapping getSerializedCompactMapping() {
+        return m_serializeCompactMapping ? m_compactMapping : null;
+    }
+
+    /**
+     * @param compactMapping the integer-interned mapping to set
+     * @since 4.2
+     */
+    @JsonProperty("compactMapping")
+    public void setCompactMapping(final JSONSelectionMapping compactMapping) {
+        m_compactMapping = compactMapping;
+    }
+
+    /**
+     * Sets the form in which the mapping is serialized. By default it is serialized expanded, in the field
+     * <tt>mapping</tt>, which all page builders understand. The compact form is serialized in the field
+     * <tt>compactMapping</tt> instead and only understood by page builders of version 4.2 or later. Both forms are
+     * accepted when deserializing.
+     *
+     * @param compact true to serialize the compact form, false to serialize the expanded mapping
+     * @since 4.2
+     */
+    @JsonIgnore
+    public void setSerializeCompactMapping(final boolean compact) {
+        m_serializeCompactMapping = compact;
     }
 
     /**
@@ -205,7 +255,7 @@ public boolean equals(final Object obj) {
                 .append(m_sourceID, other.m_sourceID)
                 .append(m_targetIDs, other.m_targetIDs)
                 .append(m_forward, other.m_forward)
-                .append(m_mapping, other.m_mapping)
+                .append(m_compactMapping, other.m_compactMapping)
                 .isEquals();
     }
 
@@ -218,7 +268,7 @@ public int hashCode() {
                 .append(m_sourceID)
                 .append(m_targetIDs)
                 .append(m_forward)
-                .append(m_mapping)
+                .append(m_compactMapping)
                 .toHashCode();
     }
 }